@@ -0,0 +1,134 @@
+package com.cryptoCollector.apiGateWay.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Respuestas GET guardadas en memoria por el gateway, acotadas por bytes y con el TTL de su ruta.
+ * Los datos de crypto-collector-micro solo cambian al sincronizar (cada 6 horas), así que al llegar
+ * el aviso de sincronización completada se descarta todo (ver SyncCompletedListener).
+ * <p>
+ * Métricas: {@code gateway.response.cache.requests{result=hit|miss|not_modified}},
+ * {@code gateway.response.cache.hit.ratio} y {@code gateway.response.cache.bytes.saved} (cuerpos que
+ * no hubo que pedir al servicio más los que no se enviaron al cliente gracias a un 304).
+ */
+@Component
+public class GatewayResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(GatewayResponseCache.class);
+
+    private final Cache<String, CachedResponse> responses;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter notModified;
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    public GatewayResponseCache(@Value("${response-cache.max-size:64MB}") DataSize maxSize,
+            MeterRegistry meterRegistry) {
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, CachedResponse response) -> key.length() + response.body().length)
+                .expireAfter(Expiry.creating((String key, CachedResponse response) -> response.ttl()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "gateway-responses");
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.notModified = requests(meterRegistry, "not_modified");
+        FunctionCounter.builder("gateway.response.cache.bytes.saved", bytesSaved, AtomicLong::get)
+                .baseUnit("bytes")
+                .description("Bytes que no hubo que pedir al servicio o enviar al cliente")
+                .register(meterRegistry);
+        Gauge.builder("gateway.response.cache.hit.ratio", this, GatewayResponseCache::hitRatio)
+                .description("Peticiones servidas desde la caché (incluidos los 304) sobre el total")
+                .register(meterRegistry);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.response.cache.requests")
+                .tag("result", result)
+                .description("Peticiones GET cacheables según su resultado en la caché")
+                .register(meterRegistry);
+    }
+
+    public CachedResponse get(String key) {
+        return responses.getIfPresent(key);
+    }
+
+    public void put(String key, CachedResponse response) {
+        responses.put(key, response);
+    }
+
+    /**
+     * Registra una petición resuelta por la caché. {@code bodyBytes} es lo que se ahorra: el cuerpo
+     * completo si no hubo que ir al servicio, o el no enviado si se respondió 304.
+     */
+    public void recordHit(long bodyBytes, boolean notModifiedResponse) {
+        (notModifiedResponse ? notModified : hits).increment();
+        bytesSaved.addAndGet(bodyBytes);
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    // Un 304 tras ir al servicio ahorra igualmente el envío del cuerpo al cliente
+    public void recordBytesSaved(long bodyBytes) {
+        bytesSaved.addAndGet(bodyBytes);
+    }
+
+    public void invalidateAll() {
+        long size = responses.estimatedSize();
+        responses.invalidateAll();
+        logger.info("♻️  Caché de respuestas del gateway invalidada ({} entradas)", size);
+    }
+
+    public long size() {
+        responses.cleanUp();
+        return responses.estimatedSize();
+    }
+
+    double hitRatio() {
+        double served = hits.count() + notModified.count();
+        double total = served + misses.count();
+        return total == 0 ? 0 : served / total;
+    }
+
+    /**
+     * ETag fuerte a partir del contenido: dos instancias del gateway generan el mismo para la
+     * misma respuesta, y un cliente puede revalidar contra cualquiera.
+     */
+    public static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 27) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    public record CachedResponse(String contentType, byte[] body, String etag, Duration ttl) {
+
+        @Override
+        public String toString() {
+            return "CachedResponse[" + contentType + ", " + body.length + " bytes, " + etag + "]";
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.cryptoCollector.apiGateWay.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * Vacía la caché de respuestas cuando crypto-collector-micro publica el fin de una sincronización.
+ * Sin Redis el gateway arranca igual y reintenta la suscripción; mientras tanto las respuestas
+ * caducan por su TTL.
+ */
+@Component
+public class SyncCompletedListener implements SmartLifecycle {
+
+    // Mismo canal que SyncEventPublisher en crypto-collector-micro
+    public static final String SYNC_COMPLETED_CHANNEL = "crypto:sync-completed";
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncCompletedListener.class);
+
+    private final ReactiveRedisConnectionFactory connectionFactory;
+    private final GatewayResponseCache cache;
+    private volatile Disposable subscription;
+
+    public SyncCompletedListener(ReactiveRedisConnectionFactory connectionFactory, GatewayResponseCache cache) {
+        this.connectionFactory = connectionFactory;
+        this.cache = cache;
+    }
+
+    @Override
+    public void start() {
+        // Cada intento usa un contenedor nuevo y lo libera al fallar o al parar
+        subscription = Flux.usingWhen(
+                        Mono.fromSupplier(() -> new ReactiveRedisMessageListenerContainer(connectionFactory)),
+                        container -> container.receive(ChannelTopic.of(SYNC_COMPLETED_CHANNEL)),
+                        ReactiveRedisMessageListenerContainer::destroyLater)
+                .doOnError(e -> logger.warn("⚠️  Suscripción a {} pendiente: {}", SYNC_COMPLETED_CHANNEL, e.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(message -> {
+                    logger.info("🔔 Sincronización completada ({}), invalidando caché de respuestas", message.getMessage());
+                    cache.invalidateAll();
+                });
+    }
+
+    @Override
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return subscription != null && !subscription.isDisposed();
+    }
+}
@@ -0,0 +1,31 @@
+package com.cryptoCollector.apiGateWay.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JwtConfig {
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    // Firma de X-Internal-Identity; vacío = se deriva de jwt.secret
+    @Value("${internal.identity.secret:}")
+    private String identitySecret;
+
+    // Tokens verificados que se recuerdan (hasta su exp)
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public String getIdentitySecret() {
+        return identitySecret;
+    }
+
+    public long getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+}
@@ -0,0 +1,54 @@
+package com.cryptoCollector.apiGateWay.config;
+
+import com.cryptoCollector.apiGateWay.ratelimit.RedisTokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+@Configuration
+public class RateLimitConfig {
+
+    /**
+     * Sustituye al RedisRateLimiter del gateway como limitador por defecto de RequestRateLimiter.
+     * La cuota por defecto aplica a las rutas que no declaran la suya.
+     */
+    @Bean
+    @Primary
+    public RedisTokenBucketRateLimiter tokenBucketRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+            ConfigurationService configurationService,
+            @Value("${rate-limit.default.replenish-rate:10}") int replenishRate,
+            @Value("${rate-limit.default.burst-capacity:20}") int burstCapacity,
+            @Value("${rate-limit.redis-timeout:100ms}") Duration redisTimeout) {
+        return new RedisTokenBucketRateLimiter(redisTemplate, configurationService,
+                new RedisTokenBucketRateLimiter.Config()
+                        .setReplenishRate(replenishRate)
+                        .setBurstCapacity(burstCapacity),
+                redisTimeout);
+    }
+
+    /**
+     * Usuario autenticado (X-User-Id, que solo puede poner JwtAuthenticationFilter) o, en las rutas
+     * públicas, la IP del cliente.
+     */
+    @Bean
+    public KeyResolver userOrIpKeyResolver() {
+        return exchange -> {
+            String userId = exchange.getRequest().getHeaders().getFirst("X-User-Id");
+            if (userId != null) {
+                return Mono.just("user:" + userId);
+            }
+            InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+            return Mono.just("ip:" + (remoteAddress != null && remoteAddress.getAddress() != null
+                    ? remoteAddress.getAddress().getHostAddress()
+                    : "unknown"));
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package com.cryptoCollector.apiGateWay.filter;
+
+import com.cryptoCollector.apiGateWay.util.InternalIdentity;
+import com.cryptoCollector.apiGateWay.util.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Verifica el JWT una vez en el borde y reenvía la identidad firmada (X-Internal-Identity) para que
+ * los servicios no repitan la verificación. Las cabeceras de identidad que envíe el cliente se
+ * descartan siempre, también en las rutas públicas.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+
+    private static final List<String> IDENTITY_HEADERS = List.of(InternalIdentity.HEADER, "X-User-Id",
+            "X-User-Email", "X-User-Roles");
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String path = exchange.getRequest().getURI().getPath();
+
+        if (isPublicPath(path)) {
+            return chain.filter(withoutIdentityHeaders(exchange));
+        }
+
+        // Obtener token
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+            return exchange.getResponse().setComplete();
+        }
+
+        return jwtUtil.verify(authHeader.substring(7))
+                .map(identity -> chain.filter(exchange.mutate()
+                        .request(r -> r.headers(h -> {
+                            IDENTITY_HEADERS.forEach(h::remove);
+                            h.set(InternalIdentity.HEADER, identity.identityHeader());
+                            h.set("X-User-Id", identity.subject());
+                            if (identity.email() != null) {
+                                h.set("X-User-Email", identity.email());
+                            }
+                            if (identity.roles() != null) {
+                                h.set("X-User-Roles", identity.roles());
+                            }
+                        }))
+                        .build()))
+                .orElseGet(() -> {
+                    exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                    return exchange.getResponse().setComplete();
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return -1;
+    }
+
+    private static ServerWebExchange withoutIdentityHeaders(ServerWebExchange exchange) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        if (IDENTITY_HEADERS.stream().noneMatch(headers::containsKey)) {
+            return exchange;
+        }
+        return exchange.mutate()
+                .request(r -> r.headers(h -> IDENTITY_HEADERS.forEach(h::remove)))
+                .build();
+    }
+
+    private boolean isPublicPath(String path) {
+        return path.startsWith("/api/auth/register") ||
+                path.startsWith("/api/auth/login") ||
+                path.startsWith("/api/public") ||
+                path.startsWith("/swagger-ui") ||
+                path.startsWith("/auth/swagger-ui") ||
+                path.startsWith("/crypto/swagger-ui") ||
+                path.startsWith("/v3/api-docs") ||
+                path.startsWith("/auth/v3/api-docs") ||
+                path.startsWith("/crypto/v3/api-docs") ||
+                path.equals("/actuator/health");
+    }
+}
@@ -0,0 +1,111 @@
+package com.cryptoCollector.apiGateWay.filter;
+
+import com.cryptoCollector.apiGateWay.cache.GatewayResponseCache;
+import com.cryptoCollector.apiGateWay.cache.GatewayResponseCache.CachedResponse;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Caché de respuestas para rutas GET idempotentes. Uso en una ruta:
+ * <pre>
+ * filters:
+ *   - name: ResponseCache
+ *     args:
+ *       ttl: 10m
+ * </pre>
+ * Solo se guardan los 200 que no sean streaming. Cada respuesta lleva un ETag del contenido y un
+ * {@code If-None-Match} que coincide se responde con 304 sin cuerpo, tanto si la respuesta venía de
+ * la caché como del servicio. La búsqueda ocupa la posición del filtro en la ruta, así que corre
+ * después de JwtAuthenticationFilter y de RequestRateLimiter (si va detrás en la lista); un fallo
+ * marca el exchange y ResponseCacheWriteFilter guarda la respuesta. Las respuestas de
+ * crypto-collector-micro no dependen del usuario, por lo que la clave es la URL.
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    // Entrada que ResponseCacheWriteFilter debe guardar cuando llegue la respuesta del servicio
+    static final String CACHE_TARGET_ATTR = ResponseCacheGatewayFilterFactory.class.getName() + ".target";
+
+    private final GatewayResponseCache cache;
+
+    public ResponseCacheGatewayFilterFactory(GatewayResponseCache cache) {
+        super(Config.class);
+        this.cache = cache;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // Sin orden propio: se ejecuta en su posición de la ruta, tras los filtros globales de seguridad
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+            String key = request.getURI().getRawPath()
+                    + (request.getURI().getRawQuery() != null ? "?" + request.getURI().getRawQuery() : "");
+
+            CachedResponse cached = cache.get(key);
+            if (cached != null) {
+                return writeCached(exchange, cached);
+            }
+            cache.recordMiss();
+            exchange.getAttributes().put(CACHE_TARGET_ATTR, new CacheTarget(key, config.getTtl()));
+            return chain.filter(exchange);
+        };
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setETag(cached.etag());
+        if (matches(exchange.getRequest(), cached.etag())) {
+            cache.recordHit(cached.body().length, true);
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        cache.recordHit(cached.body().length, false);
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.contentType() != null) {
+            response.getHeaders().set(HttpHeaders.CONTENT_TYPE, cached.contentType());
+        }
+        response.getHeaders().setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    static boolean matches(ServerHttpRequest request, String etag) {
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+        return ifNoneMatch.contains(etag) || ifNoneMatch.contains("*");
+    }
+
+    record CacheTarget(String key, Duration ttl) {
+    }
+
+    public static class Config {
+
+        private Duration ttl = Duration.ofMinutes(5);
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.cryptoCollector.apiGateWay.filter;
+
+import com.cryptoCollector.apiGateWay.cache.GatewayResponseCache;
+import com.cryptoCollector.apiGateWay.cache.GatewayResponseCache.CachedResponse;
+import com.cryptoCollector.apiGateWay.filter.ResponseCacheGatewayFilterFactory.CacheTarget;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Mitad de escritura del filtro ResponseCache. Debe decorar la respuesta antes de que
+ * NettyWriteResponseFilter capture el exchange, es decir, antes de la autenticación; por eso no
+ * consulta la caché: solo guarda la respuesta cuando ResponseCacheGatewayFilterFactory, ya dentro de
+ * la ruta, ha registrado un fallo en el exchange.
+ */
+@Component
+public class ResponseCacheWriteFilter implements GlobalFilter, Ordered {
+
+    // Respuestas que no se deben acumular en memoria
+    private static final List<MediaType> STREAMING_TYPES = List.of(MediaType.APPLICATION_NDJSON,
+            MediaType.TEXT_EVENT_STREAM);
+
+    private final GatewayResponseCache cache;
+
+    public ResponseCacheWriteFilter(GatewayResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange.mutate().response(new CachingResponse(exchange)).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    /**
+     * Reúne el cuerpo que devuelve el servicio, lo guarda con su ETag y lo reenvía (o responde 304).
+     */
+    private final class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+
+        CachingResponse(ServerWebExchange exchange) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            CacheTarget target = exchange.getAttribute(ResponseCacheGatewayFilterFactory.CACHE_TARGET_ATTR);
+            if (target == null || getStatusCode() != HttpStatus.OK || isStreaming()) {
+                return super.writeWith(body);
+            }
+            return DataBufferUtils.join(body).flatMap(joined -> {
+                byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+
+                String etag = GatewayResponseCache.etag(bytes);
+                MediaType contentType = getHeaders().getContentType();
+                cache.put(target.key(), new CachedResponse(contentType != null ? contentType.toString() : null,
+                        bytes, etag, target.ttl()));
+                getHeaders().setETag(etag);
+                if (ResponseCacheGatewayFilterFactory.matches(exchange.getRequest(), etag)) {
+                    cache.recordBytesSaved(bytes.length);
+                    setStatusCode(HttpStatus.NOT_MODIFIED);
+                    getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                    getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+                    return getDelegate().setComplete();
+                }
+                getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+                getHeaders().setContentLength(bytes.length);
+                return getDelegate().writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            if (exchange.getAttribute(ResponseCacheGatewayFilterFactory.CACHE_TARGET_ATTR) == null
+                    || getStatusCode() != HttpStatus.OK || isStreaming()) {
+                return super.writeAndFlushWith(body);
+            }
+            return writeWith(Flux.from(body).flatMapSequential(part -> part));
+        }
+
+        private boolean isStreaming() {
+            MediaType contentType = getHeaders().getContentType();
+            return contentType != null && STREAMING_TYPES.stream().anyMatch(contentType::isCompatibleWith);
+        }
+    }
+}
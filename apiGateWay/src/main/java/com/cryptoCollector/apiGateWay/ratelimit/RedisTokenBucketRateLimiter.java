@@ -0,0 +1,129 @@
+package com.cryptoCollector.apiGateWay.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Token bucket distribuido: cada clave (ruta + usuario o IP) es un hash en Redis que un script Lua
+ * consulta y actualiza atómicamente en una sola ida y vuelta. A diferencia del RedisRateLimiter de
+ * Spring Cloud Gateway, el cubo se rellena con precisión de milisegundos y el script devuelve cuánto
+ * falta para el siguiente token, que se publica como {@code Retry-After} en los 429.
+ * <p>
+ * Las cuotas se definen por ruta con {@code token-bucket-rate-limiter.replenish-rate} y
+ * {@code token-bucket-rate-limiter.burst-capacity} en los args del filtro RequestRateLimiter.
+ * Si Redis no responde se deja pasar la petición: el rate limiting no debe tumbar el gateway.
+ */
+public class RedisTokenBucketRateLimiter extends AbstractRateLimiter<RedisTokenBucketRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "token-bucket-rate-limiter";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisTokenBucketRateLimiter.class);
+
+    // Texto y SHA1 se calculan una vez: con un Resource se comprobaría si ha cambiado en cada llamada
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static final RedisScript<List<Long>> SCRIPT = (RedisScript) RedisScript.of(
+            loadScript("scripts/token_bucket.lua"), List.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final Config defaultConfig;
+    private final Duration timeout;
+
+    public RedisTokenBucketRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+            ConfigurationService configurationService, Config defaultConfig, Duration timeout) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.redisTemplate = redisTemplate;
+        this.defaultConfig = defaultConfig;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().getOrDefault(routeId, defaultConfig);
+        List<String> keys = List.of("rate_limit:{" + routeId + ":" + id + "}");
+
+        return redisTemplate.execute(SCRIPT, keys, List.of(String.valueOf(config.getReplenishRate()),
+                        String.valueOf(config.getBurstCapacity()), String.valueOf(config.getRequestedTokens())))
+                .next()
+                .timeout(timeout)
+                .map(result -> response(config, result))
+                .onErrorResume(e -> {
+                    logger.warn("⚠️ Rate limiter sin Redis, se permite la petición: {}", e.getMessage());
+                    return Mono.just(new Response(true, Map.of()));
+                });
+    }
+
+    private static String loadScript(String path) {
+        try {
+            return new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer " + path, e);
+        }
+    }
+
+    private static Response response(Config config, List<Long> result) {
+        boolean allowed = result.get(0) == 1L;
+        Map<String, String> headers = new LinkedHashMap<>(4);
+        headers.put(REMAINING_HEADER, String.valueOf(result.get(1)));
+        headers.put(REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()));
+        headers.put(BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()));
+        if (!allowed) {
+            // Retry-After va en segundos enteros: se redondea hacia arriba
+            headers.put(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (result.get(2) + 999) / 1000)));
+        }
+        return new Response(allowed, headers);
+    }
+
+    public static class Config {
+
+        // Tokens por segundo
+        private int replenishRate = 10;
+        // Peticiones que se admiten de golpe
+        private int burstCapacity = 20;
+        private int requestedTokens = 1;
+
+        public int getReplenishRate() {
+            return replenishRate;
+        }
+
+        public Config setReplenishRate(int replenishRate) {
+            this.replenishRate = replenishRate;
+            return this;
+        }
+
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public Config setBurstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+
+        public int getRequestedTokens() {
+            return requestedTokens;
+        }
+
+        public Config setRequestedTokens(int requestedTokens) {
+            this.requestedTokens = requestedTokens;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.cryptoCollector.apiGateWay.util;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Identidad que el gateway reenvía a los servicios tras verificar el JWT una sola vez:
+ * {@code base64url(subject).exp.base64url(HMAC-SHA256(base64url(subject).exp))}. Los servicios la
+ * validan con un HMAC sobre unos pocos bytes en lugar de volver a parsear y verificar el JWT.
+ * El mismo formato lo valida crypto-collector-micro (util/InternalIdentity).
+ */
+public final class InternalIdentity {
+
+    public static final String HEADER = "X-Internal-Identity";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final Mac prototype;
+
+    public InternalIdentity(String identitySecret, String jwtSecret) {
+        try {
+            this.prototype = Mac.getInstance("HmacSHA256");
+            this.prototype.init(new SecretKeySpec(keyBytes(identitySecret, jwtSecret), "HmacSHA256"));
+        } catch (Exception e) {
+            throw new IllegalStateException("No se pudo construir la clave de X-Internal-Identity", e);
+        }
+    }
+
+    public String sign(String subject, long expiresAtEpochSecond) {
+        String payload = ENCODER.encodeToString(subject.getBytes(StandardCharsets.UTF_8)) + "." + expiresAtEpochSecond;
+        return payload + "." + ENCODER.encodeToString(mac().doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // Mac no es thread-safe; clonar el prototipo evita buscar el proveedor en cada firma
+    private Mac mac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Sin secreto propio se separa del de los JWT: una firma de identidad nunca vale como firma de JWT
+    static byte[] keyBytes(String identitySecret, String jwtSecret) throws NoSuchAlgorithmException {
+        String secret = identitySecret != null && !identitySecret.isBlank()
+                ? identitySecret
+                : "internal-identity|" + jwtSecret;
+        return MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,120 @@
+package com.cryptoCollector.apiGateWay.util;
+
+import com.cryptoCollector.apiGateWay.config.JwtConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Verifica los JWT una sola vez por token: el parser (inmutable) se construye al arrancar y las
+ * identidades verificadas se guardan por hash del token, acotadas en tamaño y como máximo hasta
+ * su {@code exp}. Cada entrada lleva ya firmada la cabecera X-Internal-Identity.
+ */
+@Component
+public class JwtUtil {
+
+    // Sin exp el token no caduca; se vuelve a verificar cada cierto tiempo igualmente
+    private static final Duration MAX_TTL = Duration.ofMinutes(5);
+
+    private final JwtParser parser;
+    private final InternalIdentity internalIdentity;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtUtil(JwtConfig jwtConfig, MeterRegistry meterRegistry) {
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey(jwtConfig.getSecret()))
+                .build();
+        this.internalIdentity = new InternalIdentity(jwtConfig.getIdentitySecret(), jwtConfig.getSecret());
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtConfig.getCacheMaxSize())
+                .expireAfter(Expiry.creating((String hash, VerifiedToken token) -> token.ttl()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "gateway-jwt");
+    }
+
+    // Misma derivación que auth-microServices: secretos de menos de 32 bytes pasan por SHA-256
+    private static SecretKey signingKey(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("JWT secret is not configured");
+        }
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        try {
+            if (secretBytes.length < 32) {
+                secretBytes = MessageDigest.getInstance("SHA-256").digest(secretBytes);
+            }
+            return Keys.hmacShaKeyFor(secretBytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to construct HMAC signing key", e);
+        }
+    }
+
+    /**
+     * Identidad del token si la firma y el exp son válidos; vacío en caso contrario.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        String hash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getSubject() == null) {
+                return Optional.empty();
+            }
+            Instant expiresAt = claims.getExpiration() != null
+                    ? claims.getExpiration().toInstant()
+                    : Instant.now().plus(MAX_TTL);
+            VerifiedToken verified = new VerifiedToken(claims.getSubject(),
+                    claims.get("email", String.class),
+                    claims.get("roles") != null ? String.valueOf(claims.get("roles")) : null,
+                    expiresAt,
+                    internalIdentity.sign(claims.getSubject(), expiresAt.getEpochSecond()));
+            verifiedTokens.put(hash, verified);
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    // La caché no retiene los tokens en claro
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    public record VerifiedToken(String subject, String email, String roles, Instant expiresAt,
+            String identityHeader) {
+
+        Duration ttl() {
+            Duration remaining = Duration.between(Instant.now(), expiresAt);
+            return remaining.compareTo(MAX_TTL) < 0 ? remaining : MAX_TTL;
+        }
+    }
+}
@@ -1,15 +0,0 @@
-package com.cryptoCollector.apiGateway.resources.config;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Configuration;
-
-@Configuration
-public class JwtConfig {
-
-    @Value("${jwt.secret}")
-    private String secret;
-
-    public String getSecret() {
-        return secret;
-    }
-}
@@ -0,0 +1,32 @@
+-- Token bucket por clave: un hash {tokens, ts} que se rellena a 'rate' tokens/s hasta 'capacity'.
+-- Usa el reloj de Redis (TIME) para que todas las instancias del gateway compartan la misma hora.
+-- Devuelve {permitido (1/0), tokens restantes, ms hasta poder atender la petición}.
+redis.replicate_commands()
+
+local key = KEYS[1]
+local rate = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+local tokens = tonumber(bucket[1]) or capacity
+local last = tonumber(bucket[2]) or now
+
+local filled = math.min(capacity, tokens + math.max(0, now - last) * rate / 1000)
+local allowed = filled >= requested
+if allowed then
+  filled = filled - requested
+end
+
+redis.call('HSET', key, 'tokens', filled, 'ts', now)
+-- Un cubo sin actividad vuelve a estar lleno tras capacity/rate segundos: no hace falta conservarlo más
+redis.call('PEXPIRE', key, math.ceil(capacity / rate * 1000) + 1000)
+
+local retry_after = 0
+if not allowed then
+  retry_after = math.ceil((requested - filled) * 1000 / rate)
+end
+return { allowed and 1 or 0, math.floor(filled), retry_after }
@@ -3,7 +3,7 @@ package com.cryptoCollector.apiGateWay;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "jwt.secret=gatewayContextTestSecret")
 class ApiGateWayApplicationTests {
 
 	@Test
@@ -0,0 +1,194 @@
+package com.cryptoCollector.apiGateWay.benchmark;
+
+import com.cryptoCollector.apiGateWay.filter.JwtAuthenticationFilter;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latencia añadida por el gateway (filtro JWT + proxy) frente a llamar directamente a un backend
+ * mínimo, con 64 clientes concurrentes. "token repetido" es el caso normal (un cliente reutiliza su
+ * token: la verificación sale de la caché); "token único" obliga a verificar la firma y firmar la
+ * identidad interna en cada petición. Como el proxy domina esa latencia, se mide también el filtro
+ * aislado frente al anterior (clave y parser nuevos en cada petición y el token parseado dos veces).
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=GatewayJwtLoadTest
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.secret=" + GatewayJwtLoadTest.SECRET,
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.discovery.enabled=false",
+        "eureka.client.enabled=false" })
+@DisplayName("Prueba de carga - Sobrecoste del filtro JWT del gateway")
+class GatewayJwtLoadTest {
+
+    static final String SECRET = "change_this_to_a_real_secret";
+
+    private static final int CONCURRENCY = 64;
+    private static final int REQUESTS = 20_000;
+
+    private static final DisposableServer backend = HttpServer.create()
+            .port(0)
+            .route(routes -> routes.get("/api/crypto/list", (request, response) -> response.sendString(Mono.just("[]"))))
+            .bindNow();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtAuthenticationFilter filter;
+
+    @DynamicPropertySource
+    static void backendRoute(DynamicPropertyRegistry registry) {
+        // Las listas se enlazan desde una única fuente: la ruta completa se declara aquí
+        registry.add("spring.cloud.gateway.server.webflux.routes[0].id", () -> "stub");
+        registry.add("spring.cloud.gateway.server.webflux.routes[0].predicates[0]", () -> "Path=/api/crypto/**");
+        registry.add("spring.cloud.gateway.server.webflux.routes[0].uri", () -> "http://localhost:" + backend.port());
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        backend.disposeNow();
+    }
+
+    @Test
+    void gatewayOverhead() throws Exception {
+        WebClient direct = WebClient.create("http://localhost:" + backend.port());
+        WebClient gateway = WebClient.create("http://localhost:" + port);
+        String sharedToken = token("user@example.com");
+        String[] uniqueTokens = new String[REQUESTS * 5];
+        for (int i = 0; i < uniqueTokens.length; i++) {
+            uniqueTokens[i] = token("user" + i + "@example.com");
+        }
+
+        assertThat(gateway.get().uri("/api/crypto/list").retrieve().toBodilessEntity()
+                .map(entity -> entity.getStatusCode().value())
+                .onErrorReturn(401).block()).isEqualTo(401);
+
+        System.out.printf("%n%-16s %10s %10s %10s%n", "ruta", "req/s", "p50 us", "p99 us");
+        long[] baseline = run("directo", direct, i -> null);
+        long[] cached = run("token repetido", gateway, i -> sharedToken);
+        long[] unique = run("token único", gateway, i -> uniqueTokens[i]);
+        System.out.printf("Sobrecoste p99 del gateway: %d us (token repetido), %d us (token único)%n",
+                (cached[1] - baseline[1]) / 1_000, (unique[1] - baseline[1]) / 1_000);
+
+        System.out.printf("%n%-16s %10s %10s%n", "solo filtro", "p50 us", "p99 us");
+        GatewayFilterChain chain = exchange -> Mono.empty();
+        filterOnly("anterior", i -> legacyFilter(exchange(sharedToken), chain).block());
+        filterOnly("token repetido", i -> filter.filter(exchange(sharedToken), chain).block());
+        filterOnly("token único", i -> filter.filter(exchange(uniqueTokens[2 * REQUESTS + i]), chain).block());
+    }
+
+    // Una ronda de calentamiento y otra medida; devuelve {p50, p99} en nanosegundos
+    private static long[] run(String name, WebClient client, IntFunction<String> tokens) {
+        measure(client, tokens, 0);
+        long start = System.nanoTime();
+        long[] latencies = measure(client, tokens, REQUESTS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Arrays.sort(latencies);
+        long p50 = latencies[latencies.length / 2];
+        long p99 = latencies[(int) (latencies.length * 0.99)];
+        System.out.printf("%-16s %10.0f %10d %10d%n", name, REQUESTS / seconds, p50 / 1_000, p99 / 1_000);
+        return new long[] { p50, p99 };
+    }
+
+    private static long[] measure(WebClient client, IntFunction<String> tokens, int offset) {
+        long[] latencies = new long[REQUESTS];
+        Flux.range(0, REQUESTS)
+                .flatMap(i -> {
+                    String token = tokens.apply(offset + i);
+                    long start = System.nanoTime();
+                    return client.get().uri("/api/crypto/list")
+                            .headers(headers -> {
+                                if (token != null) {
+                                    headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+                                }
+                            })
+                            .retrieve()
+                            .bodyToMono(String.class)
+                            .doOnNext(body -> latencies[i] = System.nanoTime() - start);
+                }, CONCURRENCY)
+                .blockLast();
+        return latencies;
+    }
+
+    // Tres rondas secuenciales; se informa de la última
+    private static void filterOnly(String name, IntConsumer request) {
+        long[] latencies = new long[REQUESTS];
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < REQUESTS; i++) {
+                long start = System.nanoTime();
+                request.accept(round * REQUESTS + i);
+                latencies[i] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(latencies);
+        System.out.printf("%-16s %10.1f %10.1f%n", name, latencies[REQUESTS / 2] / 1e3,
+                latencies[(int) (REQUESTS * 0.99)] / 1e3);
+    }
+
+    private static MockServerWebExchange exchange(String token) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/crypto/list")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+
+    // Réplica del filtro anterior: JwtUtil nuevo por petición, validateToken + extractAllClaims
+    private static Mono<Void> legacyFilter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String token = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION).substring(7);
+        try {
+            byte[] secretBytes = SECRET.getBytes(StandardCharsets.UTF_8);
+            SecretKey key = Keys.hmacShaKeyFor(secretBytes.length < 32
+                    ? MessageDigest.getInstance("SHA-256").digest(secretBytes)
+                    : secretBytes);
+            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+            Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+            return chain.filter(exchange.mutate()
+                    .request(r -> r.headers(h -> {
+                        h.add("X-User-Id", claims.getSubject());
+                        h.add("X-User-Email", String.valueOf(claims.get("email")));
+                        h.add("X-User-Roles", String.valueOf(claims.get("roles")));
+                    }))
+                    .build());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String token(String subject) throws Exception {
+        byte[] key = MessageDigest.getInstance("SHA-256").digest(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.builder()
+                .subject(subject)
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(Keys.hmacShaKeyFor(key))
+                .compact();
+    }
+}
@@ -0,0 +1,163 @@
+package com.cryptoCollector.apiGateWay.cache;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Filtro ResponseCache en una ruta real del gateway (proxy Netty hacia un backend mínimo) y su
+ * invalidación con el mensaje que publica crypto-collector-micro al terminar una sincronización.
+ */
+@SpringBootTest(properties = {
+        "jwt.secret=" + ResponseCacheRouteTest.SECRET,
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.discovery.enabled=false",
+        "eureka.client.enabled=false" })
+@AutoConfigureWebTestClient
+@DisplayName("ResponseCache por ruta - Tests de Integración")
+class ResponseCacheRouteTest {
+
+    static final String SECRET = "change_this_to_a_real_secret";
+    private static final String BODY = "{\"totalCryptos\":100}";
+
+    private static final int REDIS_PORT = freePort();
+    private static final RedisServer redisServer = startRedis();
+    private static final AtomicInteger backendCalls = new AtomicInteger();
+    private static final DisposableServer backend = HttpServer.create()
+            .port(0)
+            .route(routes -> routes.get("/api/crypto/stats", (request, response) -> {
+                backendCalls.incrementAndGet();
+                return response.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .sendString(Mono.just(BODY));
+            }))
+            .bindNow();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveStringRedisTemplate redisTemplate;
+
+    @DynamicPropertySource
+    static void routes(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.port", () -> REDIS_PORT);
+        String route = "spring.cloud.gateway.server.webflux.routes[0].";
+        registry.add(route + "id", () -> "crypto-stats");
+        registry.add(route + "uri", () -> "http://localhost:" + backend.port());
+        registry.add(route + "predicates[0]", () -> "Path=/api/crypto/**");
+        registry.add(route + "filters[0]", () -> "ResponseCache=1m");
+    }
+
+    @AfterAll
+    static void stop() throws IOException {
+        backend.disposeNow();
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("Debe servir desde caché, revalidar con 304 e invalidar al terminar una sincronización")
+    void testCachesAndInvalidatesOnSync() throws Exception {
+        String token = token();
+        String etag = webTestClient.get().uri("/api/crypto/stats").headers(h -> h.setBearerAuth(token))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo(BODY)
+                .returnResult().getResponseHeaders().getETag();
+        webTestClient.get().uri("/api/crypto/stats").headers(h -> h.setBearerAuth(token))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+                .expectBody(String.class).isEqualTo(BODY);
+        webTestClient.get().uri("/api/crypto/stats").headers(h -> h.setBearerAuth(token))
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+        assertThat(backendCalls).hasValue(1);
+
+        // El mensaje puede llegar antes de que la suscripción esté activa: se reintenta
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            redisTemplate.convertAndSend("crypto:sync-completed", System.currentTimeMillis() + "|100|3").block();
+            webTestClient.get().uri("/api/crypto/stats").headers(h -> h.setBearerAuth(token))
+                    .exchange()
+                    .expectStatus().isOk();
+            assertThat(backendCalls.get()).isGreaterThan(1);
+        });
+    }
+
+    @Test
+    @DisplayName("Debe exigir el JWT aunque la URL ya esté en caché")
+    void testCachedUrlStillRequiresAuthentication() throws Exception {
+        String token = token();
+        webTestClient.get().uri("/api/crypto/stats?auth=1").headers(h -> h.setBearerAuth(token))
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri("/api/crypto/stats?auth=1").headers(h -> h.setBearerAuth(token))
+                .exchange()
+                .expectStatus().isOk();
+        int calls = backendCalls.get();
+
+        webTestClient.get().uri("/api/crypto/stats?auth=1")
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectHeader().doesNotExist(HttpHeaders.ETAG)
+                .expectBody().isEmpty();
+        webTestClient.get().uri("/api/crypto/stats?auth=1").headers(h -> h.setBearerAuth("no-es-un-jwt"))
+                .exchange()
+                .expectStatus().isUnauthorized();
+        assertThat(backendCalls).hasValue(calls);
+    }
+
+    private static String token() throws Exception {
+        byte[] key = MessageDigest.getInstance("SHA-256").digest(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.builder()
+                .subject("user@example.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(key))
+                .compact();
+    }
+
+    private static RedisServer startRedis() {
+        try {
+            RedisServer server = new RedisServer(REDIS_PORT);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
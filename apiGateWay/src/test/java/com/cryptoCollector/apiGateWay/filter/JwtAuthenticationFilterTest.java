@@ -0,0 +1,124 @@
+package com.cryptoCollector.apiGateWay.filter;
+
+import com.cryptoCollector.apiGateWay.config.JwtConfig;
+import com.cryptoCollector.apiGateWay.util.InternalIdentity;
+import com.cryptoCollector.apiGateWay.util.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtAuthenticationFilter - Tests Unitarios")
+class JwtAuthenticationFilterTest {
+
+    // Menor de 32 bytes: se deriva la clave con SHA-256, como en auth-microServices
+    private static final String SECRET = "change_this_to_a_real_secret";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtAuthenticationFilter filter;
+    private AtomicReference<ServerHttpRequest> forwarded;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        ReflectionTestUtils.setField(jwtConfig, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtConfig, "identitySecret", "");
+        ReflectionTestUtils.setField(jwtConfig, "cacheMaxSize", 100L);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new JwtAuthenticationFilter(new JwtUtil(jwtConfig, meterRegistry));
+        forwarded = new AtomicReference<>();
+        chain = exchange -> {
+            forwarded.set(exchange.getRequest());
+            return Mono.empty();
+        };
+    }
+
+    @Test
+    @DisplayName("Debe verificar el token una vez y reenviar la identidad firmada")
+    void testForwardsSignedIdentity() throws Exception {
+        String token = token(SECRET, "user@example.com", Duration.ofMinutes(10));
+
+        filter.filter(exchange("/api/crypto/list", token), chain).block();
+        String identity = forwarded.get().getHeaders().getFirst(InternalIdentity.HEADER);
+        filter.filter(exchange("/api/crypto/list", token), chain).block();
+
+        assertThat(forwarded.get().getHeaders().getFirst("X-User-Id")).isEqualTo("user@example.com");
+        assertThat(identity).startsWith(
+                Base64.getUrlEncoder().withoutPadding()
+                        .encodeToString("user@example.com".getBytes(StandardCharsets.UTF_8)) + ".");
+        assertThat(forwarded.get().getHeaders().getFirst(InternalIdentity.HEADER)).isEqualTo(identity);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "gateway-jwt").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 401 sin token, con token falsificado o expirado")
+    void testRejectsInvalidTokens() throws Exception {
+        for (String token : new String[] { null,
+                token("otro_secret_que_no_coincide_con_el_del_gateway", "attacker", Duration.ofMinutes(10)),
+                token(SECRET, "user@example.com", Duration.ofMinutes(-1)),
+                "no-es-un-jwt" }) {
+            MockServerWebExchange exchange = exchange("/api/crypto/list", token);
+            filter.filter(exchange, chain).block();
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+        assertThat(forwarded.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe descartar las cabeceras de identidad enviadas por el cliente")
+    void testStripsSpoofedIdentityHeaders() throws Exception {
+        MockServerWebExchange publicExchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/api/public/cache/test")
+                .header(InternalIdentity.HEADER, "falsa")
+                .header("X-User-Id", "admin@example.com"));
+        filter.filter(publicExchange, chain).block();
+        assertThat(forwarded.get().getHeaders().containsKey(InternalIdentity.HEADER)).isFalse();
+        assertThat(forwarded.get().getHeaders().containsKey("X-User-Id")).isFalse();
+
+        MockServerWebExchange protectedExchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/api/crypto/list")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(SECRET, "user@example.com", Duration.ofMinutes(10)))
+                .header("X-User-Roles", "ADMIN"));
+        filter.filter(protectedExchange, chain).block();
+        assertThat(forwarded.get().getHeaders().getFirst("X-User-Id")).isEqualTo("user@example.com");
+        assertThat(forwarded.get().getHeaders().containsKey("X-User-Roles")).isFalse();
+    }
+
+    private static MockServerWebExchange exchange(String path, String token) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path);
+        if (token != null) {
+            request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private static String token(String secret, String subject, Duration ttl) throws Exception {
+        byte[] key = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        return Jwts.builder()
+                .subject(subject)
+                .expiration(new Date(System.currentTimeMillis() + ttl.toMillis()))
+                .signWith(Keys.hmacShaKeyFor(key))
+                .compact();
+    }
+}
@@ -0,0 +1,147 @@
+package com.cryptoCollector.apiGateWay.filter;
+
+import com.cryptoCollector.apiGateWay.cache.GatewayResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResponseCacheGatewayFilterFactory - Tests Unitarios")
+class ResponseCacheGatewayFilterFactoryTest {
+
+    private static final String BODY = "{\"content\":[{\"coinId\":\"bitcoin\"}],\"hasNext\":false}";
+
+    private SimpleMeterRegistry meterRegistry;
+    private GatewayResponseCache cache;
+    private GatewayFilter filter;
+    private ResponseCacheWriteFilter writeFilter;
+    private AtomicInteger upstreamCalls;
+    private HttpStatus upstreamStatus;
+    private MediaType upstreamType;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new GatewayResponseCache(DataSize.ofMegabytes(1), meterRegistry);
+        ResponseCacheGatewayFilterFactory.Config config = new ResponseCacheGatewayFilterFactory.Config();
+        config.setTtl(Duration.ofMinutes(10));
+        filter = new ResponseCacheGatewayFilterFactory(cache).apply(config);
+        writeFilter = new ResponseCacheWriteFilter(cache);
+        upstreamCalls = new AtomicInteger();
+        upstreamStatus = HttpStatus.OK;
+        upstreamType = MediaType.APPLICATION_JSON;
+    }
+
+    @Test
+    @DisplayName("Debe servir desde caché la segunda petición con el mismo ETag")
+    void testServesFromCache() {
+        MockServerWebExchange first = get("/api/crypto/list?size=5", null);
+        MockServerWebExchange second = get("/api/crypto/list?size=5", null);
+
+        assertThat(first.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        assertThat(second.getResponse().getHeaders().getETag())
+                .isNotNull()
+                .isEqualTo(first.getResponse().getHeaders().getETag());
+        assertThat(second.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(upstreamCalls).hasValue(1);
+
+        // Otra query es otra entrada
+        get("/api/crypto/list?size=10", null);
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Debe responder 304 sin cuerpo cuando If-None-Match coincide")
+    void testNotModified() {
+        String etag = get("/api/crypto/bitcoin", null).getResponse().getHeaders().getETag();
+
+        MockServerWebExchange revalidated = get("/api/crypto/bitcoin", etag);
+
+        assertThat(revalidated.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(revalidated.getResponse().getBodyAsString().block()).isEmpty();
+
+        // También tras ir al servicio, si la caché se vació pero el contenido no cambió
+        cache.invalidateAll();
+        MockServerWebExchange afterInvalidation = get("/api/crypto/bitcoin", etag);
+        assertThat(afterInvalidation.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("No debe guardar errores, respuestas streaming ni peticiones que no sean GET")
+    void testSkipsNonCacheableResponses() {
+        upstreamStatus = HttpStatus.SERVICE_UNAVAILABLE;
+        get("/api/crypto/stats", null);
+        upstreamStatus = HttpStatus.OK;
+        upstreamType = MediaType.APPLICATION_NDJSON;
+        get("/api/crypto/stream", null);
+        get("/api/crypto/stream", null);
+        upstreamType = MediaType.APPLICATION_JSON;
+        filter(MockServerWebExchange.from(MockServerHttpRequest.post("/api/crypto/sync")));
+
+        assertThat(cache.size()).isZero();
+        assertThat(upstreamCalls).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("Debe publicar aciertos, ratio y bytes ahorrados")
+    void testMetrics() {
+        get("/api/crypto/list", null);
+        String etag = get("/api/crypto/list", null).getResponse().getHeaders().getETag();
+        get("/api/crypto/list", etag);
+
+        int bodyBytes = BODY.getBytes(StandardCharsets.UTF_8).length;
+        assertThat(meterRegistry.get("gateway.response.cache.requests").tag("result", "hit").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("gateway.response.cache.requests").tag("result", "not_modified").counter()
+                .count()).isEqualTo(1);
+        assertThat(meterRegistry.get("gateway.response.cache.hit.ratio").gauge().value())
+                .isEqualTo(2.0 / 3.0);
+        assertThat(meterRegistry.get("gateway.response.cache.bytes.saved").functionCounter().count())
+                .isEqualTo(2.0 * bodyBytes);
+    }
+
+    private MockServerWebExchange get(String uri, String ifNoneMatch) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(uri);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter(exchange);
+        return exchange;
+    }
+
+    // Como en el gateway: el decorador global envuelve la respuesta y la búsqueda corre dentro de la ruta
+    private void filter(MockServerWebExchange exchange) {
+        writeFilter.filter(exchange, routed -> filter.filter(routed, upstream())).block();
+    }
+
+    // Simula la respuesta del servicio tal como la escribe NettyWriteResponseFilter
+    private GatewayFilterChain upstream() {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(upstreamStatus);
+            response.getHeaders().setContentType(upstreamType);
+            return response.writeWith(Mono.just(response.bufferFactory()
+                    .wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+}
@@ -0,0 +1,138 @@
+package com.cryptoCollector.apiGateWay.ratelimit;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Date;
+
+/**
+ * Cadena completa del gateway con Redis embebido: JwtAuthenticationFilter identifica al usuario y
+ * el filtro RequestRateLimiter de la ruta aplica su cuota.
+ */
+@SpringBootTest(properties = {
+        "jwt.secret=" + RateLimitRouteTest.SECRET,
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.discovery.enabled=false",
+        "eureka.client.enabled=false" })
+@AutoConfigureWebTestClient
+@DisplayName("RequestRateLimiter por ruta - Tests de Integración")
+class RateLimitRouteTest {
+
+    static final String SECRET = "change_this_to_a_real_secret";
+
+    private static final int REDIS_PORT = freePort();
+    private static final RedisServer redisServer = startRedis();
+    private static final DisposableServer backend = HttpServer.create()
+            .port(0)
+            .route(routes -> routes.get("/api/**", (request, response) -> response.sendString(Mono.just("[]"))))
+            .bindNow();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void routes(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.port", () -> REDIS_PORT);
+        String uri = "http://localhost:" + backend.port();
+        String route = "spring.cloud.gateway.server.webflux.routes[0].";
+        registry.add(route + "id", () -> "crypto-protected");
+        registry.add(route + "uri", () -> uri);
+        registry.add(route + "predicates[0]", () -> "Path=/api/crypto/**");
+        registry.add(route + "filters[0].name", () -> "RequestRateLimiter");
+        registry.add(route + "filters[0].args.key-resolver", () -> "#{@userOrIpKeyResolver}");
+        registry.add(route + "filters[0].args.token-bucket-rate-limiter.replenish-rate", () -> "1");
+        registry.add(route + "filters[0].args.token-bucket-rate-limiter.burst-capacity", () -> "2");
+        route = "spring.cloud.gateway.server.webflux.routes[1].";
+        registry.add(route + "id", () -> "crypto-public");
+        registry.add(route + "uri", () -> uri);
+        registry.add(route + "predicates[0]", () -> "Path=/api/public/**");
+        registry.add(route + "filters[0].name", () -> "RequestRateLimiter");
+        registry.add(route + "filters[0].args.key-resolver", () -> "#{@userOrIpKeyResolver}");
+        registry.add(route + "filters[0].args.token-bucket-rate-limiter.replenish-rate", () -> "1");
+        registry.add(route + "filters[0].args.token-bucket-rate-limiter.burst-capacity", () -> "1");
+    }
+
+    @AfterAll
+    static void stop() throws IOException {
+        backend.disposeNow();
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("Debe responder 429 con Retry-After al agotar la cuota del usuario, sin afectar a otros")
+    void testRejectsUserOverQuota() throws Exception {
+        String alice = token("alice@example.com");
+        for (int i = 0; i < 2; i++) {
+            get("/api/crypto/list", alice).expectStatus().isOk()
+                    .expectHeader().exists(RedisTokenBucketRateLimiter.REMAINING_HEADER);
+        }
+
+        get("/api/crypto/list", alice).expectStatus().isEqualTo(429)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "1");
+        get("/api/crypto/list", token("bob@example.com")).expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("Debe limitar por IP las rutas públicas con la cuota de su ruta")
+    void testLimitsPublicRouteByIp() {
+        get("/api/public/cache/test", null).expectStatus().isOk();
+        get("/api/public/cache/test", null).expectStatus().isEqualTo(429)
+                .expectHeader().exists(HttpHeaders.RETRY_AFTER);
+    }
+
+    private WebTestClient.ResponseSpec get(String uri, String token) {
+        return webTestClient.get().uri(uri)
+                .headers(headers -> {
+                    if (token != null) {
+                        headers.setBearerAuth(token);
+                    }
+                })
+                .exchange();
+    }
+
+    private static String token(String subject) throws Exception {
+        byte[] key = MessageDigest.getInstance("SHA-256").digest(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.builder()
+                .subject(subject)
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(key))
+                .compact();
+    }
+
+    private static RedisServer startRedis() {
+        try {
+            RedisServer server = new RedisServer(REDIS_PORT);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
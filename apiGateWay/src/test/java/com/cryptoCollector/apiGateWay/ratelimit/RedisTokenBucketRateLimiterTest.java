@@ -0,0 +1,124 @@
+package com.cryptoCollector.apiGateWay.ratelimit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter.Response;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("RedisTokenBucketRateLimiter - Tests de Integración")
+class RedisTokenBucketRateLimiterTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static ReactiveStringRedisTemplate redisTemplate;
+
+    private RedisTokenBucketRateLimiter rateLimiter;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = freePort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> connection.serverCommands().flushAll()).blockLast();
+        rateLimiter = new RedisTokenBucketRateLimiter(redisTemplate, mock(ConfigurationService.class),
+                new RedisTokenBucketRateLimiter.Config().setReplenishRate(1).setBurstCapacity(3),
+                Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Debe admitir la ráfaga y responder después con Retry-After")
+    void testBurstThenRejects() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.isAllowed("crypto-protected", "user:a").block().isAllowed()).isTrue();
+        }
+
+        Response rejected = rateLimiter.isAllowed("crypto-protected", "user:a").block();
+
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getHeaders())
+                .containsEntry(HttpHeaders.RETRY_AFTER, "1")
+                .containsEntry(RedisTokenBucketRateLimiter.REMAINING_HEADER, "0")
+                .containsEntry(RedisTokenBucketRateLimiter.BURST_CAPACITY_HEADER, "3");
+    }
+
+    @Test
+    @DisplayName("Debe rellenar el cubo según la tasa configurada")
+    void testRefillsOverTime() throws InterruptedException {
+        rateLimiter = new RedisTokenBucketRateLimiter(redisTemplate, mock(ConfigurationService.class),
+                new RedisTokenBucketRateLimiter.Config().setReplenishRate(20).setBurstCapacity(1),
+                Duration.ofSeconds(1));
+        assertThat(rateLimiter.isAllowed("crypto-protected", "user:a").block().isAllowed()).isTrue();
+        assertThat(rateLimiter.isAllowed("crypto-protected", "user:a").block().isAllowed()).isFalse();
+
+        Thread.sleep(60);
+
+        assertThat(rateLimiter.isAllowed("crypto-protected", "user:a").block().isAllowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe llevar un cubo independiente por ruta y por cliente, con la cuota de cada ruta")
+    void testIndependentBucketsAndRouteQuotas() {
+        rateLimiter.getConfig().put("auth-public",
+                new RedisTokenBucketRateLimiter.Config().setReplenishRate(1).setBurstCapacity(1));
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.isAllowed("crypto-protected", "user:a").block();
+        }
+
+        assertThat(rateLimiter.isAllowed("crypto-protected", "user:a").block().isAllowed()).isFalse();
+        assertThat(rateLimiter.isAllowed("crypto-protected", "user:b").block().isAllowed()).isTrue();
+        assertThat(rateLimiter.isAllowed("auth-public", "user:a").block().isAllowed()).isTrue();
+        assertThat(rateLimiter.isAllowed("auth-public", "user:a").block().isAllowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe dejar pasar las peticiones si Redis no está disponible")
+    void testFailsOpenWithoutRedis() throws IOException {
+        LettuceConnectionFactory unreachable = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", freePort()));
+        unreachable.afterPropertiesSet();
+        try {
+            RedisTokenBucketRateLimiter limiter = new RedisTokenBucketRateLimiter(
+                    new ReactiveStringRedisTemplate(unreachable), mock(ConfigurationService.class),
+                    new RedisTokenBucketRateLimiter.Config(), Duration.ofMillis(200));
+
+            assertThat(limiter.isAllowed("crypto-protected", "user:a").block().isAllowed()).isTrue();
+        } finally {
+            unreachable.destroy();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Caché para métodos reactivos: guarda el valor emitido (no el Mono) y comparte una única
+ * carga entre las peticiones concurrentes que fallan sobre la misma clave.
+ * Las lecturas usan {@link Cache#retrieve(Object)} y las escrituras se hacen en boundedElastic,
+ * por lo que ningún hilo del event loop queda bloqueado esperando a Redis.
+ */
+@Component
+public class ReactiveCacheOperations {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveCacheOperations.class);
+
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, SingleFlight<Object, Object>> loads = new ConcurrentHashMap<>();
+
+    public ReactiveCacheOperations(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Devuelve el valor en caché o ejecuta {@code loader} y guarda lo que emita.
+     * Un Mono vacío no se guarda.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> cacheable(String cacheName, Object key, Supplier<Mono<T>> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return Mono.defer(loader);
+        }
+        return (Mono<T>) lookup(cache, key)
+                .switchIfEmpty(Mono.defer(() -> load(cache, key, (Supplier<Mono<Object>>) (Supplier<?>) loader)));
+    }
+
+    /**
+     * Escribe las entradas en la caché sin invalidarla antes: los lectores siguen viendo el valor
+     * anterior hasta que se reemplaza.
+     */
+    public Mono<Void> putAll(String cacheName, Map<?, ?> entries) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || entries.isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.fromRunnable(() -> entries.forEach(cache::put))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(RuntimeException.class, e -> {
+                    logger.warn("⚠️  Error actualizando caché '{}': {}", cacheName, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    public Mono<Void> put(String cacheName, Object key, Object value) {
+        return putAll(cacheName, Map.of(key, value));
+    }
+
+    public Mono<Void> clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return Mono.empty();
+        }
+        return Mono.fromRunnable(cache::clear)
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(RuntimeException.class, e -> {
+                    logger.warn("⚠️  Error limpiando caché '{}': {}", cacheName, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Object> lookup(Cache cache, Object key) {
+        return Mono.defer(() -> {
+            CompletableFuture<?> future = cache.retrieve(key);
+            return future != null ? Mono.fromFuture(future) : Mono.empty();
+        }).mapNotNull(ReactiveCacheOperations::unwrap)
+                .onErrorResume(RuntimeException.class, e -> {
+                    // Si la caché no responde se sirve desde la BD
+                    logger.warn("⚠️  Error leyendo caché '{}' para {}: {}", cache.getName(), key, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Object> load(Cache cache, Object key, Supplier<Mono<Object>> loader) {
+        SingleFlight<Object, Object> flight = loads.computeIfAbsent(cache.getName(),
+                name -> new SingleFlight<>("cache-load:" + name, meterRegistry));
+        // El valor se guarda dentro de la ejecución compartida: quien llegue después ya lo encuentra
+        return flight.execute(key, () -> loader.get()
+                .flatMap(value -> store(cache, key, value).thenReturn(value)));
+    }
+
+    private Mono<Void> store(Cache cache, Object key, Object value) {
+        return Mono.fromRunnable(() -> cache.put(key, value))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(RuntimeException.class, e -> {
+                    logger.warn("⚠️  Error guardando en caché '{}' para {}: {}", cache.getName(), key, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private static Object unwrap(Object value) {
+        return value instanceof Cache.ValueWrapper wrapper ? wrapper.get() : value;
+    }
+}
@@ -0,0 +1,56 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa las llamadas concurrentes con la misma clave en una sola ejecución y reparte su
+ * resultado (valor, vacío o error) entre todos los suscriptores que llegaron mientras estaba en curso.
+ * Al terminar la clave se libera y la siguiente llamada vuelve a ejecutarse.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executed = calls(meterRegistry, name, "executed");
+        this.coalesced = calls(meterRegistry, name, "coalesced");
+    }
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            boolean[] leader = { false };
+            Mono<V> flight = inFlight.computeIfAbsent(key, k -> {
+                leader[0] = true;
+                return Mono.defer(loader)
+                        .doFinally(signal -> inFlight.remove(k))
+                        .cache();
+            });
+            (leader[0] ? executed : coalesced).increment();
+            return flight;
+        });
+    }
+
+    public double executedCount() {
+        return executed.count();
+    }
+
+    public double coalescedCount() {
+        return coalesced.count();
+    }
+
+    private static Counter calls(MeterRegistry registry, String name, String result) {
+        return Counter.builder("singleflight.calls")
+                .description("Llamadas ejecutadas frente a llamadas agrupadas en una ejecución en curso")
+                .tag("name", name)
+                .tag("result", result)
+                .register(registry);
+    }
+}
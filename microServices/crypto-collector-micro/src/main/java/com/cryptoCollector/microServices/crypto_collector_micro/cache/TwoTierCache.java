@@ -0,0 +1,221 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Caché de dos niveles: Caffeine en memoria (L1) delante de Redis (L2).
+ * Las lecturas sirven desde L1 y, si fallan, desde L2 rellenando L1. Las escrituras e
+ * invalidaciones se aplican en ambos niveles y se notifican al resto de instancias para que
+ * descarten su L1.
+ */
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public TwoTierCache(String name, Cache remote, com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+            BiConsumer<String, String> invalidationPublisher, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.invalidationPublisher = invalidationPublisher;
+
+        this.l1Hits = requests(meterRegistry, "l1", "hit");
+        this.l1Misses = requests(meterRegistry, "l1", "miss");
+        this.l2Hits = requests(meterRegistry, "l2", "hit");
+        this.l2Misses = requests(meterRegistry, "l2", "miss");
+
+        Gauge.builder("cache.tier.hit.ratio", this, cache -> ratio(cache.l1Hits, cache.l1Misses))
+                .tag("cache", name).tag("tier", "l1")
+                .description("Proporción de lecturas servidas por la caché local")
+                .register(meterRegistry);
+        Gauge.builder("cache.tier.hit.ratio", this, cache -> ratio(cache.l2Hits, cache.l2Misses))
+                .tag("cache", name).tag("tier", "l2")
+                .description("Proporción de fallos de L1 servidos por Redis")
+                .register(meterRegistry);
+        Gauge.builder("cache.tier.size", local, c -> c.estimatedSize())
+                .tag("cache", name).tag("tier", "l1")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            l1Hits.increment();
+            return new SimpleValueWrapper(cached);
+        }
+        l1Misses.increment();
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            l2Hits.increment();
+            local.put(localKey, wrapper.get());
+        } else {
+            l2Misses.increment();
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "El valor en caché no es del tipo requerido [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value = remote.get(key, valueLoader);
+        if (value != null) {
+            local.put(localKey(key), value);
+        }
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        Object cached = local.getIfPresent(localKey(key));
+        if (cached != null) {
+            l1Hits.increment();
+            return CompletableFuture.completedFuture(new SimpleValueWrapper(cached));
+        }
+        // Redis (Jedis) es bloqueante: la consulta a L2 nunca se hace en el hilo del llamador
+        return CompletableFuture.supplyAsync(() -> get(key), Schedulers.boundedElastic()::schedule);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return retrieve(key).thenCompose(wrapper -> {
+            if (wrapper != null) {
+                return CompletableFuture.completedFuture((T) ((ValueWrapper) wrapper).get());
+            }
+            return valueLoader.get().thenApply(value -> {
+                if (value != null) {
+                    put(key, value);
+                }
+                return value;
+            });
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        if (value != null) {
+            local.put(localKey(key), value);
+        }
+        invalidationPublisher.accept(name, localKey(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        Object current = existing != null ? existing.get() : value;
+        if (current != null) {
+            local.put(localKey(key), current);
+        }
+        if (existing == null) {
+            invalidationPublisher.accept(name, localKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        invalidationPublisher.accept(name, localKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        local.invalidate(localKey(key));
+        invalidationPublisher.accept(name, localKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        local.invalidateAll();
+        invalidationPublisher.accept(name, null);
+        return invalidated;
+    }
+
+    /**
+     * Descarta entradas de L1 por una notificación de otra instancia (null = todas).
+     */
+    void invalidateLocal(String localKey) {
+        if (localKey == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(localKey);
+        }
+    }
+
+    // Redis guarda las claves como texto; L1 usa la misma representación para poder invalidarlas por mensaje
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter requests(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("cache.tier.requests")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static double ratio(Counter hits, Counter misses) {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+}
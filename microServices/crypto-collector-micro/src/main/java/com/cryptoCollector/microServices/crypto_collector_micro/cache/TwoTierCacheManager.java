@@ -0,0 +1,109 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * CacheManager compuesto: envuelve cada caché de Redis en un {@link TwoTierCache} con su propia L1.
+ * Las invalidaciones se publican en el canal {@value #INVALIDATION_CHANNEL} y cada instancia
+ * descarta su L1 al recibir los mensajes de las demás: {@code key|instancia|caché|clave} para una
+ * clave y {@code clear|instancia|caché} para toda la caché, de modo que ninguna clave real se confunde
+ * con la limpieza completa.
+ * Con {@code transactionAware} las escrituras se aplican a ambos niveles tras el commit.
+ */
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "crypto-cache:invalidation";
+    private static final String KEY_MESSAGE = "key";
+    private static final String CLEAR_MESSAGE = "clear";
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierCacheManager.class);
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final boolean transactionAware;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Cache> exposedCaches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager, StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry, long localMaxSize, Duration localTtl, boolean transactionAware) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        this.transactionAware = transactionAware;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = exposedCaches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return exposedCaches.computeIfAbsent(name, n -> {
+            TwoTierCache twoTier = new TwoTierCache(n, remote,
+                    Caffeine.newBuilder()
+                            .maximumSize(localMaxSize)
+                            .expireAfterWrite(localTtl)
+                            .build(),
+                    this::publishInvalidation, meterRegistry);
+            caches.put(n, twoTier);
+            return transactionAware ? new TransactionAwareCacheDecorator(twoTier) : twoTier;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        // La clave va al final y puede contener '|'
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        boolean clear = parts.length == 3 && CLEAR_MESSAGE.equals(parts[0]);
+        boolean key = parts.length == 4 && KEY_MESSAGE.equals(parts[0]);
+        if (!(clear || key) || instanceId.equals(parts[1])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[2]);
+        if (cache != null) {
+            cache.invalidateLocal(clear ? null : parts[3]);
+            logger.debug("♻️  L1 '{}' invalidada por otra instancia: {}", parts[2], clear ? "todas" : parts[3]);
+        }
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, key != null
+                    ? String.join("|", KEY_MESSAGE, instanceId, cacheName, key)
+                    : String.join("|", CLEAR_MESSAGE, instanceId, cacheName));
+        } catch (RuntimeException e) {
+            // La L1 remota expira por TTL aunque el mensaje se pierda
+            logger.warn("⚠️  No se pudo publicar invalidación de caché '{}': {}", cacheName, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.codec;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinGeckoCoin;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodifica la respuesta de {@code /coins/markets} token a token a medida que llegan los
+ * DataBuffers, sin juntar la página completa en memoria ni pasar por el binding por reflexión
+ * de Jackson. Solo se leen los campos que usa la sincronización; el resto se salta sin crear objetos.
+ * Cada moneda (un objeto del array raíz) no puede superar {@code maxObjectSize} bytes.
+ */
+public class CoinGeckoCoinDecoder {
+
+    private final JsonFactory jsonFactory;
+    private final int maxObjectSize;
+
+    public CoinGeckoCoinDecoder(int maxObjectSize) {
+        this.maxObjectSize = maxObjectSize;
+        this.jsonFactory = JsonFactory.builder()
+                .streamReadConstraints(StreamReadConstraints.builder()
+                        .maxStringLength(maxObjectSize)
+                        .maxNestingDepth(64)
+                        .build())
+                .build();
+    }
+
+    public Flux<CoinGeckoCoin> decode(Flux<DataBuffer> body) {
+        return Flux.using(this::newParser,
+                parser -> body
+                        .concatMapIterable(buffer -> {
+                            try {
+                                return parser.feed(buffer);
+                            } finally {
+                                DataBufferUtils.release(buffer);
+                            }
+                        })
+                        .concatWith(Flux.defer(() -> Flux.fromIterable(parser.endOfInput()))),
+                CoinStreamParser::close)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    private CoinStreamParser newParser() {
+        try {
+            return new CoinStreamParser(jsonFactory.createNonBlockingByteBufferParser(), maxObjectSize);
+        } catch (IOException e) {
+            throw new DecodingException("No se pudo crear el parser JSON", e);
+        }
+    }
+
+    /**
+     * Estado de una respuesta: profundidad actual, moneda en construcción y último campo leído.
+     */
+    private static final class CoinStreamParser {
+
+        // Profundidad de los campos de cada moneda: [ { campo } ]
+        private static final int COIN_DEPTH = 2;
+
+        private final JsonParser parser;
+        private final ByteBufferFeeder feeder;
+        private final int maxObjectSize;
+
+        private int depth;
+        private CoinGeckoCoin current;
+        private String field;
+        private long objectStart;
+
+        CoinStreamParser(JsonParser parser, int maxObjectSize) {
+            this.parser = parser;
+            this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+            this.maxObjectSize = maxObjectSize;
+        }
+
+        List<CoinGeckoCoin> feed(DataBuffer buffer) {
+            List<CoinGeckoCoin> coins = new ArrayList<>();
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer chunk = iterator.next();
+                    feeder.feedInput(chunk);
+                    drain(coins);
+                }
+            } catch (IOException e) {
+                throw new DecodingException("JSON inválido en la respuesta de CoinGecko: " + e.getMessage(), e);
+            }
+            return coins;
+        }
+
+        List<CoinGeckoCoin> endOfInput() {
+            feeder.endOfInput();
+            List<CoinGeckoCoin> coins = new ArrayList<>();
+            try {
+                drain(coins);
+            } catch (IOException e) {
+                throw new DecodingException("JSON inválido en la respuesta de CoinGecko: " + e.getMessage(), e);
+            }
+            if (depth != 0) {
+                throw new DecodingException("Respuesta de CoinGecko truncada");
+            }
+            return coins;
+        }
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // Nada que liberar: el parser no tiene recursos externos
+            }
+        }
+
+        private void drain(List<CoinGeckoCoin> coins) throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                switch (token) {
+                    case START_ARRAY -> depth++;
+                    case START_OBJECT -> {
+                        if (depth == 0) {
+                            // CoinGecko responde con un objeto cuando hay error ({"status": ...})
+                            throw new DecodingException("Se esperaba un array de monedas");
+                        }
+                        depth++;
+                        if (depth == COIN_DEPTH) {
+                            current = new CoinGeckoCoin();
+                            objectStart = parser.currentLocation().getByteOffset();
+                        }
+                    }
+                    case END_OBJECT -> {
+                        if (depth == COIN_DEPTH && current != null) {
+                            coins.add(current);
+                            current = null;
+                        }
+                        depth--;
+                    }
+                    case END_ARRAY -> depth--;
+                    case FIELD_NAME -> {
+                        if (depth == COIN_DEPTH) {
+                            field = parser.currentName();
+                        }
+                    }
+                    default -> {
+                        if (depth == COIN_DEPTH && current != null) {
+                            assign(token);
+                        }
+                    }
+                }
+                if (current != null && parser.currentLocation().getByteOffset() - objectStart > maxObjectSize) {
+                    throw new DataBufferLimitException(
+                            "Una moneda de la respuesta supera el máximo de " + maxObjectSize + " bytes");
+                }
+            }
+        }
+
+        private void assign(JsonToken token) throws IOException {
+            if (field == null || token == JsonToken.VALUE_NULL) {
+                return;
+            }
+            switch (field) {
+                case "id" -> current.setId(parser.getText());
+                case "symbol" -> current.setSymbol(parser.getText());
+                case "name" -> current.setName(parser.getText());
+                case "current_price" -> current.setCurrent_price(number(token));
+                case "market_cap" -> current.setMarket_cap(number(token));
+                case "total_volume" -> current.setTotal_volume(number(token));
+                case "market_cap_rank" -> {
+                    Double rank = number(token);
+                    current.setMarket_cap_rank(rank != null ? rank.intValue() : null);
+                }
+                case "last_updated" -> current.setLast_updated(timestamp(token));
+                default -> {
+                    // Campo que la sincronización no usa
+                }
+            }
+        }
+
+        private Double number(JsonToken token) throws IOException {
+            return token.isNumeric() ? parser.getDoubleValue() : null;
+        }
+
+        private OffsetDateTime timestamp(JsonToken token) throws IOException {
+            if (token != JsonToken.VALUE_STRING) {
+                return null;
+            }
+            try {
+                return OffsetDateTime.parse(parser.getText());
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Locale;
+import java.util.concurrent.Executors;
+
+/**
+ * Scheduler donde se ejecutan las llamadas bloqueantes (JPA/JDBC) de los servicios reactivos.
+ * Con {@code virtual} cada llamada corre en su propio hilo virtual, así que la concurrencia la limita
+ * el pool de conexiones y no el tope de boundedElastic (10 × núcleos); {@code bounded-elastic}
+ * mantiene el comportamiento anterior.
+ */
+@Configuration
+public class BlockingSchedulerConfig {
+
+    public static final String VIRTUAL = "virtual";
+    public static final String BOUNDED_ELASTIC = "bounded-elastic";
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingScheduler(@Value("${crypto.blocking.scheduler:virtual}") String mode) {
+        return create(mode);
+    }
+
+    public static Scheduler create(String mode) {
+        return switch (mode.trim().toLowerCase(Locale.ROOT)) {
+            case VIRTUAL -> Schedulers.fromExecutorService(
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("crypto-blocking-", 0).factory()),
+                    "crypto-blocking");
+            // Instancia propia para que dispose() no apague el boundedElastic compartido
+            case BOUNDED_ELASTIC -> Schedulers.newBoundedElastic(Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+                    Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "crypto-blocking");
+            default -> throw new IllegalArgumentException(
+                    "crypto.blocking.scheduler debe ser 'virtual' o 'bounded-elastic': " + mode);
+        };
+    }
+}
@@ -1,15 +1,23 @@
 package com.cryptoCollector.microServices.crypto_collector_micro.config;
 
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
+// También cubre el modo reactivo para que Spring Boot no cree el usuario por defecto
 @Service
-public class NoOpUserDetailsService implements UserDetailsService {
+public class NoOpUserDetailsService implements UserDetailsService, ReactiveUserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         throw new UsernameNotFoundException("Este servicio utiliza solo autenticación JWT");
     }
+
+    @Override
+    public Mono<UserDetails> findByUsername(String username) {
+        return Mono.error(new UsernameNotFoundException("Este servicio utiliza solo autenticación JWT"));
+    }
 }
@@ -0,0 +1,35 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Con un ConnectionFactory de R2DBC en el contexto Spring Boot deja de autoconfigurar el DataSource
+ * y puede omitir el JpaTransactionManager. JPA, Liquibase y los repositorios JDBC siguen
+ * necesitándolos, así que se declaran aquí con las mismas propiedades spring.datasource.*.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class PersistenceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
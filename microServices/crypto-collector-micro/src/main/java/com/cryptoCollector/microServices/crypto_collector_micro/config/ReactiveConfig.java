@@ -1,38 +1,26 @@
 package com.cryptoCollector.microServices.crypto_collector_micro.config;
 
+import io.r2dbc.spi.ConnectionFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.lang.NonNull;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.ReactiveTransactionManager;
 import org.springframework.transaction.reactive.TransactionalOperator;
-import org.springframework.transaction.reactive.TransactionCallback;
-import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
 
+/**
+ * Transacciones reactivas sobre R2DBC para las escrituras de la sincronización. Conviven con el
+ * JpaTransactionManager (primario) que sigue usando {@code @Transactional} en los servicios bloqueantes.
+ */
 @Configuration
 public class ReactiveConfig {
 
     @Bean
-    public TransactionalOperator transactionalOperator() {
-        // Implementación simplificada para permitir que el servicio compile
-        // ya que JPA no es nativo reactivo pero el servicio usa Mono/Flux
-        return new TransactionalOperator() {
-            @Override
-            @NonNull
-            public <T> Mono<T> transactional(@NonNull Mono<T> mono) {
-                return mono;
-            }
-
-            @Override
-            @NonNull
-            public <T> Flux<T> transactional(@NonNull Flux<T> flux) {
-                return flux;
-            }
+    public ReactiveTransactionManager reactiveTransactionManager(ConnectionFactory connectionFactory) {
+        return new R2dbcTransactionManager(connectionFactory);
+    }
 
-            @Override
-            @NonNull
-            public <T> Flux<T> execute(@NonNull TransactionCallback<T> action) {
-                return Flux.empty();
-            }
-        };
+    @Bean
+    public TransactionalOperator transactionalOperator(ReactiveTransactionManager reactiveTransactionManager) {
+        return TransactionalOperator.create(reactiveTransactionManager);
     }
 }
@@ -0,0 +1,55 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.config;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.filter.JwtAuthenticationWebFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Seguridad del modo reactivo (spring.main.web-application-type=reactive, Reactor Netty).
+ * Mismas reglas que {@link SecurityConfig}; la petición no sale del event loop para autenticarse.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveSecurityConfig.class);
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+            JwtAuthenticationWebFilter jwtAuthenticationWebFilter) {
+        http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                // Sin sesión: la autenticación vive solo en el contexto de cada petición
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(auth -> auth
+                        .pathMatchers("/actuator/**").permitAll()
+                        .pathMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", "/webjars/**").permitAll()
+                        .pathMatchers("/api/public/**").permitAll()
+                        .pathMatchers("/api/crypto/**").authenticated()
+                        .anyExchange().denyAll())
+                .addFilterAt(jwtAuthenticationWebFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .exceptionHandling(ex -> ex
+                        .authenticationEntryPoint((exchange, authException) -> {
+                            logger.error("❌ Error de autenticación: {} - Path: {}",
+                                    authException.getMessage(), exchange.getRequest().getPath());
+                            return Mono.fromRunnable(() -> exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED));
+                        }));
+
+        logger.info("✅ SecurityWebFilterChain configurado - Endpoints /api/crypto/** requieren autenticación JWT");
+        return http.build();
+    }
+}
@@ -1,8 +1,18 @@
 package com.cryptoCollector.microServices.crypto_collector_micro.config;
 
+import com.cryptoCollector.microServices.crypto_collector_micro.cache.TwoTierCacheManager;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.MarketSummary;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.CacheManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,8 +20,13 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -25,53 +40,118 @@ public class RedisConfig {
         private static final Logger logger = LoggerFactory.getLogger(RedisConfig.class);
 
         @Bean
-        public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+        public TwoTierCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                        StringRedisTemplate stringRedisTemplate,
+                        MeterRegistry meterRegistry,
+                        @Value("${crypto.cache.l1.max-size:10000}") long l1MaxSize,
+                        @Value("${crypto.cache.l1.ttl:30s}") Duration l1Ttl) {
                 logger.info("🔧 Configurando Redis CacheManager con TTLs personalizados...");
 
-                com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-                objectMapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
-                objectMapper.disable(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+                RedisCacheConfiguration defaultConfig = defaultCacheConfiguration();
+                Map<String, RedisCacheConfiguration> cacheConfigurations = cacheConfigurations();
 
-                RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-                                .entryTtl(Duration.ofMinutes(5))
-                                .serializeKeysWith(
-                                                RedisSerializationContext.SerializationPair
-                                                                .fromSerializer(new StringRedisSerializer()))
-                                .serializeValuesWith(
-                                                RedisSerializationContext.SerializationPair.fromSerializer(
-                                                                new GenericJackson2JsonRedisSerializer(objectMapper)))
-                                .disableCachingNullValues();
+                logger.info("✅ Redis Cache configurado:");
+                logger.info("   - crypto-list: 5 minutos TTL");
+                logger.info("   - crypto-details: 2 minutos TTL");
+                logger.info("   - market-summary: 1 hora TTL");
+                logger.info("   - coingecko-api: 30 segundos TTL");
+
+                RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                                .cacheDefaults(defaultConfig)
+                                .withInitialCacheConfigurations(cacheConfigurations)
+                                .build();
+                redisCacheManager.initializeCaches();
+
+                // L1 en memoria por instancia; la sincronía con commits se aplica sobre ambos niveles
+                logger.info("✅ Caché L1 (Caffeine): máx. {} entradas por caché, TTL {}", l1MaxSize, l1Ttl);
+                return new TwoTierCacheManager(redisCacheManager, stringRedisTemplate, meterRegistry,
+                                l1MaxSize, l1Ttl, true);
+        }
+
+        /**
+         * Configuración de las cachés sin tipo de valor conocido: JSON con {@code @class}, limitado a
+         * clases del servicio y de java.util/java.time para no deserializar tipos arbitrarios de Redis.
+         */
+        public static RedisCacheConfiguration defaultCacheConfiguration() {
+                PolymorphicTypeValidator typeValidator = BasicPolymorphicTypeValidator.builder()
+                                .allowIfSubType("com.cryptoCollector.microServices.crypto_collector_micro.")
+                                .allowIfSubType("java.util.")
+                                .allowIfSubType("java.time.")
+                                .build();
+                ObjectMapper objectMapper = cacheObjectMapper();
+                objectMapper.setPolymorphicTypeValidator(typeValidator);
+                return baseCacheConfiguration(GenericJackson2JsonRedisSerializer.builder()
+                                .objectMapper(objectMapper)
+                                .defaultTyping(true)
+                                .build());
+        }
 
-                // Configuraciones específicas por nombre de caché
+        /**
+         * TTL y serializador de cada caché. Las que guardan un tipo conocido usan un serializador
+         * tipado: su JSON no lleva {@code @class} y, sin el tipo, Jackson devolvería un LinkedHashMap
+         * en cada lectura desde Redis (L2).
+         */
+        public static Map<String, RedisCacheConfiguration> cacheConfigurations() {
+                RedisCacheConfiguration defaultConfig = defaultCacheConfiguration();
                 Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
 
                 // Lista de criptomonedas - 5 minutos
                 cacheConfigurations.put("crypto-list", defaultConfig.entryTtl(Duration.ofMinutes(5)));
 
                 // Detalles de criptomoneda individual - 2 minutos
-                cacheConfigurations.put("crypto-details", defaultConfig.entryTtl(Duration.ofMinutes(2)));
+                cacheConfigurations.put("crypto-details",
+                                typedCacheConfiguration(CryptoCurrency.class).entryTtl(Duration.ofMinutes(2)));
 
-                // Estadísticas generales - 1 minuto
-                cacheConfigurations.put("crypto-stats", defaultConfig.entryTtl(Duration.ofMinutes(1)));
+                // Resumen del mercado - 1 hora (se reemplaza al terminar cada sincronización)
+                cacheConfigurations.put("market-summary",
+                                typedCacheConfiguration(MarketSummary.class).entryTtl(Duration.ofHours(1)));
 
                 // Respuestas de CoinGecko API - 30 segundos (para respetar rate limiting)
                 cacheConfigurations.put("coingecko-api", defaultConfig.entryTtl(Duration.ofSeconds(30)));
+                return cacheConfigurations;
+        }
 
-                // Estado del scheduler - 1 minuto
-                cacheConfigurations.put("scheduler-status", defaultConfig.entryTtl(Duration.ofMinutes(1)));
+        private static <T> RedisCacheConfiguration typedCacheConfiguration(Class<T> type) {
+                return baseCacheConfiguration(new Jackson2JsonRedisSerializer<>(cacheObjectMapper(), type));
+        }
 
-                logger.info("✅ Redis Cache configurado:");
-                logger.info("   - crypto-list: 5 minutos TTL");
-                logger.info("   - crypto-details: 2 minutos TTL");
-                logger.info("   - crypto-stats: 1 minuto TTL");
-                logger.info("   - coingecko-api: 30 segundos TTL");
-                logger.info("   - scheduler-status: 1 minuto TTL");
+        private static RedisCacheConfiguration baseCacheConfiguration(RedisSerializer<?> valueSerializer) {
+                return RedisCacheConfiguration.defaultCacheConfig()
+                                .entryTtl(Duration.ofMinutes(5))
+                                .serializeKeysWith(
+                                                RedisSerializationContext.SerializationPair
+                                                                .fromSerializer(new StringRedisSerializer()))
+                                .serializeValuesWith(
+                                                RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer))
+                                .disableCachingNullValues();
+        }
 
-                return RedisCacheManager.builder(connectionFactory)
-                                .cacheDefaults(defaultConfig)
-                                .withInitialCacheConfigurations(cacheConfigurations)
-                                .transactionAware()
-                                .build();
+        private static ObjectMapper cacheObjectMapper() {
+                ObjectMapper objectMapper = new ObjectMapper();
+                objectMapper.registerModule(new JavaTimeModule());
+                objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+                objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+                return objectMapper;
+        }
+
+        @Bean
+        public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+                        RedisConnectionFactory connectionFactory, TwoTierCacheManager cacheManager) {
+                RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+                        @Override
+                        public void start() {
+                                // Sin Redis el servicio debe arrancar igual; el contenedor reintenta la suscripción
+                                try {
+                                        super.start();
+                                } catch (RuntimeException e) {
+                                        RedisConfig.logger.warn("⚠️  Suscripción a invalidaciones de caché pendiente: {}", e.getMessage());
+                                }
+                        }
+                };
+                container.setConnectionFactory(connectionFactory);
+                container.addMessageListener(cacheManager,
+                                new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL));
+                return container;
         }
 
         @Bean
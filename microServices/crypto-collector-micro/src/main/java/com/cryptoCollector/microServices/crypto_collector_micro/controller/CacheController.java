@@ -43,8 +43,7 @@ public class CacheController {
             info.put("cacheDescriptions", Map.of(
                     "crypto-list", "Lista paginada de criptomonedas (TTL: 5 min)",
                     "crypto-details", "Detalles de criptomoneda individual (TTL: 2 min)",
-                    "crypto-stats", "Estadísticas generales (TTL: 1 min)",
-                    "scheduler-status", "Estado del scheduler (TTL: 1 min)",
+                    "market-summary", "Resumen del mercado de la última sincronización (TTL: 1 h)",
                     "coingecko-api", "Respuestas de CoinGecko API (TTL: 30 seg)"));
 
             logger.info("📊 Información de cachés solicitada");
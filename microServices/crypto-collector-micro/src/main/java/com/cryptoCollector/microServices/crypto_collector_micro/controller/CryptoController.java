@@ -1,18 +1,28 @@
 package com.cryptoCollector.microServices.crypto_collector_micro.controller;
 
+import java.time.OffsetDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.Candle;
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinSuggestion;
 import com.cryptoCollector.microServices.crypto_collector_micro.dto.CryptoResponse;
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CursorPage;
 import com.cryptoCollector.microServices.crypto_collector_micro.exception.ExternalApiException;
 import com.cryptoCollector.microServices.crypto_collector_micro.exception.ResourceNotFoundException;
 import com.cryptoCollector.microServices.crypto_collector_micro.mapper.CryptoMapper;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoSortField;
+import com.cryptoCollector.microServices.crypto_collector_micro.service.CandleService;
+import com.cryptoCollector.microServices.crypto_collector_micro.service.CoinSuggestService;
 import com.cryptoCollector.microServices.crypto_collector_micro.service.CryptoService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,6 +31,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @RestController
@@ -30,12 +41,16 @@ import reactor.core.publisher.Mono;
 public class CryptoController {
 
     private final CryptoService service;
+    private final CoinSuggestService suggestService;
+    private final CandleService candleService;
 
-    public CryptoController(CryptoService service) {
+    public CryptoController(CryptoService service, CoinSuggestService suggestService, CandleService candleService) {
         this.service = service;
+        this.suggestService = suggestService;
+        this.candleService = candleService;
     }
 
-    @Operation(summary = "Sincronizar criptomonedas desde CoinGecko", description = "Sincroniza hasta 1000 criptomonedas desde la API de CoinGecko. ADVERTENCIA: Puede tomar varios minutos debido a rate limiting.")
+    @Operation(summary = "Sincronizar criptomonedas desde CoinGecko", description = "Sincroniza las criptomonedas del universo configurado (crypto.sync.universe-size, 1000 por defecto) desde la API de CoinGecko. ADVERTENCIA: Puede tomar varios minutos debido a rate limiting.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Sincronización exitosa"),
             @ApiResponse(responseCode = "502", description = "Error al comunicarse con CoinGecko API")
@@ -43,10 +58,19 @@ public class CryptoController {
     @PostMapping("/sync")
     public Mono<ResponseEntity<Map<String, Object>>> sync() {
         return service.syncFromRemoteReactive()
-                .map(count -> {
+                .map(result -> {
                     Map<String, Object> body = new HashMap<>();
-                    body.put("status", "OK");
-                    body.put("synced", count);
+                    body.put("status", result.getPagesFailed() == 0 ? "OK" : "PARTIAL");
+                    body.put("synced", result.getSynced());
+                    body.put("changed", result.getChanged());
+                    body.put("skipped", result.getSkipped());
+                    body.put("pagesFetched", result.getPagesFetched());
+                    body.put("pagesFailed", result.getPagesFailed());
+                    body.put("pagesRetried", result.getPagesRetried());
+                    body.put("pagesResumed", result.getPagesResumed());
+                    body.put("durationMs", result.getDurationMs());
+                    body.put("rowsPerSecond", result.getRowsPerSecond());
+                    body.put("batchSize", result.getBatchSize());
                     return ResponseEntity.ok(body);
                 })
                 .onErrorResume(e -> {
@@ -55,9 +79,10 @@ public class CryptoController {
                 });
     }
 
-    @Operation(summary = "Listar criptomonedas con paginación", description = "Obtiene una lista paginada de criptomonedas con filtros opcionales")
+    @Operation(summary = "Listar criptomonedas con paginación", description = "Obtiene una lista paginada de criptomonedas con filtros opcionales. sortBy admite marketCapRank, currentPrice, marketCap, totalVolume, name, symbol y lastUpdated")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Campo de ordenamiento no soportado"),
             @ApiResponse(responseCode = "401", description = "No autorizado - Token JWT requerido")
     })
     @GetMapping("/list")
@@ -70,13 +95,11 @@ public class CryptoController {
 
         size = Math.min(size, 100);
 
-        // Crear Sort
-        Sort sort = dir.equalsIgnoreCase("desc")
-                ? Sort.by(sortBy).descending()
-                : Sort.by(sortBy).ascending();
+        // Solo campos con índice; el resto se rechaza con 400 antes de consultar la BD
+        CryptoSortField sortField = CryptoSortField.fromProperty(sortBy);
+        Sort.Direction direction = dir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
 
-        // Crear PageRequest
-        PageRequest pageRequest = PageRequest.of(page, size, sort);
+        PageRequest pageRequest = PageRequest.of(page, size, sortField.toSort(direction));
 
         return service.listCryptos(query, pageRequest)
                 .map(cryptoPage -> cryptoPage.map(CryptoMapper::toResponse))
@@ -84,6 +107,74 @@ public class CryptoController {
                 .defaultIfEmpty(ResponseEntity.noContent().build());
     }
 
+    @Operation(summary = "Listar criptomonedas con paginación keyset", description = "Variante de /list que se activa con el parámetro 'after'. Envíe after vacío para la primera página y luego el valor de nextCursor. No calcula el total de elementos y su latencia no depende de la profundidad de la página")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página obtenida exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Cursor u ordenamiento inválido"),
+            @ApiResponse(responseCode = "401", description = "No autorizado - Token JWT requerido")
+    })
+    @GetMapping(value = "/list", params = "after")
+    public Mono<ResponseEntity<CursorPage<CryptoResponse>>> listByCursor(
+            @Parameter(description = "Búsqueda por nombre o símbolo") @RequestParam(required = false) String query,
+            @Parameter(description = "Cursor opaco devuelto en nextCursor (vacío para la primera página)") @RequestParam String after,
+            @Parameter(description = "Tamaño de página (máximo 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Campo de ordenamiento") @RequestParam(defaultValue = "marketCapRank") String sortBy,
+            @Parameter(description = "Dirección de ordenamiento (asc/desc)") @RequestParam(defaultValue = "asc") String dir) {
+
+        size = Math.max(1, Math.min(size, 100));
+        CryptoSortField sortField = CryptoSortField.fromProperty(sortBy);
+        Sort.Direction direction = dir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+
+        return service.listCryptos(query, sortField, direction, after, size)
+                .map(cryptoPage -> cryptoPage.map(CryptoMapper::toResponse))
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Buscar criptomonedas por nombre o símbolo", description = "Búsqueda tolerante a errores de escritura ordenada por relevancia: símbolo exacto, prefijo de símbolo o nombre y similitud. Devuelve como máximo 'limit' resultados sin calcular el total")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resultados obtenidos"),
+            @ApiResponse(responseCode = "400", description = "Texto de búsqueda vacío"),
+            @ApiResponse(responseCode = "401", description = "No autorizado - Token JWT requerido")
+    })
+    @GetMapping("/search")
+    public Mono<ResponseEntity<List<CryptoResponse>>> search(
+            @Parameter(description = "Texto a buscar en nombre o símbolo") @RequestParam String q,
+            @Parameter(description = "Número máximo de resultados (máximo 50)") @RequestParam(defaultValue = "10") int limit) {
+
+        limit = Math.max(1, Math.min(limit, 50));
+
+        return service.searchCryptos(q, limit)
+                .map(results -> results.stream().map(CryptoMapper::toResponse).toList())
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Autocompletar criptomonedas", description = "Sugerencias por prefijo de símbolo o de cualquier palabra del nombre, ordenadas por ranking (el símbolo exacto primero). Se resuelve en memoria sin consultar la base de datos; el índice se actualiza tras cada sincronización")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sugerencias obtenidas"),
+            @ApiResponse(responseCode = "401", description = "No autorizado - Token JWT requerido")
+    })
+    @GetMapping("/suggest")
+    public Mono<ResponseEntity<List<CoinSuggestion>>> suggest(
+            @Parameter(description = "Prefijo escrito por el usuario") @RequestParam String q,
+            @Parameter(description = "Número máximo de sugerencias (máximo 20)") @RequestParam(defaultValue = "10") int limit) {
+
+        limit = Math.max(1, Math.min(limit, 20));
+
+        return Mono.just(ResponseEntity.ok(suggestService.suggest(q, limit)));
+    }
+
+    @Operation(summary = "Stream de todas las criptomonedas", description = "Emite todas las criptomonedas ordenadas por ranking como NDJSON (application/x-ndjson) o Server-Sent Events (text/event-stream), sin paginación y con memoria constante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream iniciado"),
+            @ApiResponse(responseCode = "401", description = "No autorizado - Token JWT requerido")
+    })
+    @GetMapping(value = "/stream", produces = { MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.TEXT_EVENT_STREAM_VALUE })
+    public Flux<CryptoResponse> stream() {
+        return service.streamAll()
+                .map(CryptoMapper::toResponse);
+    }
+
     @Operation(summary = "Obtener criptomoneda por ID", description = "Obtiene los detalles completos de una criptomoneda específica por su coinId (ej: bitcoin, ethereum)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Criptomoneda encontrada"),
@@ -100,6 +191,22 @@ public class CryptoController {
                         "Cryptocurrency", "coinId", coinId)));
     }
 
+    @Operation(summary = "Velas OHLC de una criptomoneda", description = "Velas de precio (open/high/low/close y volumen de 24 h) agregadas en cada sincronización a resoluciones de 1h, 6h, 1d y 1w, alineadas en UTC (las semanas empiezan el lunes). Como máximo 1000 velas por petición")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Velas obtenidas (vacío si no hay historial en el rango)"),
+            @ApiResponse(responseCode = "400", description = "Intervalo no soportado o rango inválido o demasiado amplio"),
+            @ApiResponse(responseCode = "401", description = "No autorizado - Token JWT requerido")
+    })
+    @GetMapping("/{coinId}/candles")
+    public Mono<ResponseEntity<List<Candle>>> getCandles(
+            @Parameter(description = "ID de la criptomoneda (ej: bitcoin, ethereum)") @PathVariable String coinId,
+            @Parameter(description = "Resolución: 1h, 6h, 1d o 1w") @RequestParam(defaultValue = "1h") String interval,
+            @Parameter(description = "Inicio ISO-8601 (por defecto, las últimas 100 velas)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @Parameter(description = "Fin exclusivo ISO-8601 (por defecto, ahora)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to) {
+        return candleService.getCandles(coinId, interval, from, to)
+                .map(ResponseEntity::ok);
+    }
+
     @Operation(summary = "Obtener estadísticas de la base de datos", description = "Muestra el total de criptomonedas sincronizadas y la última actualización")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Estadísticas obtenidas"),
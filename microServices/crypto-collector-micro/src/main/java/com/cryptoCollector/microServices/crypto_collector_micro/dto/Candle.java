@@ -0,0 +1,35 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Vela OHLC de una criptomoneda")
+public class Candle {
+
+    @Schema(description = "Inicio del intervalo (UTC)", example = "2025-01-15T06:00:00Z")
+    private OffsetDateTime time;
+
+    @Schema(description = "Precio del primer tick del intervalo en USD", example = "42150.0")
+    private Double open;
+
+    @Schema(description = "Precio máximo del intervalo en USD", example = "43020.5")
+    private Double high;
+
+    @Schema(description = "Precio mínimo del intervalo en USD", example = "41880.0")
+    private Double low;
+
+    @Schema(description = "Precio del último tick del intervalo en USD", example = "42900.0")
+    private Double close;
+
+    @Schema(description = "Volumen de 24 h informado por CoinGecko al cierre del intervalo", example = "25000000000")
+    private Double volume;
+}
@@ -0,0 +1,24 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Resultado de pedir una página de /coins/markets: sus monedas, o la página fallida tras agotar los reintentos.
+ */
+@Getter @AllArgsConstructor @ToString(exclude = "coins")
+public class CoinPage {
+    private int page;
+    private List<CoinGeckoCoin> coins;
+    private int retries;
+    private boolean failed;
+
+    public static CoinPage fetched(int page, List<CoinGeckoCoin> coins, int retries) {
+        return new CoinPage(page, coins, retries, false);
+    }
+
+    public static CoinPage failed(int page, int retries) {
+        return new CoinPage(page, List.of(), retries, true);
+    }
+}
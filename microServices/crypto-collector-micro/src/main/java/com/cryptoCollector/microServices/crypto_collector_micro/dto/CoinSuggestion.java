@@ -0,0 +1,27 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Sugerencia de autocompletado")
+public class CoinSuggestion {
+
+    @Schema(description = "ID de la moneda en CoinGecko", example = "bitcoin")
+    private String coinId;
+
+    @Schema(description = "Símbolo", example = "btc")
+    private String symbol;
+
+    @Schema(description = "Nombre", example = "Bitcoin")
+    private String name;
+
+    @Schema(description = "Ranking por capitalización de mercado", example = "1")
+    private Integer marketCapRank;
+}
@@ -0,0 +1,34 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página de resultados con paginación keyset (sin total de elementos)")
+public class CursorPage<T> {
+
+    @Schema(description = "Elementos de la página")
+    private List<T> content;
+
+    @Schema(description = "Tamaño de página solicitado", example = "20")
+    private int size;
+
+    @Schema(description = "Indica si existen más elementos después de esta página")
+    private boolean hasNext;
+
+    @Schema(description = "Cursor opaco para pedir la siguiente página (parámetro 'after')")
+    private String nextCursor;
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,33 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.dto;
+
+import lombok.*;
+
+import java.time.Duration;
+
+/**
+ * Páginas a pedir a CoinGecko en una sincronización, cuántas en paralelo y el intervalo
+ * mínimo entre peticiones que permite el plan de la API. La última página puede traer más monedas
+ * de las que faltan para completar el universo; esas se descartan (ver {@link #coinsOnPage(int)}).
+ */
+@Getter @AllArgsConstructor @EqualsAndHashCode @ToString
+public class FetchPlan {
+    private int totalPages;
+    private int perPage;
+    private int concurrency;
+    private Duration requestInterval;
+    private int universeSize;
+
+    /**
+     * Monedas de la página que pertenecen al universo: perPage salvo en la última página.
+     */
+    public int coinsOnPage(int page) {
+        return Math.max(0, Math.min(perPage, universeSize - (page - 1) * perPage));
+    }
+
+    /**
+     * Cota inferior de lo que tarda el fetch: el rate limiter no deja pedir más rápido.
+     */
+    public Duration estimatedDuration() {
+        return requestInterval.multipliedBy(totalPages);
+    }
+}
@@ -0,0 +1,17 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.dto;
+
+import lombok.*;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class SyncResult {
+    private long synced;
+    private long changed;
+    private long skipped;
+    private int pagesFetched;
+    private int pagesFailed;
+    private int pagesRetried;
+    private int pagesResumed;
+    private long durationMs;
+    private double rowsPerSecond;
+    private int batchSize;
+}
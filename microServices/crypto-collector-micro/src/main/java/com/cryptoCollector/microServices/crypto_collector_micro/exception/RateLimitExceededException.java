@@ -0,0 +1,17 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.exception;
+
+import java.time.Duration;
+
+public class RateLimitExceededException extends ExternalApiException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,158 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.exception;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Variante de {@link GlobalExceptionHandler} para el modo reactivo: mismas respuestas, pero la ruta
+ * se toma de {@link ServerHttpRequest} y los errores de binding son los de WebFlux.
+ */
+@Slf4j
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveGlobalExceptionHandler {
+
+        @ExceptionHandler(ResourceNotFoundException.class)
+        public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
+                        ResourceNotFoundException ex,
+                        ServerHttpRequest request) {
+
+                log.warn("Recurso no encontrado: {} - Path: {}", ex.getMessage(), request.getPath());
+                return build(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+        }
+
+        @ExceptionHandler(NoDataAvailableException.class)
+        public ResponseEntity<ErrorResponse> handleNoDataAvailableException(
+                        NoDataAvailableException ex,
+                        ServerHttpRequest request) {
+
+                log.warn("Datos no disponibles: {} - Path: {}", ex.getMessage(), request.getPath());
+                return build(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request);
+        }
+
+        @ExceptionHandler(ExternalApiException.class)
+        public ResponseEntity<ErrorResponse> handleExternalApiException(
+                        ExternalApiException ex,
+                        ServerHttpRequest request) {
+
+                log.error("Error en API externa: {} - Path: {}", ex.getMessage(), request.getPath(), ex);
+                return build(HttpStatus.BAD_GATEWAY,
+                                "Error al comunicarse con el servicio externo: " + ex.getMessage(), request);
+        }
+
+        @ExceptionHandler(AuthenticationException.class)
+        public ResponseEntity<ErrorResponse> handleAuthenticationException(
+                        AuthenticationException ex,
+                        ServerHttpRequest request) {
+
+                log.warn("Error de autenticación: {} - Path: {}", ex.getMessage(), request.getPath());
+                return build(HttpStatus.UNAUTHORIZED, "No autorizado", request);
+        }
+
+        @ExceptionHandler(AccessDeniedException.class)
+        public ResponseEntity<ErrorResponse> handleAccessDeniedException(
+                        AccessDeniedException ex,
+                        ServerHttpRequest request) {
+
+                log.warn("Acceso denegado: {} - Path: {}", ex.getMessage(), request.getPath());
+                return build(HttpStatus.FORBIDDEN, "Acceso denegado", request);
+        }
+
+        @ExceptionHandler(WebExchangeBindException.class)
+        public ResponseEntity<ErrorResponse> handleValidationException(
+                        WebExchangeBindException ex,
+                        ServerHttpRequest request) {
+
+                log.warn("Errores de validación en: {} - Total errores: {}",
+                                request.getPath(), ex.getBindingResult().getErrorCount());
+
+                List<ErrorResponse.FieldError> fieldErrors = new ArrayList<>();
+                for (FieldError error : ex.getBindingResult().getFieldErrors()) {
+                        fieldErrors.add(ErrorResponse.FieldError.builder()
+                                        .field(error.getField())
+                                        .message(error.getDefaultMessage())
+                                        .rejectedValue(error.getRejectedValue())
+                                        .build());
+                }
+
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                                .timestamp(LocalDateTime.now())
+                                .status(HttpStatus.BAD_REQUEST.value())
+                                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                                .message("Errores de validación en los campos")
+                                .path(request.getPath().value())
+                                .fieldErrors(fieldErrors)
+                                .build();
+
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
+        // Parámetros faltantes o de tipo incorrecto (equivale a MethodArgumentTypeMismatchException)
+        @ExceptionHandler(ServerWebInputException.class)
+        public ResponseEntity<ErrorResponse> handleInputException(
+                        ServerWebInputException ex,
+                        ServerHttpRequest request) {
+
+                log.warn("Parámetro inválido: {} - Path: {}", ex.getReason(), request.getPath());
+                return build(HttpStatus.BAD_REQUEST, ex.getReason(), request);
+        }
+
+        @ExceptionHandler(IllegalArgumentException.class)
+        public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
+                        IllegalArgumentException ex,
+                        ServerHttpRequest request) {
+
+                log.warn("Argumento ilegal: {} - Path: {}", ex.getMessage(), request.getPath());
+                return build(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+        }
+
+        // Rutas inexistentes, métodos no soportados, etc. conservan su código
+        @ExceptionHandler(ResponseStatusException.class)
+        public ResponseEntity<ErrorResponse> handleResponseStatusException(
+                        ResponseStatusException ex,
+                        ServerHttpRequest request) {
+
+                log.warn("Error {}: {} - Path: {}", ex.getStatusCode(), ex.getReason(), request.getPath());
+                return build(ex.getStatusCode(), ex.getReason(), request);
+        }
+
+        @ExceptionHandler(Exception.class)
+        public ResponseEntity<ErrorResponse> handleGenericException(
+                        Exception ex,
+                        ServerHttpRequest request) {
+
+                log.error("Error interno del servidor: {} - Path: {}", ex.getMessage(), request.getPath(), ex);
+                return build(HttpStatus.INTERNAL_SERVER_ERROR, "Error interno del servidor", request);
+        }
+
+        private static ResponseEntity<ErrorResponse> build(HttpStatusCode status, String message,
+                        ServerHttpRequest request) {
+                HttpStatus resolved = HttpStatus.resolve(status.value());
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                                .timestamp(LocalDateTime.now())
+                                .status(status.value())
+                                .error(resolved != null ? resolved.getReasonPhrase() : String.valueOf(status.value()))
+                                .message(message)
+                                .path(request.getPath().value())
+                                .build();
+
+                return ResponseEntity.status(status).body(errorResponse);
+        }
+}
@@ -1,5 +1,6 @@
 package com.cryptoCollector.microServices.crypto_collector_micro.filter;
 
+import com.cryptoCollector.microServices.crypto_collector_micro.util.InternalIdentity;
 import com.cryptoCollector.microServices.crypto_collector_micro.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -7,6 +8,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -19,55 +21,53 @@ import java.io.IOException;
 import java.util.List;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+    private static final List<SimpleGrantedAuthority> USER_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    private static final WebAuthenticationDetailsSource DETAILS_SOURCE = new WebAuthenticationDetailsSource();
     private final JwtUtil jwtUtil;
+    private final InternalIdentity internalIdentity;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, InternalIdentity internalIdentity) {
         this.jwtUtil = jwtUtil;
+        this.internalIdentity = internalIdentity;
     }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
-        boolean skip = path.startsWith("/actuator") ||
+        return path.startsWith("/actuator") ||
                 path.startsWith("/v3/api-docs") ||
                 path.startsWith("/swagger-ui") ||
                 path.startsWith("/api/public");
-        if (skip) {
-            logger.info("⏭️  Saltando filtro JWT para ruta pública: {}", path);
-        }
-        return skip;
     }
 
+    // Ruta caliente: sin logs por petición salvo en debug
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        final String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
-        logger.info("🔐 JWT Filter - Path: {} - Auth Header Present: {}", request.getRequestURI(), authHeader != null);
-
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            final String token = authHeader.substring(7);
-            logger.info("🔑 Token extraído (primeros 20 chars): {}...",
-                    token.substring(0, Math.min(20, token.length())));
-
-            String subject = jwtUtil.getSubjectFromToken(token);
-            logger.info("👤 Subject extraído del token: {}", subject);
-
-            if (subject != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                var auth = new UsernamePasswordAuthenticationToken(
-                        subject,
-                        null,
-                        List.of(new SimpleGrantedAuthority("ROLE_USER")));
-                auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            String subject = resolveSubject(request);
+            if (subject != null) {
+                var auth = new UsernamePasswordAuthenticationToken(subject, null, USER_AUTHORITIES);
+                auth.setDetails(DETAILS_SOURCE.buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(auth);
-                logger.info("✅ Autenticación establecida para: {} - isAuthenticated: {}",
-                        subject, auth.isAuthenticated());
-            } else if (subject == null) {
-                logger.warn("❌ No se pudo extraer subject del token - Token inválido");
+            } else {
+                logger.debug("❌ Token inválido - Path: {}", request.getRequestURI());
             }
         }
         filterChain.doFilter(request, response);
     }
+
+    // La identidad firmada por el gateway evita volver a verificar el JWT
+    private String resolveSubject(HttpServletRequest request) {
+        String subject = internalIdentity.verify(request.getHeader(InternalIdentity.HEADER));
+        if (subject != null) {
+            return subject;
+        }
+        String token = jwtUtil.extractTokenFromHeader(request.getHeader(HttpHeaders.AUTHORIZATION));
+        return token != null ? jwtUtil.getSubjectFromToken(token) : null;
+    }
 }
@@ -0,0 +1,67 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.filter;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.util.InternalIdentity;
+import com.cryptoCollector.microServices.crypto_collector_micro.util.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Equivalente reactivo de {@link JwtAuthenticationFilter}: valida el Bearer token en el event loop
+ * (solo CPU, sin E/S) y publica la autenticación en el contexto de Reactor.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationWebFilter.class);
+    private static final List<String> PUBLIC_PATHS = List.of("/actuator", "/v3/api-docs", "/swagger-ui",
+            "/webjars", "/api/public");
+    private static final List<SimpleGrantedAuthority> USER_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final JwtUtil jwtUtil;
+    private final InternalIdentity internalIdentity;
+
+    public JwtAuthenticationWebFilter(JwtUtil jwtUtil, InternalIdentity internalIdentity) {
+        this.jwtUtil = jwtUtil;
+        this.internalIdentity = internalIdentity;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        if (PUBLIC_PATHS.stream().anyMatch(path::startsWith)) {
+            return chain.filter(exchange);
+        }
+
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        // La identidad firmada por el gateway evita volver a verificar el JWT
+        String subject = internalIdentity.verify(headers.getFirst(InternalIdentity.HEADER));
+        if (subject == null) {
+            String token = jwtUtil.extractTokenFromHeader(headers.getFirst(HttpHeaders.AUTHORIZATION));
+            if (token == null) {
+                return chain.filter(exchange);
+            }
+            subject = jwtUtil.getSubjectFromToken(token);
+        }
+        if (subject == null) {
+            logger.debug("❌ Token inválido - Path: {}", path);
+            return chain.filter(exchange);
+        }
+
+        var auth = new UsernamePasswordAuthenticationToken(subject, null, USER_AUTHORITIES);
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth));
+    }
+}
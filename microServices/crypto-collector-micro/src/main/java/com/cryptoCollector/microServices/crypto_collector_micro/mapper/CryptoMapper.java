@@ -1,9 +1,14 @@
 package com.cryptoCollector.microServices.crypto_collector_micro.mapper;
 
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.Candle;
 import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinGeckoCoin;
 import com.cryptoCollector.microServices.crypto_collector_micro.dto.CryptoDto;
 import com.cryptoCollector.microServices.crypto_collector_micro.dto.CryptoResponse;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCandle;
 import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoPriceTick;
+
+import java.time.OffsetDateTime;
 
 public final class CryptoMapper {
     private CryptoMapper() {
@@ -51,6 +56,28 @@ public final class CryptoMapper {
         entity.setLastUpdated(coin.getLast_updated());
     }
 
+    public static CryptoPriceTick toPriceTick(CoinGeckoCoin coin, OffsetDateTime fallbackTs) {
+        return CryptoPriceTick.builder()
+                .coinId(coin.getId())
+                .ts(coin.getLast_updated() != null ? coin.getLast_updated() : fallbackTs)
+                .currentPrice(safeDouble(coin.getCurrent_price()))
+                .marketCap(safeDouble(coin.getMarket_cap()))
+                .totalVolume(safeDouble(coin.getTotal_volume()))
+                .marketCapRank(coin.getMarket_cap_rank())
+                .build();
+    }
+
+    public static Candle toCandle(CryptoCandle candle) {
+        return Candle.builder()
+                .time(candle.getBucketStart())
+                .open(candle.getOpenPrice())
+                .high(candle.getHighPrice())
+                .low(candle.getLowPrice())
+                .close(candle.getClosePrice())
+                .volume(candle.getVolume())
+                .build();
+    }
+
     private static Double safeDouble(Number n) {
         return n == null ? null : n.doubleValue();
     }
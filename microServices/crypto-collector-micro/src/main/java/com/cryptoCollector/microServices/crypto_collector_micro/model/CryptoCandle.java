@@ -0,0 +1,67 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+
+/**
+ * Vela OHLC agregada de los ticks de precio. Se actualiza de forma incremental con cada
+ * sincronización: open/close son los precios del primer y último tick dentro del intervalo.
+ */
+@Entity
+@Table(name = "crypto_candle")
+@IdClass(CryptoCandle.CandleId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CryptoCandle {
+
+    @Id
+    @Column(name = "coin_id", nullable = false, length = 128)
+    private String coinId;
+
+    // Código de CandleInterval: 1h, 6h, 1d, 1w
+    @Id
+    @Column(name = "resolution", nullable = false, length = 3)
+    private String resolution;
+
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private OffsetDateTime bucketStart;
+
+    @Column(name = "open_price", nullable = false)
+    private Double openPrice;
+
+    @Column(name = "high_price", nullable = false)
+    private Double highPrice;
+
+    @Column(name = "low_price", nullable = false)
+    private Double lowPrice;
+
+    @Column(name = "close_price", nullable = false)
+    private Double closePrice;
+
+    // Volumen de 24 h informado por CoinGecko en el tick de cierre
+    private Double volume;
+
+    @Column(name = "open_ts", nullable = false)
+    private OffsetDateTime openTs;
+
+    @Column(name = "close_ts", nullable = false)
+    private OffsetDateTime closeTs;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class CandleId implements Serializable {
+        private String coinId;
+        private String resolution;
+        private OffsetDateTime bucketStart;
+    }
+}
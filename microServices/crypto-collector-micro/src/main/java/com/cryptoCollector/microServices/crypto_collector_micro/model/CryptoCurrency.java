@@ -8,6 +8,15 @@ import java.time.OffsetDateTime;
 @Entity
 @Table(name = "cryptocurrency", uniqueConstraints = {
         @UniqueConstraint(columnNames = "coin_id")
+}, indexes = {
+        // Mismos índices que el changeset 6 de Liquibase, uno por CryptoSortField
+        @Index(name = "idx_cryptocurrency_market_cap_rank_id", columnList = "market_cap_rank, id"),
+        @Index(name = "idx_cryptocurrency_current_price_id", columnList = "current_price, id"),
+        @Index(name = "idx_cryptocurrency_market_cap_id", columnList = "market_cap, id"),
+        @Index(name = "idx_cryptocurrency_total_volume_id", columnList = "total_volume, id"),
+        @Index(name = "idx_cryptocurrency_name_id", columnList = "name, id"),
+        @Index(name = "idx_cryptocurrency_symbol_id", columnList = "symbol, id"),
+        @Index(name = "idx_cryptocurrency_last_updated_id", columnList = "last_updated, id")
 })
 @Getter
 @Setter
@@ -31,4 +40,7 @@ public class CryptoCurrency {
     private Double totalVolume;
 
     private OffsetDateTime lastUpdated;
+
+    // CoinFingerprint del último contenido escrito; null en filas anteriores a la columna
+    private Long contentHash;
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "crypto_price_tick")
+@IdClass(CryptoPriceTick.TickId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CryptoPriceTick {
+
+    @Id
+    @Column(name = "coin_id", nullable = false, length = 128)
+    private String coinId;
+
+    @Id
+    @Column(name = "ts", nullable = false)
+    private OffsetDateTime ts;
+
+    private Double currentPrice;
+    private Double marketCap;
+    private Double totalVolume;
+    private Integer marketCapRank;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class TickId implements Serializable {
+        private String coinId;
+        private OffsetDateTime ts;
+    }
+}
@@ -0,0 +1,62 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Resumen del mercado materializado al terminar cada sincronización. La tabla tiene una única
+ * fila (id = 1) que se reemplaza entera, de modo que leerla es una búsqueda por clave primaria.
+ */
+@Entity
+@Table(name = "market_summary")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MarketSummary {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "total_coins", nullable = false)
+    private Long totalCoins;
+
+    @Column(name = "total_market_cap")
+    private Double totalMarketCap;
+
+    @Column(name = "total_volume")
+    private Double totalVolume;
+
+    // Último last_updated informado por CoinGecko entre todas las monedas
+    @Column(name = "last_updated")
+    private OffsetDateTime lastUpdated;
+
+    // Momento de la sincronización que produjo el resumen (null si se calculó sin sincronizar)
+    @Column(name = "last_sync_at")
+    private OffsetDateTime lastSyncAt;
+
+    @Column(name = "top_gainer_coin_id", length = 128)
+    private String topGainerCoinId;
+
+    // Variación porcentual del precio respecto del tick de referencia (ventana crypto.summary.change-window)
+    @Column(name = "top_gainer_change")
+    private Double topGainerChange;
+
+    @Column(name = "top_loser_coin_id", length = 128)
+    private String topLoserCoinId;
+
+    @Column(name = "top_loser_change")
+    private Double topLoserChange;
+
+    // Media de las variaciones ponderada por capitalización de mercado
+    @Column(name = "weighted_price_change")
+    private Double weightedPriceChange;
+
+    @Column(name = "computed_at", nullable = false)
+    private OffsetDateTime computedAt;
+}
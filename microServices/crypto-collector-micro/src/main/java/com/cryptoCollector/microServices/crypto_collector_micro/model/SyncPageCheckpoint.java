@@ -0,0 +1,41 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "sync_page_checkpoint")
+@IdClass(SyncPageCheckpoint.CheckpointId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncPageCheckpoint {
+
+    @Id
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Id
+    @Column(name = "page", nullable = false)
+    private Integer page;
+
+    private Integer coins;
+
+    @Column(name = "completed_at", nullable = false)
+    private OffsetDateTime completedAt;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class CheckpointId implements Serializable {
+        private Long runId;
+        private Integer page;
+    }
+}
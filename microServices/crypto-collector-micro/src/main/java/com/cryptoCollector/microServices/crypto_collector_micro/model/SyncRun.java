@@ -0,0 +1,40 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "sync_run")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncRun {
+
+    public enum Status {
+        RUNNING, PARTIAL, COMPLETED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "total_pages", nullable = false)
+    private Integer totalPages;
+
+    @Column(name = "per_page", nullable = false)
+    private Integer perPage;
+
+    @Column(name = "started_at", nullable = false)
+    private OffsetDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private OffsetDateTime finishedAt;
+}
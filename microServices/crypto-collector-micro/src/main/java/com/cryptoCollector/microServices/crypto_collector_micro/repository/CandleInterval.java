@@ -0,0 +1,61 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+
+/**
+ * Resoluciones de las velas OHLC. Cada una es una partición de crypto_candle (changeset 8) y sus
+ * intervalos se alinean en UTC: las horas a múltiplos de su duración desde la época y las semanas
+ * al lunes (ISO 8601).
+ */
+public enum CandleInterval {
+
+    ONE_HOUR("1h", Duration.ofHours(1)),
+    SIX_HOURS("6h", Duration.ofHours(6)),
+    ONE_DAY("1d", Duration.ofDays(1)),
+    ONE_WEEK("1w", Duration.ofDays(7));
+
+    private final String code;
+    private final Duration duration;
+
+    CandleInterval(String code, Duration duration) {
+        this.code = code;
+        this.duration = duration;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Inicio de la vela que contiene {@code time}.
+     */
+    public OffsetDateTime bucketStart(OffsetDateTime time) {
+        OffsetDateTime utc = time.withOffsetSameInstant(ZoneOffset.UTC);
+        if (this == ONE_WEEK) {
+            return utc.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+        long seconds = duration.toSeconds();
+        long epochSecond = utc.toEpochSecond();
+        return OffsetDateTime.ofInstant(
+                Instant.ofEpochSecond(Math.floorDiv(epochSecond, seconds) * seconds), ZoneOffset.UTC);
+    }
+
+    public static CandleInterval fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(interval -> interval.code.equals(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Intervalo de velas no soportado: " + code + " (1h, 6h, 1d o 1w)"));
+    }
+}
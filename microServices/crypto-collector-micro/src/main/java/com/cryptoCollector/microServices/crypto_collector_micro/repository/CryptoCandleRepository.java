@@ -0,0 +1,16 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCandle;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+// Las lecturas son un rango de la clave primaria (coin_id, resolution, bucket_start) con LIMIT
+public interface CryptoCandleRepository
+        extends JpaRepository<CryptoCandle, CryptoCandle.CandleId>, CryptoCandleRollupRepository {
+
+    List<CryptoCandle> findByCoinIdAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+            String coinId, String resolution, OffsetDateTime from, OffsetDateTime to, Pageable pageable);
+}
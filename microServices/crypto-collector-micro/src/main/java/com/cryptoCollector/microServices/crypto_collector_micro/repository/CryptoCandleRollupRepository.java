@@ -0,0 +1,18 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoPriceTick;
+
+import java.util.Collection;
+
+/**
+ * Agregación incremental de ticks en velas OHLC: cada tick actualiza la vela de su intervalo en cada
+ * resolución (máximo, mínimo, y apertura/cierre si es anterior/posterior a los ya vistos) sin
+ * recalcular a partir del historial. Aplicar dos veces el mismo tick no cambia el resultado.
+ */
+public interface CryptoCandleRollupRepository {
+
+    /**
+     * @return filas de vela insertadas o actualizadas (una por tick con precio y resolución)
+     */
+    int rollup(Collection<CryptoPriceTick> ticks);
+}
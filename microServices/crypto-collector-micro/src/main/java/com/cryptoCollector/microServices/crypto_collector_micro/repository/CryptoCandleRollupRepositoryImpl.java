@@ -0,0 +1,125 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoPriceTick;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+public class CryptoCandleRollupRepositoryImpl implements CryptoCandleRollupRepository {
+
+    private static final String COLUMNS = "(coin_id, resolution, bucket_start, open_price, high_price, low_price, "
+            + "close_price, volume, open_ts, close_ts)";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int PARAMS_PER_ROW = 10;
+
+    // Límite de filas por sentencia multi-fila (PostgreSQL admite hasta 32767 parámetros)
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private static final String UPSERT_SUFFIX = " ON CONFLICT (coin_id, resolution, bucket_start) DO UPDATE SET "
+            + mergeSet("EXCLUDED");
+
+    private static final String MERGE_SQL = "MERGE INTO crypto_candle c USING (VALUES " + ROW_PLACEHOLDER + ") "
+            + "AS s" + COLUMNS + " ON c.coin_id = s.coin_id AND c.resolution = s.resolution "
+            + "AND c.bucket_start = s.bucket_start "
+            + "WHEN MATCHED THEN UPDATE SET " + mergeSet("s")
+            + " WHEN NOT MATCHED THEN INSERT " + COLUMNS + " VALUES (s.coin_id, s.resolution, s.bucket_start, "
+            + "s.open_price, s.high_price, s.low_price, s.close_price, s.volume, s.open_ts, s.close_ts)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public CryptoCandleRollupRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Expresiones de SET que combinan la vela existente (c) con la fila nueva, cuyo alias depende
+     * del dialecto: EXCLUDED en PostgreSQL, s en MERGE de H2.
+     */
+    private static String mergeSet(String source) {
+        return String.format("open_price = CASE WHEN %1$s.open_ts < c.open_ts "
+                + "THEN %1$s.open_price ELSE c.open_price END, "
+                + "open_ts = LEAST(c.open_ts, %1$s.open_ts), "
+                + "high_price = GREATEST(c.high_price, %1$s.high_price), "
+                + "low_price = LEAST(c.low_price, %1$s.low_price), "
+                + "close_price = CASE WHEN %1$s.close_ts >= c.close_ts THEN %1$s.close_price ELSE c.close_price END, "
+                + "volume = CASE WHEN %1$s.close_ts >= c.close_ts THEN %1$s.volume ELSE c.volume END, "
+                + "close_ts = GREATEST(c.close_ts, %1$s.close_ts)", source);
+    }
+
+    @Override
+    public int rollup(Collection<CryptoPriceTick> ticks) {
+        List<CandleRow> rows = new ArrayList<>(ticks.size() * CandleInterval.values().length);
+        for (CryptoPriceTick tick : ticks) {
+            if (tick.getCurrentPrice() == null) {
+                continue;
+            }
+            for (CandleInterval interval : CandleInterval.values()) {
+                rows.add(new CandleRow(tick, interval.getCode(), interval.bucketStart(tick.getTs())));
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        // Mismo orden de bloqueo en todas las sentencias: dos sincronizaciones solapadas no se interbloquean
+        rows.sort(Comparator.comparing((CandleRow row) -> row.tick().getCoinId())
+                .thenComparing(CandleRow::resolution)
+                .thenComparing(CandleRow::bucketStart));
+
+        if (!isPostgres()) {
+            jdbcTemplate.batchUpdate(MERGE_SQL, rows, rows.size(), (ps, row) -> bindRow(ps, 0, row));
+            return rows.size();
+        }
+
+        int applied = 0;
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<CandleRow> chunk = rows.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, rows.size()));
+            String sql = "INSERT INTO crypto_candle AS c " + COLUMNS + " VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER))
+                    + UPSERT_SUFFIX;
+            applied += jdbcTemplate.update(sql, ps -> {
+                for (int i = 0; i < chunk.size(); i++) {
+                    bindRow(ps, i * PARAMS_PER_ROW, chunk.get(i));
+                }
+            });
+        }
+        return applied;
+    }
+
+    // Un tick aislado es una vela con open = high = low = close
+    private void bindRow(PreparedStatement ps, int offset, CandleRow row) throws SQLException {
+        CryptoPriceTick tick = row.tick();
+        Timestamp ts = Timestamp.from(tick.getTs().toInstant());
+        ps.setString(offset + 1, tick.getCoinId());
+        ps.setString(offset + 2, row.resolution());
+        ps.setTimestamp(offset + 3, Timestamp.from(row.bucketStart().toInstant()));
+        ps.setDouble(offset + 4, tick.getCurrentPrice());
+        ps.setDouble(offset + 5, tick.getCurrentPrice());
+        ps.setDouble(offset + 6, tick.getCurrentPrice());
+        ps.setDouble(offset + 7, tick.getCurrentPrice());
+        ps.setObject(offset + 8, tick.getTotalVolume(), Types.DOUBLE);
+        ps.setTimestamp(offset + 9, ts);
+        ps.setTimestamp(offset + 10, ts);
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> con.getMetaData()
+                    .getDatabaseProductName().toLowerCase().contains("postgres"));
+        }
+        return Boolean.TRUE.equals(postgres);
+    }
+
+    private record CandleRow(CryptoPriceTick tick, String resolution, OffsetDateTime bucketStart) {
+    }
+}
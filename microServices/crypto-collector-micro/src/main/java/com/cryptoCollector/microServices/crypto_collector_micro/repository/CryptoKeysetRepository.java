@@ -0,0 +1,22 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * Paginación keyset (seek): continúa después de la posición (valor, id) de la última fila
+ * en lugar de usar OFFSET, y no ejecuta COUNT.
+ */
+public interface CryptoKeysetRepository {
+
+    /**
+     * Devuelve hasta {@code limit} filas ordenadas por {@code field} (nulos al final) e id.
+     *
+     * @param afterValue valor de la clave de la última fila entregada; ignorado si {@code afterId} es null
+     * @param afterId    id de la última fila entregada o null para la primera página
+     */
+    List<CryptoCurrency> findPageAfter(String query, CryptoSortField field, Sort.Direction direction,
+            Object afterValue, Long afterId, int limit);
+}
@@ -0,0 +1,92 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CryptoKeysetRepositoryImpl implements CryptoKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CryptoCurrency> findPageAfter(String query, CryptoSortField field, Sort.Direction direction,
+            Object afterValue, Long afterId, int limit) {
+        String key = "c." + field.getProperty();
+        boolean asc = direction.isAscending();
+        String dir = asc ? "ASC" : "DESC";
+        String seek = asc ? ">" : "<";
+        String pattern = toLikePattern(query);
+        List<CryptoCurrency> page = new ArrayList<>(limit);
+
+        // Las filas con clave nula van siempre al final; se leen en una segunda consulta para que
+        // cada consulta sea un rango simple sobre el índice (clave, id)
+        boolean inNullTail = afterId != null && afterValue == null;
+        if (!inNullTail) {
+            StringBuilder jpql = new StringBuilder("SELECT c FROM CryptoCurrency c WHERE ")
+                    .append(key).append(" IS NOT NULL");
+            if (afterId != null) {
+                jpql.append(" AND ").append(key).append(' ').append(seek).append("= :afterValue")
+                        .append(" AND (").append(key).append(' ').append(seek).append(" :afterValue")
+                        .append(" OR c.id ").append(seek).append(" :afterId)");
+            }
+            appendQueryFilter(jpql, pattern);
+            jpql.append(" ORDER BY ").append(key).append(' ').append(dir).append(", c.id ").append(dir);
+
+            TypedQuery<CryptoCurrency> typed = entityManager.createQuery(jpql.toString(), CryptoCurrency.class)
+                    .setMaxResults(limit);
+            if (afterId != null) {
+                typed.setParameter("afterValue", afterValue).setParameter("afterId", afterId);
+            }
+            bindQueryFilter(typed, pattern);
+            page.addAll(typed.getResultList());
+        }
+
+        if (page.size() < limit) {
+            StringBuilder jpql = new StringBuilder("SELECT c FROM CryptoCurrency c WHERE ")
+                    .append(key).append(" IS NULL");
+            if (inNullTail) {
+                jpql.append(" AND c.id ").append(seek).append(" :afterId");
+            }
+            appendQueryFilter(jpql, pattern);
+            jpql.append(" ORDER BY c.id ").append(dir);
+
+            TypedQuery<CryptoCurrency> typed = entityManager.createQuery(jpql.toString(), CryptoCurrency.class)
+                    .setMaxResults(limit - page.size());
+            if (inNullTail) {
+                typed.setParameter("afterId", afterId);
+            }
+            bindQueryFilter(typed, pattern);
+            page.addAll(typed.getResultList());
+        }
+        return page;
+    }
+
+    private void appendQueryFilter(StringBuilder jpql, String pattern) {
+        if (pattern != null) {
+            jpql.append(" AND (LOWER(c.name) LIKE :pattern ESCAPE '!' OR LOWER(c.symbol) LIKE :pattern ESCAPE '!')");
+        }
+    }
+
+    private void bindQueryFilter(TypedQuery<CryptoCurrency> typed, String pattern) {
+        if (pattern != null) {
+            typed.setParameter("pattern", pattern);
+        }
+    }
+
+    private String toLikePattern(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            return null;
+        }
+        String escaped = query.trim().toLowerCase()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,21 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoPriceTick;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Escritura append-only del historial de precios.
+ * Los ticks repetidos (misma moneda y mismo instante) se ignoran.
+ */
+public interface CryptoPriceTickBulkRepository {
+
+    int appendTicks(List<CryptoPriceTick> ticks);
+
+    /**
+     * Crea las particiones mensuales desde {@code from} hasta {@code monthsAhead} meses después.
+     * No hace nada en bases de datos sin particionado (H2).
+     */
+    void ensureMonthlyPartitions(YearMonth from, int monthsAhead);
+}
@@ -0,0 +1,110 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoPriceTick;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CryptoPriceTickBulkRepositoryImpl implements CryptoPriceTickBulkRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(CryptoPriceTickBulkRepositoryImpl.class);
+
+    private static final String COLUMNS = "(coin_id, ts, current_price, market_cap, total_volume, market_cap_rank)";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    private static final int PARAMS_PER_ROW = 6;
+
+    // Límite de filas por sentencia multi-fila (PostgreSQL admite hasta 32767 parámetros)
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    // Límites de partición con zona explícita: sin ella PostgreSQL los interpreta en la zona de la sesión
+    private static final DateTimeFormatter PARTITION_BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ssx");
+
+    private static final String MERGE_SQL = "MERGE INTO crypto_price_tick " + COLUMNS
+            + " KEY (coin_id, ts) VALUES " + ROW_PLACEHOLDER;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Set<YearMonth> knownPartitions = ConcurrentHashMap.newKeySet();
+    private volatile Boolean postgres;
+
+    public CryptoPriceTickBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int appendTicks(List<CryptoPriceTick> ticks) {
+        if (ticks.isEmpty()) {
+            return 0;
+        }
+        if (!isPostgres()) {
+            jdbcTemplate.batchUpdate(MERGE_SQL, ticks, ticks.size(), (ps, tick) -> bindTick(ps, 0, tick));
+            return ticks.size();
+        }
+
+        int inserted = 0;
+        for (int from = 0; from < ticks.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<CryptoPriceTick> chunk = ticks.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, ticks.size()));
+            String sql = "INSERT INTO crypto_price_tick " + COLUMNS + " VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER))
+                    + " ON CONFLICT (coin_id, ts) DO NOTHING";
+            inserted += jdbcTemplate.update(sql, ps -> {
+                for (int i = 0; i < chunk.size(); i++) {
+                    bindTick(ps, i * PARAMS_PER_ROW, chunk.get(i));
+                }
+            });
+        }
+        return inserted;
+    }
+
+    @Override
+    public void ensureMonthlyPartitions(YearMonth from, int monthsAhead) {
+        if (!isPostgres()) {
+            return;
+        }
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = from.plusMonths(i);
+            if (knownPartitions.contains(month)) {
+                continue;
+            }
+            String partition = String.format("crypto_price_tick_p%d%02d", month.getYear(), month.getMonthValue());
+            jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF crypto_price_tick FOR VALUES FROM ('%s') TO ('%s')",
+                    partition, partitionBound(month), partitionBound(month.plusMonths(1))));
+            knownPartitions.add(month);
+            logger.debug("Partición {} disponible", partition);
+        }
+    }
+
+    private static String partitionBound(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).format(PARTITION_BOUND);
+    }
+
+    private void bindTick(PreparedStatement ps, int offset, CryptoPriceTick tick) throws SQLException {
+        ps.setString(offset + 1, tick.getCoinId());
+        ps.setTimestamp(offset + 2, Timestamp.from(tick.getTs().toInstant()));
+        ps.setObject(offset + 3, tick.getCurrentPrice(), Types.DOUBLE);
+        ps.setObject(offset + 4, tick.getMarketCap(), Types.DOUBLE);
+        ps.setObject(offset + 5, tick.getTotalVolume(), Types.DOUBLE);
+        ps.setObject(offset + 6, tick.getMarketCapRank(), Types.INTEGER);
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> con.getMetaData()
+                    .getDatabaseProductName().toLowerCase().contains("postgres"));
+        }
+        return Boolean.TRUE.equals(postgres);
+    }
+}
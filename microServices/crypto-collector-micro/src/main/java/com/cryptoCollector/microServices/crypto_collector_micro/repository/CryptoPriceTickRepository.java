@@ -0,0 +1,23 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoPriceTick;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// Todas las consultas filtran por coin_id y rango de ts para usar el índice cubriente (coin_id, ts)
+public interface CryptoPriceTickRepository
+        extends JpaRepository<CryptoPriceTick, CryptoPriceTick.TickId>, CryptoPriceTickBulkRepository {
+
+    List<CryptoPriceTick> findByCoinIdAndTsBetweenOrderByTsAsc(String coinId, OffsetDateTime from,
+            OffsetDateTime to);
+
+    Slice<CryptoPriceTick> findByCoinIdAndTsGreaterThanEqualAndTsLessThanOrderByTsAsc(String coinId,
+            OffsetDateTime from, OffsetDateTime to, Pageable pageable);
+
+    Optional<CryptoPriceTick> findFirstByCoinIdAndTsLessThanEqualOrderByTsDesc(String coinId, OffsetDateTime at);
+}
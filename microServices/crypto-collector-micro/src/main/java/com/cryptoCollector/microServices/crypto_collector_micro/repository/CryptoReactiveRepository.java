@@ -0,0 +1,145 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Acceso no bloqueante (R2DBC) a la tabla cryptocurrency para la sincronización y las lecturas
+ * por moneda. Las escrituras participan en la transacción reactiva activa (R2dbcTransactionManager)
+ * si se ejecutan dentro de un TransactionalOperator.
+ */
+@Repository
+public class CryptoReactiveRepository {
+
+    private static final String COLUMNS = "id, coin_id, name, symbol, market_cap_rank, current_price, "
+            + "market_cap, total_volume, last_updated, content_hash";
+
+    private static final String WRITE_COLUMNS = "(coin_id, name, symbol, market_cap_rank, current_price, "
+            + "market_cap, total_volume, last_updated, content_hash)";
+
+    private static final String VALUES = " VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9)";
+
+    private static final String UPSERT_SQL = "INSERT INTO cryptocurrency " + WRITE_COLUMNS + VALUES
+            + " ON CONFLICT (coin_id) DO UPDATE SET name = EXCLUDED.name, symbol = EXCLUDED.symbol, "
+            + "market_cap_rank = EXCLUDED.market_cap_rank, current_price = EXCLUDED.current_price, "
+            + "market_cap = EXCLUDED.market_cap, total_volume = EXCLUDED.total_volume, "
+            + "last_updated = EXCLUDED.last_updated, content_hash = EXCLUDED.content_hash";
+
+    // H2 no soporta ON CONFLICT; MERGE ... KEY es equivalente
+    private static final String MERGE_SQL = "MERGE INTO cryptocurrency " + WRITE_COLUMNS + " KEY (coin_id)" + VALUES;
+
+    private final DatabaseClient databaseClient;
+    private final boolean postgres;
+
+    public CryptoReactiveRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+        this.postgres = databaseClient.getConnectionFactory().getMetadata().getName()
+                .toLowerCase().contains("postgres");
+    }
+
+    public Mono<CryptoCurrency> findByCoinId(String coinId) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM cryptocurrency WHERE coin_id = $1")
+                .bind(0, coinId)
+                .map(CryptoReactiveRepository::mapRow)
+                .one();
+    }
+
+    public Flux<CryptoCurrency> findAllByCoinIdIn(Collection<String> coinIds) {
+        if (coinIds.isEmpty()) {
+            return Flux.empty();
+        }
+        String placeholders = IntStream.rangeClosed(1, coinIds.size())
+                .mapToObj(i -> "$" + i)
+                .collect(Collectors.joining(", "));
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                "SELECT " + COLUMNS + " FROM cryptocurrency WHERE coin_id IN (" + placeholders + ")");
+        int index = 0;
+        for (String coinId : coinIds) {
+            spec = spec.bind(index++, coinId);
+        }
+        return spec.map(CryptoReactiveRepository::mapRow).all();
+    }
+
+    public Mono<Long> count() {
+        return databaseClient.sql("SELECT COUNT(*) AS total FROM cryptocurrency")
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+
+    /**
+     * Instante de actualización más reciente; vacío si no hay filas con last_updated.
+     */
+    public Mono<OffsetDateTime> findLatestLastUpdated() {
+        return databaseClient.sql("SELECT MAX(last_updated) AS latest FROM cryptocurrency")
+                .map(row -> Optional.ofNullable(row.get("latest", OffsetDateTime.class)))
+                .one()
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    /**
+     * Inserta o actualiza por coin_id en una sola sentencia con un binding por fila.
+     */
+    public Mono<Long> bulkUpsert(List<CryptoCurrency> cryptos) {
+        if (cryptos.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(postgres ? UPSERT_SQL : MERGE_SQL);
+            for (int i = 0; i < cryptos.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                bindValues(statement, cryptos.get(i));
+            }
+            return Flux.from(statement.execute()).flatMap(Result::getRowsUpdated);
+        }).reduce(0L, Long::sum);
+    }
+
+    private static void bindValues(Statement statement, CryptoCurrency crypto) {
+        statement.bind(0, crypto.getCoinId());
+        bind(statement, 1, crypto.getName(), String.class);
+        bind(statement, 2, crypto.getSymbol(), String.class);
+        bind(statement, 3, crypto.getMarketCapRank(), Integer.class);
+        bind(statement, 4, crypto.getCurrentPrice(), Double.class);
+        bind(statement, 5, crypto.getMarketCap(), Double.class);
+        bind(statement, 6, crypto.getTotalVolume(), Double.class);
+        bind(statement, 7, crypto.getLastUpdated(), OffsetDateTime.class);
+        bind(statement, 8, crypto.getContentHash(), Long.class);
+    }
+
+    private static <T> void bind(Statement statement, int index, T value, Class<T> type) {
+        if (value != null) {
+            statement.bind(index, value);
+        } else {
+            statement.bindNull(index, type);
+        }
+    }
+
+    private static CryptoCurrency mapRow(Readable row) {
+        return CryptoCurrency.builder()
+                .id(row.get("id", Long.class))
+                .coinId(row.get("coin_id", String.class))
+                .name(row.get("name", String.class))
+                .symbol(row.get("symbol", String.class))
+                .marketCapRank(row.get("market_cap_rank", Integer.class))
+                .currentPrice(row.get("current_price", Double.class))
+                .marketCap(row.get("market_cap", Double.class))
+                .totalVolume(row.get("total_volume", Double.class))
+                .lastUpdated(row.get("last_updated", OffsetDateTime.class))
+                .contentHash(row.get("content_hash", Long.class))
+                .build();
+    }
+}
@@ -5,13 +5,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Collection;
-import java.util.List;
 import java.util.Optional;
 
-public interface CryptoRepository extends JpaRepository<CryptoCurrency, Long> {
+public interface CryptoRepository extends JpaRepository<CryptoCurrency, Long>, CryptoStreamingRepository,
+        CryptoKeysetRepository, CryptoSearchRepository {
     Optional<CryptoCurrency> findByCoinId(String coinId);
 
     Page<CryptoCurrency> findByNameContainingIgnoreCaseOrSymbolContainingIgnoreCase(String name, String symbol, Pageable pageable);
-    List<CryptoCurrency> findAllByCoinIdIn(Collection<String> coinIds);
 }
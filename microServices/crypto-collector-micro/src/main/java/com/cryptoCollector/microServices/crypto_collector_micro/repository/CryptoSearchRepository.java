@@ -0,0 +1,19 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+
+import java.util.List;
+
+/**
+ * Búsqueda por nombre o símbolo ordenada por relevancia, limitada y sin COUNT.
+ * En PostgreSQL tolera errores de escritura usando los índices de trigramas (pg_trgm);
+ * en otras bases de datos solo encuentra subcadenas.
+ */
+public interface CryptoSearchRepository {
+
+    /**
+     * Monedas que contienen el texto: primero el símbolo exacto, luego los prefijos de símbolo o nombre
+     * y, a igual relevancia, por ranking. Si ninguna lo contiene (solo PostgreSQL), las más similares.
+     */
+    List<CryptoCurrency> search(String query, int limit);
+}
@@ -0,0 +1,63 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+public class CryptoSearchRepositoryImpl implements CryptoSearchRepository {
+
+    private static final String COLUMNS = "SELECT id, coin_id, name, symbol, market_cap_rank, current_price, "
+            + "market_cap, total_volume, last_updated FROM cryptocurrency ";
+
+    private static final String RELEVANCE = "CASE WHEN lower(symbol) = ? THEN 0 "
+            + "WHEN lower(symbol) LIKE ? ESCAPE '!' OR lower(name) LIKE ? ESCAPE '!' THEN 1 ELSE 2 END";
+
+    static final String CONTAINS_SQL = COLUMNS
+            + "WHERE lower(symbol) LIKE ? ESCAPE '!' OR lower(name) LIKE ? ESCAPE '!' "
+            + "ORDER BY " + RELEVANCE + ", market_cap_rank ASC NULLS LAST, id ASC LIMIT ?";
+
+    // Operador % (similitud >= pg_trgm.similarity_threshold, 0.3 por defecto). Solo se usa si ninguna
+    // moneda contiene el texto: con nombres parecidos ("Token 1", "Token 2"...) casi toda la tabla
+    // supera el umbral y ordenar por similitud dejaría de ser barato
+    static final String FUZZY_SQL = COLUMNS
+            + "WHERE lower(symbol) % ? OR lower(name) % ? "
+            + "ORDER BY greatest(similarity(lower(symbol), ?), similarity(lower(name), ?)) DESC, "
+            + "market_cap_rank ASC NULLS LAST, id ASC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public CryptoSearchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<CryptoCurrency> search(String query, int limit) {
+        String term = query.trim().toLowerCase();
+        String escaped = term.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        String contains = "%" + escaped + "%";
+        String prefix = escaped + "%";
+
+        // En PostgreSQL ambos filtros se resuelven con los índices GIN de trigramas (BitmapOr); con
+        // menos de 3 caracteres no hay trigramas que buscar y el planificador recorre la tabla
+        List<CryptoCurrency> matches = jdbcTemplate.query(CONTAINS_SQL,
+                (rs, rowNum) -> CryptoStreamingRepositoryImpl.mapRow(rs),
+                contains, contains, term, prefix, prefix, limit);
+        if (!matches.isEmpty() || !isPostgres()) {
+            return matches;
+        }
+        return jdbcTemplate.query(FUZZY_SQL,
+                (rs, rowNum) -> CryptoStreamingRepositoryImpl.mapRow(rs),
+                term, term, term, term, limit);
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> con.getMetaData()
+                    .getDatabaseProductName().toLowerCase().contains("postgres"));
+        }
+        return Boolean.TRUE.equals(postgres);
+    }
+}
@@ -0,0 +1,74 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import org.springframework.data.domain.Sort;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Campos de ordenamiento soportados por el listado de criptomonedas.
+ * Cada campo tiene un índice B-tree (columna, id) en la tabla cryptocurrency (changeset 6), de modo
+ * que cualquier ordenamiento permitido se lee en orden del índice con LIMIT en lugar de ordenar la
+ * tabla; los demás se rechazan. Cada campo sabe serializar su valor para los cursores keyset.
+ */
+public enum CryptoSortField {
+
+    MARKET_CAP_RANK("marketCapRank", "market_cap_rank", CryptoCurrency::getMarketCapRank, Integer::valueOf),
+    CURRENT_PRICE("currentPrice", "current_price", CryptoCurrency::getCurrentPrice, Double::valueOf),
+    MARKET_CAP("marketCap", "market_cap", CryptoCurrency::getMarketCap, Double::valueOf),
+    TOTAL_VOLUME("totalVolume", "total_volume", CryptoCurrency::getTotalVolume, Double::valueOf),
+    NAME("name", "name", CryptoCurrency::getName, Function.identity()),
+    SYMBOL("symbol", "symbol", CryptoCurrency::getSymbol, Function.identity()),
+    LAST_UPDATED("lastUpdated", "last_updated", CryptoCurrency::getLastUpdated, OffsetDateTime::parse);
+
+    private final String property;
+    private final String column;
+    private final Function<CryptoCurrency, ?> accessor;
+    private final Function<String, ?> parser;
+
+    CryptoSortField(String property, String column, Function<CryptoCurrency, ?> accessor,
+            Function<String, ?> parser) {
+        this.property = property;
+        this.column = column;
+        this.accessor = accessor;
+        this.parser = parser;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public String getIndexName() {
+        return "idx_cryptocurrency_" + column + "_id";
+    }
+
+    /**
+     * Orden por el campo y desempate por id en la misma dirección, tal como está el índice
+     * (PostgreSQL lo recorre hacia atrás para DESC).
+     */
+    public Sort toSort(Sort.Direction direction) {
+        return Sort.by(direction, property).and(Sort.by(direction, "id"));
+    }
+
+    public Object valueOf(CryptoCurrency crypto) {
+        return accessor.apply(crypto);
+    }
+
+    public Object parseValue(String raw) {
+        return raw == null ? null : parser.apply(raw);
+    }
+
+    public static CryptoSortField fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Campo de ordenamiento no soportado: " + property));
+    }
+}
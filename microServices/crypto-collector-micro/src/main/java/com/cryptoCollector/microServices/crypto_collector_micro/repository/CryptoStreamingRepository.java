@@ -0,0 +1,14 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+
+import java.util.stream.Stream;
+
+/**
+ * Lectura de toda la tabla con un cursor JDBC.
+ * El Stream mantiene abierta una conexión hasta que se cierra, por lo que siempre debe cerrarse.
+ */
+public interface CryptoStreamingRepository {
+
+    Stream<CryptoCurrency> streamAllByRank(int fetchSize);
+}
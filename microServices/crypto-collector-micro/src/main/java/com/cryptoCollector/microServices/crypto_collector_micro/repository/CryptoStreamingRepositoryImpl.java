@@ -0,0 +1,125 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class CryptoStreamingRepositoryImpl implements CryptoStreamingRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(CryptoStreamingRepositoryImpl.class);
+
+    private static final String STREAM_SQL = "SELECT id, coin_id, name, symbol, market_cap_rank, current_price, "
+            + "market_cap, total_volume, last_updated FROM cryptocurrency "
+            + "ORDER BY market_cap_rank ASC NULLS LAST, id ASC";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CryptoStreamingRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Stream<CryptoCurrency> streamAllByRank(int fetchSize) {
+        Connection con = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        try {
+            // Conexión propia (fuera de cualquier transacción de Spring): PostgreSQL solo
+            // usa un cursor con fetchSize cuando autocommit está desactivado
+            con = jdbcTemplate.getDataSource().getConnection();
+            con.setAutoCommit(false);
+            con.setReadOnly(true);
+            ps = con.prepareStatement(STREAM_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            rs = ps.executeQuery();
+
+            Cursor cursor = new Cursor(con, ps, rs);
+            return StreamSupport.stream(cursor, false).onClose(cursor::close);
+        } catch (SQLException e) {
+            closeQuietly(con, ps, rs);
+            throw jdbcTemplate.getExceptionTranslator().translate("streamAllByRank", STREAM_SQL, e);
+        }
+    }
+
+    static CryptoCurrency mapRow(ResultSet rs) throws SQLException {
+        return CryptoCurrency.builder()
+                .id(rs.getLong("id"))
+                .coinId(rs.getString("coin_id"))
+                .name(rs.getString("name"))
+                .symbol(rs.getString("symbol"))
+                .marketCapRank(rs.getObject("market_cap_rank", Integer.class))
+                .currentPrice(rs.getObject("current_price", Double.class))
+                .marketCap(rs.getObject("market_cap", Double.class))
+                .totalVolume(rs.getObject("total_volume", Double.class))
+                .lastUpdated(rs.getObject("last_updated", OffsetDateTime.class))
+                .build();
+    }
+
+    private static void closeQuietly(Connection con, PreparedStatement ps, ResultSet rs) {
+        JdbcUtils.closeResultSet(rs);
+        JdbcUtils.closeStatement(ps);
+        if (con != null) {
+            try {
+                con.rollback();
+                con.setAutoCommit(true);
+                con.setReadOnly(false);
+            } catch (SQLException e) {
+                logger.debug("No se pudo restaurar la conexión del cursor: {}", e.getMessage());
+            }
+            JdbcUtils.closeConnection(con);
+        }
+    }
+
+    private class Cursor extends Spliterators.AbstractSpliterator<CryptoCurrency> {
+
+        private final Connection con;
+        private final PreparedStatement ps;
+        private final ResultSet rs;
+        private boolean closed;
+
+        Cursor(Connection con, PreparedStatement ps, ResultSet rs) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.con = con;
+            this.ps = ps;
+            this.rs = rs;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super CryptoCurrency> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!rs.next()) {
+                    close();
+                    return false;
+                }
+                action.accept(mapRow(rs));
+                return true;
+            } catch (SQLException e) {
+                close();
+                throw jdbcTemplate.getExceptionTranslator().translate("streamAllByRank", STREAM_SQL, e);
+            }
+        }
+
+        void close() {
+            if (!closed) {
+                closed = true;
+                closeQuietly(con, ps, rs);
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.MarketSummary;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/**
+ * Agregados del mercado calculados en la BD: totales sobre cryptocurrency y variación de precio de
+ * cada moneda frente a su último tick anterior a {@code at - changeWindow}.
+ */
+public interface MarketSummaryAggregation {
+
+    /**
+     * Resumen sin persistir. Las monedas sin tick de referencia (historial desactivado o más reciente
+     * que la ventana) cuentan en los totales pero no en la variación.
+     */
+    MarketSummary aggregate(OffsetDateTime at, Duration changeWindow);
+}
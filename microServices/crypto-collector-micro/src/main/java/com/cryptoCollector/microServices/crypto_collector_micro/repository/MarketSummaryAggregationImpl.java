@@ -0,0 +1,95 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.MarketSummary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+public class MarketSummaryAggregationImpl implements MarketSummaryAggregation {
+
+    static final String TOTALS_SQL = "SELECT COUNT(*) AS total_coins, SUM(market_cap) AS total_market_cap, "
+            + "SUM(total_volume) AS total_volume, MAX(last_updated) AS last_updated FROM cryptocurrency";
+
+    // Un tick de referencia por moneda: el último dentro de (at - 2·ventana, at - ventana]. La subconsulta
+    // recorre el índice (coin_id, ts) hacia atrás y el límite inferior acota las particiones visitadas
+    static final String CHANGES_SQL = "SELECT c.coin_id, c.current_price, c.market_cap, t.current_price AS ref_price "
+            + "FROM cryptocurrency c JOIN crypto_price_tick t ON t.coin_id = c.coin_id "
+            + "AND t.ts = (SELECT MAX(r.ts) FROM crypto_price_tick r "
+            + "WHERE r.coin_id = c.coin_id AND r.ts <= ? AND r.ts > ?) "
+            + "WHERE c.current_price IS NOT NULL AND t.current_price > 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MarketSummaryAggregationImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public MarketSummary aggregate(OffsetDateTime at, Duration changeWindow) {
+        MarketSummary summary = jdbcTemplate.queryForObject(TOTALS_SQL, (rs, rowNum) -> MarketSummary.builder()
+                .id(MarketSummary.SINGLETON_ID)
+                .totalCoins(rs.getLong("total_coins"))
+                .totalMarketCap(rs.getObject("total_market_cap", Double.class))
+                .totalVolume(rs.getObject("total_volume", Double.class))
+                .lastUpdated(rs.getObject("last_updated", OffsetDateTime.class))
+                .computedAt(OffsetDateTime.now(ZoneOffset.UTC))
+                .build());
+
+        OffsetDateTime reference = at.minus(changeWindow);
+        ChangeAccumulator changes = new ChangeAccumulator();
+        jdbcTemplate.query(CHANGES_SQL, changes,
+                Timestamp.from(reference.toInstant()),
+                Timestamp.from(reference.minus(changeWindow).toInstant()));
+        changes.applyTo(summary);
+        return summary;
+    }
+
+    // Una sola pasada sobre las filas: mayor subida, mayor caída y media ponderada por capitalización
+    private static final class ChangeAccumulator implements RowCallbackHandler {
+        private String gainer;
+        private double gainerChange = Double.NEGATIVE_INFINITY;
+        private String loser;
+        private double loserChange = Double.POSITIVE_INFINITY;
+        private double weightedSum;
+        private double weightTotal;
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            double price = rs.getDouble("current_price");
+            double refPrice = rs.getDouble("ref_price");
+            double change = (price - refPrice) / refPrice * 100.0;
+            String coinId = rs.getString("coin_id");
+            if (change > gainerChange) {
+                gainer = coinId;
+                gainerChange = change;
+            }
+            if (change < loserChange) {
+                loser = coinId;
+                loserChange = change;
+            }
+            double marketCap = rs.getDouble("market_cap");
+            if (marketCap > 0) {
+                weightedSum += marketCap * change;
+                weightTotal += marketCap;
+            }
+        }
+
+        void applyTo(MarketSummary summary) {
+            if (gainer != null) {
+                summary.setTopGainerCoinId(gainer);
+                summary.setTopGainerChange(gainerChange);
+                summary.setTopLoserCoinId(loser);
+                summary.setTopLoserChange(loserChange);
+            }
+            if (weightTotal > 0) {
+                summary.setWeightedPriceChange(weightedSum / weightTotal);
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.MarketSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MarketSummaryRepository extends JpaRepository<MarketSummary, Long>, MarketSummaryAggregation {
+}
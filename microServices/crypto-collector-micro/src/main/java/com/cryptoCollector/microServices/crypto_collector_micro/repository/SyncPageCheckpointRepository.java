@@ -0,0 +1,20 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.SyncPageCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+public interface SyncPageCheckpointRepository
+        extends JpaRepository<SyncPageCheckpoint, SyncPageCheckpoint.CheckpointId> {
+
+    @Query("SELECT c.page FROM SyncPageCheckpoint c WHERE c.runId = :runId")
+    Set<Integer> findPagesByRunId(@Param("runId") Long runId);
+
+    @Query("SELECT MAX(c.completedAt) FROM SyncPageCheckpoint c WHERE c.runId = :runId")
+    Optional<OffsetDateTime> findLastCompletedAtByRunId(@Param("runId") Long runId);
+}
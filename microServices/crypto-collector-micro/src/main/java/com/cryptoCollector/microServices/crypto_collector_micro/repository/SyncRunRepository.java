@@ -0,0 +1,14 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.SyncRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface SyncRunRepository extends JpaRepository<SyncRun, Long> {
+
+    Optional<SyncRun> findFirstByStatusInAndStartedAtAfterOrderByStartedAtDesc(Collection<SyncRun.Status> statuses,
+            OffsetDateTime startedAfter);
+}
@@ -36,10 +36,19 @@ public class CryptoSyncScheduler {
             logger.info("=== Iniciando sincronizacion automatica de criptomonedas a las {} ===", startTime);
 
             cryptoService.syncFromRemoteReactive()
-                    .doOnSuccess(count -> {
+                    .doOnSuccess(result -> {
                         String endTime = LocalDateTime.now().format(formatter);
                         logger.info("Sincronizacion completada exitosamente a las {}", endTime);
-                        logger.info("  -> Total sincronizado: {} criptomonedas", count);
+                        logger.info("  -> Total sincronizado: {} criptomonedas ({} con cambios, {} sin cambios)",
+                                result.getSynced(), result.getChanged(), result.getSkipped());
+                        logger.info("  -> Duracion: {} ms ({} filas/s)", result.getDurationMs(),
+                                String.format("%.1f", result.getRowsPerSecond()));
+                        logger.info("  -> Paginas: {} ok, {} reintentadas, {} reanudadas", result.getPagesFetched(),
+                                result.getPagesRetried(), result.getPagesResumed());
+                        if (result.getPagesFailed() > 0) {
+                            logger.warn("  -> {} paginas fallaron; la proxima sincronizacion solo pedira las que faltan",
+                                    result.getPagesFailed());
+                        }
                     })
                     .doOnError(error -> {
                         String endTime = LocalDateTime.now().format(formatter);
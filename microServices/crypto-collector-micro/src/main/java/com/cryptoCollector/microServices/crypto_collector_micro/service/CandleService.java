@@ -0,0 +1,68 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.Candle;
+import com.cryptoCollector.microServices.crypto_collector_micro.mapper.CryptoMapper;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CandleInterval;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoCandleRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Consulta de velas OHLC ya agregadas. Cada petición lee como mucho {@link #MAX_CANDLES} filas
+ * contiguas del índice (coin_id, resolution, bucket_start), así que la latencia no depende de
+ * cuántas monedas ni cuántos años de historial haya.
+ */
+@Service
+public class CandleService {
+
+    public static final int MAX_CANDLES = 1000;
+    public static final int DEFAULT_CANDLES = 100;
+
+    private final CryptoCandleRepository candleRepository;
+    private final Scheduler blockingScheduler;
+
+    public CandleService(CryptoCandleRepository candleRepository, Scheduler blockingScheduler) {
+        this.candleRepository = candleRepository;
+        this.blockingScheduler = blockingScheduler;
+    }
+
+    /**
+     * Velas de {@code coinId} que empiezan en [from, to), con {@code from} alineado al inicio de su vela.
+     * Sin {@code to} se usa el instante actual y sin {@code from}, las últimas {@value #DEFAULT_CANDLES}
+     * velas. Los rangos de más de {@value #MAX_CANDLES} velas se rechazan.
+     */
+    public Mono<List<Candle>> getCandles(String coinId, String intervalCode, OffsetDateTime from, OffsetDateTime to) {
+        return Mono.fromCallable(() -> {
+            CandleInterval interval = CandleInterval.fromCode(intervalCode);
+            OffsetDateTime end = to != null ? to : OffsetDateTime.now(ZoneOffset.UTC);
+            OffsetDateTime start = interval.bucketStart(from != null
+                    ? from
+                    : end.minus(interval.getDuration().multipliedBy(DEFAULT_CANDLES - 1L)));
+            if (!start.isBefore(end)) {
+                throw new IllegalArgumentException("'from' debe ser anterior a 'to'");
+            }
+            if (start.plus(interval.getDuration().multipliedBy(MAX_CANDLES)).isBefore(end)) {
+                throw new IllegalArgumentException(String.format(
+                        "El rango pedido supera las %d velas de %s; use un intervalo mayor o un rango menor",
+                        MAX_CANDLES, interval.getCode()));
+            }
+            return new Range(interval, start, end);
+        }).flatMap(range -> Mono.fromCallable(() -> candleRepository
+                .findByCoinIdAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+                        coinId, range.interval().getCode(), range.start(), range.end(),
+                        PageRequest.of(0, MAX_CANDLES))
+                .stream()
+                .map(CryptoMapper::toCandle)
+                .toList())
+                .subscribeOn(blockingScheduler));
+    }
+
+    private record Range(CandleInterval interval, OffsetDateTime start, OffsetDateTime end) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import java.util.Locale;
+
+/**
+ * Planes de la API de CoinGecko: tasa de peticiones admitida, tamaño de página máximo que se
+ * usa y cabecera con la que se envía la API Key.
+ */
+public enum CoinGeckoApiTier {
+
+    PUBLIC(10, 50, null),
+    DEMO(30, 250, "x-cg-demo-api-key"),
+    PRO(500, 250, "x-cg-pro-api-key");
+
+    private final double requestsPerMinute;
+    private final int perPage;
+    private final String apiKeyHeader;
+
+    CoinGeckoApiTier(double requestsPerMinute, int perPage, String apiKeyHeader) {
+        this.requestsPerMinute = requestsPerMinute;
+        this.perPage = perPage;
+        this.apiKeyHeader = apiKeyHeader;
+    }
+
+    public double getRequestsPerMinute() {
+        return requestsPerMinute;
+    }
+
+    public int getPerPage() {
+        return perPage;
+    }
+
+    public String getApiKeyHeader() {
+        return apiKeyHeader;
+    }
+
+    /**
+     * {@code auto} elige DEMO si hay API Key y PUBLIC si no.
+     */
+    public static CoinGeckoApiTier resolve(String value, boolean hasApiKey) {
+        if (value == null || value.isBlank() || "auto".equalsIgnoreCase(value)) {
+            return hasApiKey ? DEMO : PUBLIC;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("coingecko.api.tier no válido: " + value
+                    + " (valores: auto, public, demo, pro)");
+        }
+    }
+}
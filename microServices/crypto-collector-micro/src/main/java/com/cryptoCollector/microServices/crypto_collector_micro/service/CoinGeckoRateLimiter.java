@@ -0,0 +1,157 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket para las llamadas a CoinGecko que se ajusta con lo que informa la propia API.
+ * <ul>
+ * <li>Las cabeceras {@code x-ratelimit-remaining}/{@code x-ratelimit-reset} recortan los tokens disponibles.</li>
+ * <li>Un 429 bloquea el bucket durante el {@code Retry-After} (o un backoff exponencial si no viene)
+ * y reduce a la mitad la tasa de reposición; cada respuesta correcta la recupera gradualmente.</li>
+ * </ul>
+ * {@link #acquire()} nunca bloquea: devuelve un Mono que espera lo necesario con un timer.
+ */
+public class CoinGeckoRateLimiter {
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(60);
+
+    private final double maxRatePerMinute;
+    private final double minRatePerMinute;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double ratePerMinute;
+    private double tokens;
+    private long lastRefillNanos;
+    private long blockedUntilNanos;
+    private int consecutiveThrottles;
+
+    public CoinGeckoRateLimiter(double requestsPerMinute, int burst) {
+        this(requestsPerMinute, burst, System::nanoTime);
+    }
+
+    CoinGeckoRateLimiter(double requestsPerMinute, int burst, LongSupplier nanoClock) {
+        if (requestsPerMinute <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("La tasa y la ráfaga del rate limiter deben ser mayores que 0");
+        }
+        this.maxRatePerMinute = requestsPerMinute;
+        this.minRatePerMinute = Math.max(requestsPerMinute / 16, 1);
+        this.ratePerMinute = requestsPerMinute;
+        this.capacity = burst;
+        this.tokens = burst;
+        this.nanoClock = nanoClock;
+        this.lastRefillNanos = nanoClock.getAsLong();
+        this.blockedUntilNanos = lastRefillNanos;
+    }
+
+    /**
+     * Reserva un token y completa cuando la llamada puede salir.
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long waitNanos = reserve();
+            return waitNanos <= 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+        });
+    }
+
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        long start = Math.max(now, blockedUntilNanos);
+        tokens -= 1;
+        long deficitNanos = tokens >= 0 ? 0 : (long) (-tokens * NANOS_PER_MINUTE / ratePerMinute);
+        return Math.max(start - now, deficitNanos);
+    }
+
+    public synchronized void onResponse(HttpHeaders headers) {
+        Long remaining = longHeader(headers, "x-ratelimit-remaining");
+        if (remaining != null) {
+            tokens = Math.min(tokens, remaining);
+            if (remaining <= 0) {
+                Long reset = longHeader(headers, "x-ratelimit-reset");
+                if (reset != null) {
+                    blockUntil(nanoClock.getAsLong() + resetDelay(reset).toNanos());
+                }
+            }
+        }
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveThrottles = 0;
+        // Incremento aditivo: recupera la tasa configurada en unas pocas respuestas correctas
+        ratePerMinute = Math.min(maxRatePerMinute, ratePerMinute + maxRatePerMinute / 8);
+    }
+
+    /**
+     * Registra un 429 y devuelve la espera aplicada.
+     */
+    public synchronized Duration onThrottled(Duration retryAfter) {
+        consecutiveThrottles++;
+        ratePerMinute = Math.max(minRatePerMinute, ratePerMinute / 2);
+        tokens = Math.min(tokens, 0);
+        Duration wait = retryAfter != null ? retryAfter : backoff(consecutiveThrottles);
+        blockUntil(nanoClock.getAsLong() + wait.toNanos());
+        return wait;
+    }
+
+    public synchronized double currentRatePerMinute() {
+        return ratePerMinute;
+    }
+
+    /**
+     * Interpreta {@code Retry-After} en segundos. Si no viene o no es numérico devuelve null.
+     */
+    public static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * ratePerMinute / NANOS_PER_MINUTE);
+            lastRefillNanos = now;
+        }
+    }
+
+    private void blockUntil(long nanos) {
+        blockedUntilNanos = Math.max(blockedUntilNanos, nanos);
+    }
+
+    private static Duration backoff(int attempt) {
+        long millis = MIN_BACKOFF.toMillis() << Math.min(attempt - 1, 6);
+        return Duration.ofMillis(Math.min(millis, MAX_BACKOFF.toMillis()));
+    }
+
+    // Algunos proxies envían el reset como epoch en segundos y otros como segundos restantes
+    private Duration resetDelay(long reset) {
+        long epochNow = System.currentTimeMillis() / 1000;
+        long seconds = reset > 1_000_000_000L ? reset - epochNow : reset;
+        return Duration.ofSeconds(Math.max(seconds, 1));
+    }
+
+    private static Long longHeader(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return (long) Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinSuggestion;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.util.CoinSuggestIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Autocompletado en memoria sin consultar la BD. El índice es inmutable: se reconstruye al arrancar y
+ * al terminar cada sincronización y se publica con un único cambio de referencia, de modo que las
+ * lecturas nunca esperan a la reconstrucción.
+ */
+@Service
+public class CoinSuggestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoinSuggestService.class);
+
+    private final CryptoRepository repository;
+    private final Scheduler blockingScheduler;
+    private final int fetchSize;
+    private final AtomicReference<CoinSuggestIndex> index = new AtomicReference<>(CoinSuggestIndex.EMPTY);
+    // Reconstrucciones en serie: la última en empezar lee los datos más recientes y publica la última
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public CoinSuggestService(CryptoRepository repository,
+            Scheduler blockingScheduler,
+            MeterRegistry meterRegistry,
+            @Value("${crypto.stream.fetch-size:200}") int fetchSize) {
+        this.repository = repository;
+        this.blockingScheduler = blockingScheduler;
+        this.fetchSize = fetchSize;
+        Gauge.builder("crypto.suggest.index.coins", index, ref -> ref.get().size())
+                .description("Monedas en el índice de autocompletado")
+                .register(meterRegistry);
+    }
+
+    public List<CoinSuggestion> suggest(String prefix, int limit) {
+        return index.get().suggest(prefix, limit);
+    }
+
+    public Mono<CoinSuggestIndex> rebuild() {
+        return Mono.fromCallable(() -> {
+            rebuildLock.lock();
+            try {
+                long start = System.nanoTime();
+                CoinSuggestIndex built;
+                try (Stream<CryptoCurrency> cryptos = repository.streamAllByRank(fetchSize)) {
+                    built = CoinSuggestIndex.build(cryptos::iterator);
+                }
+                index.set(built);
+                logger.info("🔤 Índice de autocompletado reconstruido: {} monedas en {} ms",
+                        built.size(), (System.nanoTime() - start) / 1_000_000);
+                return built;
+            } finally {
+                rebuildLock.unlock();
+            }
+        }).subscribeOn(blockingScheduler);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildInBackground();
+    }
+
+    @EventListener
+    public void onSyncCompleted(SyncEventPublisher.SyncCompleted event) {
+        rebuildInBackground();
+    }
+
+    private void rebuildInBackground() {
+        // Mientras tanto se sigue sirviendo el índice anterior
+        rebuild().subscribe(built -> {
+        }, e -> logger.warn("⚠️  No se pudo reconstruir el índice de autocompletado: {}", e.getMessage()));
+    }
+}
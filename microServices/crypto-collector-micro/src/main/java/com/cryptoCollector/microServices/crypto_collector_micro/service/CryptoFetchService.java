@@ -1,65 +1,150 @@
 package com.cryptoCollector.microServices.crypto_collector_micro.service;
 
+import com.cryptoCollector.microServices.crypto_collector_micro.codec.CoinGeckoCoinDecoder;
 import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinGeckoCoin;
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinPage;
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.FetchPlan;
+import com.cryptoCollector.microServices.crypto_collector_micro.exception.RateLimitExceededException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class CryptoFetchService {
 
         private static final Logger logger = LoggerFactory.getLogger(CryptoFetchService.class);
         private final WebClient webClient;
-        private final String apiKey;
+        private final FetchPlanner planner;
+        private final int maxRetries;
+        private final Duration retryMinBackoff;
+        private final Duration retryMaxBackoff;
+        private final CoinGeckoRateLimiter rateLimiter;
+        private final CoinGeckoCoinDecoder coinDecoder;
 
         public CryptoFetchService(WebClient.Builder webClientBuilder,
-                        @Value("${coingecko.api.key:}") String apiKey) {
-                this.apiKey = apiKey;
-                this.webClient = webClientBuilder
-                                .baseUrl("https://api.coingecko.com/api/v3")
-                                .defaultHeader("x-cg-demo-api-key", apiKey)
-                                .build();
-
-                if (apiKey != null && !apiKey.isEmpty()) {
-                        logger.info("CoinGecko API Key configurada - usando límites premium");
-                } else {
+                        FetchPlanner planner,
+                        @Value("${coingecko.api.key:}") String apiKey,
+                        @Value("${coingecko.api.base-url:https://api.coingecko.com/api/v3}") String baseUrl,
+                        @Value("${coingecko.fetch.max-retries:4}") int maxRetries,
+                        @Value("${coingecko.fetch.retry-min-backoff:500ms}") Duration retryMinBackoff,
+                        @Value("${coingecko.fetch.retry-max-backoff:30s}") Duration retryMaxBackoff,
+                        @Value("${coingecko.rate-limit.burst:4}") int burst,
+                        @Value("${coingecko.fetch.max-in-memory-size:256KB}") DataSize maxInMemorySize) {
+                this.planner = planner;
+                this.maxRetries = maxRetries;
+                this.retryMinBackoff = retryMinBackoff;
+                this.retryMaxBackoff = retryMaxBackoff;
+                // Las páginas se decodifican en streaming; el límite acota lo que se retiene de una sola
+                // moneda y cualquier cuerpo que se agregue entero (errores)
+                int maxBytes = (int) maxInMemorySize.toBytes();
+                this.coinDecoder = new CoinGeckoCoinDecoder(maxBytes);
+
+                CoinGeckoApiTier tier = planner.getTier();
+                WebClient.Builder builder = webClientBuilder
+                                .baseUrl(baseUrl)
+                                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxBytes));
+                if (tier.getApiKeyHeader() != null && apiKey != null && !apiKey.isEmpty()) {
+                        builder.defaultHeader(tier.getApiKeyHeader(), apiKey);
+                }
+                this.webClient = builder.build();
+                this.rateLimiter = new CoinGeckoRateLimiter(planner.getRequestsPerMinute(), burst);
+
+                if (tier == CoinGeckoApiTier.PUBLIC) {
                         logger.warn("CoinGecko API Key NO configurada - usando límites públicos");
+                } else {
+                        logger.info("CoinGecko API Key configurada - usando límites del plan {}", tier);
                 }
+                FetchPlan plan = planner.plan();
+                logger.info("CoinGecko rate limit: {} req/min, ráfaga {}. Universo de {} monedas: {} páginas de {}, "
+                                + "{} en paralelo, mínimo {} s por sincronización",
+                                planner.getRequestsPerMinute(), burst, planner.getUniverseSize(), plan.getTotalPages(),
+                                plan.getPerPage(), plan.getConcurrency(), plan.estimatedDuration().toSeconds());
+        }
+
+        /**
+         * Plan calculado por {@link FetchPlanner} a partir de {@code crypto.sync.universe-size} y el plan de la API.
+         */
+        public FetchPlan currentPlan() {
+                return planner.plan();
         }
 
-        public Flux<CoinGeckoCoin> fetchExactly1000Reactive() {
-                boolean hasApiKey = apiKey != null && !apiKey.isEmpty();
-
-                // Con API Key: 4 páginas de 250 items con delay corto
-                // Sin API Key: 20 páginas de 50 items con delay largo
-                int perPage = hasApiKey ? 250 : 50;
-                int totalPages = hasApiKey ? 4 : 20;
-                long delayMillis = hasApiKey ? 300 : 1200;
-
-                logger.info("Iniciando fetch de {} paginas con {} items cada una (API Key: {})",
-                                totalPages, perPage, hasApiKey ? "SI" : "NO");
-
-                return Flux.range(1, totalPages)
-                                .delayElements(Duration.ofMillis(delayMillis))
-                                .concatMap(page -> {
-                                        logger.debug("Fetching page {}/{}", page, totalPages);
-                                        return fetchPage(page, perPage);
-                                })
-                                .doOnComplete(() -> logger.info("Fetch completado exitosamente"))
-                                .doOnError(error -> logger.error("Error durante fetch: {}", error.getMessage()));
+        public Flux<CoinGeckoCoin> fetchUniverseReactive() {
+                return fetchPages(currentPlan(), Set.of())
+                                .flatMapIterable(CoinPage::getCoins);
+        }
+
+        /**
+         * Pide las páginas del plan salvo las de {@code skipPages}. Cada página se reintenta con
+         * backoff exponencial con jitter; si agota los reintentos se emite como fallida en lugar
+         * de cortar la sincronización.
+         */
+        public Flux<CoinPage> fetchPages(FetchPlan plan, Set<Integer> skipPages) {
+                logger.info("Iniciando fetch de {} paginas con {} items cada una ({} en paralelo, ya completadas: {})",
+                                plan.getTotalPages(), plan.getPerPage(), plan.getConcurrency(), skipPages.size());
+
+                // El ritmo lo marca el rate limiter; flatMapSequential mantiene el orden de las páginas.
+                // Con prefetch 1 solo quedan en memoria las páginas en vuelo, sea cual sea el universo
+                return Flux.range(1, plan.getTotalPages())
+                                .filter(page -> !skipPages.contains(page))
+                                .flatMapSequential(page -> {
+                                        logger.debug("Fetching page {}/{}", page, plan.getTotalPages());
+                                        return fetchPageWithRetry(page, plan.getPerPage(), plan.coinsOnPage(page));
+                                }, plan.getConcurrency(), 1)
+                                .doOnComplete(() -> logger.info("Fetch completado"));
         }
 
         public Flux<CoinGeckoCoin> fetchSinglePage(int page, int perPage) {
                 logger.info("Fetching single page: {} with {} items", page, perPage);
-                return fetchPage(page, perPage);
+                return fetchPageWithRetry(page, perPage, perPage)
+                                .flatMapIterable(CoinPage::getCoins);
         }
 
-        private Flux<CoinGeckoCoin> fetchPage(int page, int perPage) {
+        CoinGeckoRateLimiter getRateLimiter() {
+                return rateLimiter;
+        }
+
+        private Mono<CoinPage> fetchPageWithRetry(int page, int perPage, int keep) {
+                AtomicInteger attempts = new AtomicInteger();
+                // Cada intento vuelve a pasar por el rate limiter, que ya aplica la espera de un 429
+                return Mono.defer(() -> {
+                        attempts.incrementAndGet();
+                        return rateLimiter.acquire().then(requestPage(page, perPage).collectList());
+                })
+                                .retryWhen(Retry.backoff(maxRetries, retryMinBackoff)
+                                                .maxBackoff(retryMaxBackoff)
+                                                .jitter(0.5)
+                                                .filter(CryptoFetchService::isRetryable)
+                                                .doBeforeRetry(signal -> logger.warn(
+                                                                "Reintentando página {} (intento {}): {}", page,
+                                                                signal.totalRetries() + 2, signal.failure().getMessage())))
+                                // La última página del plan se recorta al tamaño del universo
+                                .map(coins -> CoinPage.fetched(page,
+                                                coins.size() > keep ? coins.subList(0, keep) : coins,
+                                                attempts.get() - 1))
+                                .onErrorResume(error -> {
+                                        logger.error("Error fetching page {} tras {} intentos: {}", page,
+                                                        attempts.get(), error.getMessage());
+                                        return Mono.just(CoinPage.failed(page, attempts.get() - 1));
+                                });
+        }
+
+        private Flux<CoinGeckoCoin> requestPage(int page, int perPage) {
                 return webClient.get()
                                 .uri(uriBuilder -> uriBuilder
                                                 .path("/coins/markets")
@@ -69,11 +154,34 @@ public class CryptoFetchService {
                                                 .queryParam("page", page)
                                                 .queryParam("price_change_percentage", "24h")
                                                 .build())
-                                .retrieve()
-                                .bodyToFlux(CoinGeckoCoin.class)
-                                .onErrorResume(error -> {
-                                        logger.error("Error fetching page {}: {}", page, error.getMessage());
-                                        return Flux.empty();
-                                });
+                                .exchangeToFlux(response -> handleResponse(response, page));
+        }
+
+        // 429, 5xx y fallos de red son transitorios; el resto de 4xx no mejora reintentando
+        private static boolean isRetryable(Throwable error) {
+                if (error instanceof RateLimitExceededException
+                                || error instanceof WebClientRequestException
+                                || error instanceof TimeoutException) {
+                        return true;
+                }
+                return error instanceof WebClientResponseException responseError
+                                && responseError.getStatusCode().is5xxServerError();
+        }
+
+        private Flux<CoinGeckoCoin> handleResponse(ClientResponse response, int page) {
+                rateLimiter.onResponse(response.headers().asHttpHeaders());
+                if (response.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                        Duration wait = rateLimiter.onThrottled(CoinGeckoRateLimiter.parseRetryAfter(
+                                        response.headers().asHttpHeaders().getFirst("Retry-After")));
+                        logger.warn("CoinGecko 429 en página {} - esperando {} ms (tasa ajustada a {} req/min)",
+                                        page, wait.toMillis(), String.format("%.1f", rateLimiter.currentRatePerMinute()));
+                        return response.releaseBody().thenMany(Flux.error(new RateLimitExceededException(
+                                        "CoinGecko rate limit alcanzado en página " + page, wait)));
+                }
+                if (response.statusCode().isError()) {
+                        return response.<CoinGeckoCoin>createError().flux();
+                }
+                rateLimiter.onSuccess();
+                return coinDecoder.decode(response.body(BodyExtractors.toDataBuffers()));
         }
 }
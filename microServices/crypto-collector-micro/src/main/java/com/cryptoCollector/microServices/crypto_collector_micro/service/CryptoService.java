@@ -1,57 +1,311 @@
 package com.cryptoCollector.microServices.crypto_collector_micro.service;
 
+import com.cryptoCollector.microServices.crypto_collector_micro.cache.ReactiveCacheOperations;
+import com.cryptoCollector.microServices.crypto_collector_micro.cache.SingleFlight;
 import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinGeckoCoin;
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinPage;
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CursorPage;
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.FetchPlan;
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.SyncResult;
 import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.SyncRun;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoReactiveRepository;
 import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoSortField;
+import com.cryptoCollector.microServices.crypto_collector_micro.util.CoinFingerprint;
+import com.cryptoCollector.microServices.crypto_collector_micro.util.KeysetCursor;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 @Service
 public class CryptoService {
 
     private static final Logger logger = LoggerFactory.getLogger(CryptoService.class);
     private final CryptoRepository repository;
+    private final CryptoReactiveRepository reactiveRepository;
+    private final PriceHistoryService priceHistoryService;
+    private final SyncCheckpointService checkpointService;
     private final CryptoFetchService fetchService;
+    private final ReactiveCacheOperations cacheOperations;
+    private final SyncEventPublisher syncEventPublisher;
+    private final MarketSummaryService marketSummaryService;
+    private final TransactionalOperator transactionalOperator;
+    // Todas las llamadas bloqueantes a repositorios JPA/JDBC (ver BlockingSchedulerConfig)
+    private final Scheduler blockingScheduler;
+    private final SingleFlight<String, CryptoCurrency> coinLookups;
+    // Una sola sincronización a la vez por instancia: el cron y POST /sync comparten la que está en curso
+    private final SingleFlight<String, SyncResult> syncs;
+    // Huella del último contenido escrito por moneda; acotado al universo sincronizado
+    private final Map<String, Long> fingerprints = new ConcurrentHashMap<>();
+    private final Counter changedRows;
+    private final Counter skippedRows;
+    private final int batchSize;
+    private final int streamFetchSize;
 
     public CryptoService(CryptoRepository repository,
-            CryptoFetchService fetchService) {
+            CryptoReactiveRepository reactiveRepository,
+            PriceHistoryService priceHistoryService,
+            SyncCheckpointService checkpointService,
+            CryptoFetchService fetchService,
+            ReactiveCacheOperations cacheOperations,
+            SyncEventPublisher syncEventPublisher,
+            MarketSummaryService marketSummaryService,
+            TransactionalOperator transactionalOperator,
+            Scheduler blockingScheduler,
+            MeterRegistry meterRegistry,
+            @Value("${crypto.sync.batch-size:250}") int batchSize,
+            @Value("${crypto.stream.fetch-size:200}") int streamFetchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("crypto.sync.batch-size debe ser mayor que 0");
+        }
         this.repository = repository;
+        this.reactiveRepository = reactiveRepository;
+        this.priceHistoryService = priceHistoryService;
+        this.checkpointService = checkpointService;
         this.fetchService = fetchService;
+        this.cacheOperations = cacheOperations;
+        this.syncEventPublisher = syncEventPublisher;
+        this.marketSummaryService = marketSummaryService;
+        this.transactionalOperator = transactionalOperator;
+        this.blockingScheduler = blockingScheduler;
+        this.coinLookups = new SingleFlight<>("crypto-lookup", meterRegistry);
+        this.syncs = new SingleFlight<>("crypto-sync", meterRegistry);
+        this.changedRows = Counter.builder("crypto.sync.rows").tag("result", "changed")
+                .description("Filas escritas por la sincronización").register(meterRegistry);
+        this.skippedRows = Counter.builder("crypto.sync.rows").tag("result", "skipped")
+                .description("Filas omitidas por no tener cambios").register(meterRegistry);
+        this.batchSize = batchSize;
+        this.streamFetchSize = streamFetchSize;
     }
 
-    @Transactional
-    @CacheEvict(value = { "crypto-list", "crypto-details", "crypto-stats", "scheduler-status" }, allEntries = true)
-    public Mono<Long> syncFromRemoteReactive() {
-        logger.info("🗑️  Limpiando TODOS los caches antes de sincronizar datos...");
-        return fetchService.fetchExactly1000Reactive()
-                .flatMap(this::upsertReactive)
-                .count()
-                .doOnSuccess(count -> logger.info("✅ Sincronización completa. {} cryptos actualizadas. Cache limpio.",
-                        count));
+    /**
+     * Sincroniza con CoinGecko sin vaciar las cachés: tras escribir cada lote se actualizan en
+     * crypto-details solo las monedas que cambiaron y, al terminar, se reemplazan las cachés agregadas.
+     * Cada página persistida queda registrada; si alguna falla tras sus reintentos, la siguiente
+     * sincronización reanuda la misma ejecución pidiendo solo las páginas que faltan.
+     * Las escrituras de cada página van en una transacción R2DBC; el checkpoint, el historial y
+     * las cachés se actualizan solo tras el commit. Al terminar se publica el fin de la
+     * sincronización para que el gateway invalide su caché de respuestas.
+     * Las llamadas que llegan con una sincronización en curso reciben el resultado de esa misma.
+     */
+    public Mono<SyncResult> syncFromRemoteReactive() {
+        return syncs.execute("sync", this::runSync);
     }
 
-    private Mono<CryptoCurrency> upsertReactive(CoinGeckoCoin coin) {
-        return Mono.fromCallable(() -> {
-            return repository.findByCoinId(coin.getId())
-                    .map(existing -> updateEntity(existing, coin))
-                    .orElseGet(() -> createEntity(coin));
-        })
-                .map(repository::save)
-                .subscribeOn(Schedulers.boundedElastic());
+    private Mono<SyncResult> runSync() {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            OffsetDateTime syncTime = OffsetDateTime.now(ZoneOffset.UTC);
+            FetchPlan plan = fetchService.currentPlan();
+            SyncTotals totals = new SyncTotals();
+            return Mono.fromCallable(() -> {
+                priceHistoryService.preparePartitions(syncTime);
+                SyncRun run = checkpointService.openRun(plan);
+                return new ResumePoint(run, checkpointService.completedPages(run));
+            }).subscribeOn(blockingScheduler)
+                    .flatMap(resume -> {
+                        totals.pagesResumed = resume.completedPages().size();
+                        // Se persiste página a página mientras llegan las siguientes; la memoria queda
+                        // acotada a las páginas en vuelo independientemente del tamaño del universo
+                        return fetchService.fetchPages(plan, resume.completedPages())
+                                .concatMap(page -> persistPage(resume.run(), page, syncTime, totals), 1)
+                                .then(Mono.fromRunnable(() -> checkpointService.finishRun(resume.run(), totals.pagesFailed))
+                                        .subscribeOn(blockingScheduler));
+                    })
+                    .then(refreshAggregateCaches(syncTime))
+                    .then(Mono.fromSupplier(() -> buildSyncResult(totals, startNanos)))
+                    .flatMap(result -> Mono.fromRunnable(() -> syncEventPublisher.publishSyncCompleted(result))
+                            .subscribeOn(blockingScheduler)
+                            .thenReturn(result));
+        }).doOnSuccess(result -> logger.info(
+                "✅ Sincronización completa. {} cryptos procesadas ({} con cambios, {} sin cambios) en {} ms "
+                        + "({} filas/s). Páginas: {} ok, {} fallidas, {} reintentadas, {} reanudadas. Cache actualizado.",
+                result.getSynced(), result.getChanged(), result.getSkipped(), result.getDurationMs(),
+                String.format("%.1f", result.getRowsPerSecond()), result.getPagesFetched(),
+                result.getPagesFailed(), result.getPagesRetried(), result.getPagesResumed()));
+    }
+
+    private Mono<Void> persistPage(SyncRun run, CoinPage page, OffsetDateTime syncTime, SyncTotals totals) {
+        if (page.getRetries() > 0) {
+            totals.pagesRetried++;
+        }
+        if (page.isFailed()) {
+            // Sin checkpoint: la próxima sincronización la volverá a pedir
+            totals.pagesFailed++;
+            return Mono.empty();
+        }
+        Flux<BatchOutcome> writes = Flux.fromIterable(page.getCoins())
+                .buffer(batchSize)
+                .concatMap(this::upsertBatchReactive);
+        return transactionalOperator.transactional(writes)
+                .collectList()
+                .flatMap(batches -> afterPageCommit(run, page, syncTime, batches, totals));
+    }
+
+    private Mono<Void> afterPageCommit(SyncRun run, CoinPage page, OffsetDateTime syncTime,
+            List<BatchOutcome> batches, SyncTotals totals) {
+        Map<String, CryptoCurrency> cacheUpdates = new LinkedHashMap<>();
+        for (BatchOutcome batch : batches) {
+            totals.changed += batch.changed();
+            totals.skipped += batch.skipped();
+            changedRows.increment(batch.changed());
+            skippedRows.increment(batch.skipped());
+            fingerprints.putAll(batch.fingerprints());
+            cacheUpdates.putAll(batch.cacheUpdates());
+        }
+        // Una misma moneda puede repetirse si el ranking cambia entre páginas
+        Map<String, CoinGeckoCoin> snapshot = new LinkedHashMap<>();
+        page.getCoins().forEach(coin -> snapshot.put(coin.getId(), coin));
+
+        return Mono.fromRunnable(() -> {
+            priceHistoryService.appendSnapshot(snapshot.values(), syncTime);
+            checkpointService.markPageCompleted(run, page.getPage(), page.getCoins().size());
+        }).subscribeOn(blockingScheduler)
+                // Las monedas nuevas no pueden estar en caché (los vacíos no se guardan)
+                .then(cacheOperations.putAll("crypto-details", cacheUpdates))
+                .doOnSuccess(done -> totals.pagesFetched++)
+                .then();
+    }
+
+    /**
+     * Solo escribe las monedas cuyo contenido cambió. La huella se compara primero con el mapa en
+     * memoria (sin tocar la BD) y, para las que no están en él, con la columna content_hash.
+     * Las huellas nuevas se devuelven en el resultado y se publican tras el commit.
+     */
+    private Mono<BatchOutcome> upsertBatchReactive(List<CoinGeckoCoin> coins) {
+        Map<String, CoinGeckoCoin> byCoinId = new LinkedHashMap<>();
+        coins.forEach(coin -> byCoinId.put(coin.getId(), coin));
+
+        Map<String, Long> candidates = new LinkedHashMap<>();
+        for (Map.Entry<String, CoinGeckoCoin> entry : byCoinId.entrySet()) {
+            long fingerprint = CoinFingerprint.of(entry.getValue());
+            if (!Long.valueOf(fingerprint).equals(fingerprints.get(entry.getKey()))) {
+                candidates.put(entry.getKey(), fingerprint);
+            }
+        }
+        int cachedSkips = byCoinId.size() - candidates.size();
+        if (candidates.isEmpty()) {
+            return Mono.just(new BatchOutcome(0, cachedSkips, Map.of(), Map.of()));
+        }
+
+        return reactiveRepository.findAllByCoinIdIn(candidates.keySet())
+                .collectMap(CryptoCurrency::getCoinId)
+                .flatMap(existing -> {
+                    List<CryptoCurrency> entities = new ArrayList<>(candidates.size());
+                    Map<String, CryptoCurrency> changed = new LinkedHashMap<>();
+                    Map<String, Long> seen = new HashMap<>();
+                    int skipped = cachedSkips;
+                    for (Map.Entry<String, Long> entry : candidates.entrySet()) {
+                        CoinGeckoCoin coin = byCoinId.get(entry.getKey());
+                        CryptoCurrency current = existing.get(entry.getKey());
+                        seen.put(entry.getKey(), entry.getValue());
+                        if (current == null) {
+                            entities.add(createEntity(coin, entry.getValue()));
+                        } else if (current.getContentHash() != null
+                                ? current.getContentHash().equals(entry.getValue())
+                                : !hasChanged(current, coin)) {
+                            skipped++;
+                        } else {
+                            entities.add(updateEntity(current, coin, entry.getValue()));
+                            changed.put(entry.getKey(), current);
+                        }
+                    }
+                    BatchOutcome outcome = new BatchOutcome(entities.size(), skipped, changed, seen);
+                    return entities.isEmpty()
+                            ? Mono.just(outcome)
+                            : reactiveRepository.bulkUpsert(entities).thenReturn(outcome);
+                });
+    }
+
+    /**
+     * Materializa el resumen del mercado (tabla y caché) y lo reemplaza en una sola escritura, de modo
+     * que los lectores nunca encuentran la caché vacía.
+     */
+    private Mono<Void> refreshAggregateCaches(OffsetDateTime syncTime) {
+        return Mono.when(
+                marketSummaryService.recompute(syncTime),
+                cacheOperations.clear("crypto-list"))
+                .onErrorResume(e -> {
+                    logger.warn("⚠️  No se pudieron refrescar las cachés agregadas: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private boolean hasChanged(CryptoCurrency existing, CoinGeckoCoin coin) {
+        return !Objects.equals(existing.getName(), coin.getName())
+                || !Objects.equals(existing.getSymbol(), coin.getSymbol())
+                || !Objects.equals(existing.getMarketCapRank(), coin.getMarket_cap_rank())
+                || !Objects.equals(existing.getCurrentPrice(), coin.getCurrent_price())
+                || !Objects.equals(existing.getMarketCap(), coin.getMarket_cap())
+                || !Objects.equals(existing.getTotalVolume(), coin.getTotal_volume())
+                || !sameInstant(existing.getLastUpdated(), coin.getLast_updated());
+    }
+
+    // La BD puede devolver el mismo instante con otro offset
+    private static boolean sameInstant(OffsetDateTime a, OffsetDateTime b) {
+        return a == null ? b == null : b != null && a.isEqual(b);
+    }
+
+    private record BatchOutcome(long changed, long skipped, Map<String, CryptoCurrency> cacheUpdates,
+            Map<String, Long> fingerprints) {
+    }
+
+    private record ResumePoint(SyncRun run, Set<Integer> completedPages) {
+    }
+
+    // Solo se modifica desde el concatMap de una misma sincronización
+    private static final class SyncTotals {
+        private long changed;
+        private long skipped;
+        private int pagesFetched;
+        private int pagesFailed;
+        private int pagesRetried;
+        private int pagesResumed;
+    }
+
+    private SyncResult buildSyncResult(SyncTotals totals, long startNanos) {
+        long elapsedNanos = Math.max(System.nanoTime() - startNanos, 1L);
+        long processed = totals.changed + totals.skipped;
+        return SyncResult.builder()
+                .synced(processed)
+                .changed(totals.changed)
+                .skipped(totals.skipped)
+                .pagesFetched(totals.pagesFetched)
+                .pagesFailed(totals.pagesFailed)
+                .pagesRetried(totals.pagesRetried)
+                .pagesResumed(totals.pagesResumed)
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .rowsPerSecond(processed * 1_000_000_000d / elapsedNanos)
+                .batchSize(batchSize)
+                .build();
     }
 
-    private CryptoCurrency updateEntity(CryptoCurrency existing, CoinGeckoCoin coin) {
+    private CryptoCurrency updateEntity(CryptoCurrency existing, CoinGeckoCoin coin, long fingerprint) {
         existing.setName(coin.getName());
         existing.setSymbol(coin.getSymbol());
         existing.setMarketCapRank(coin.getMarket_cap_rank());
@@ -59,10 +313,11 @@ public class CryptoService {
         existing.setMarketCap(coin.getMarket_cap());
         existing.setTotalVolume(coin.getTotal_volume());
         existing.setLastUpdated(coin.getLast_updated());
+        existing.setContentHash(fingerprint);
         return existing;
     }
 
-    private CryptoCurrency createEntity(CoinGeckoCoin coin) {
+    private CryptoCurrency createEntity(CoinGeckoCoin coin, long fingerprint) {
         return CryptoCurrency.builder()
                 .coinId(coin.getId())
                 .name(coin.getName())
@@ -74,6 +329,7 @@ public class CryptoService {
                 .lastUpdated(coin.getLast_updated() != null
                         ? coin.getLast_updated()
                         : OffsetDateTime.now())
+                .contentHash(fingerprint)
                 .build();
     }
 
@@ -87,43 +343,119 @@ public class CryptoService {
             } else {
                 return repository.findAll(pageable);
             }
-        }).subscribeOn(Schedulers.boundedElastic());
+        }).subscribeOn(blockingScheduler);
+    }
+
+    public Mono<CursorPage<CryptoCurrency>> listCryptos(String query, CryptoSortField sortField,
+            Sort.Direction direction, String after, int size) {
+        logger.debug("🔎 Consultando lista keyset de cryptos: query={}, sort={} {}", query, sortField, direction);
+        return Mono.fromCallable(() -> {
+            KeysetCursor cursor = null;
+            if (after != null && !after.isBlank()) {
+                cursor = KeysetCursor.decode(after);
+                if (cursor.getField() != sortField || cursor.getDirection() != direction) {
+                    throw new IllegalArgumentException(
+                            "El cursor no corresponde al ordenamiento solicitado");
+                }
+            }
+
+            // Se pide una fila extra para saber si hay página siguiente sin ejecutar COUNT
+            List<CryptoCurrency> rows = repository.findPageAfter(query, sortField, direction,
+                    cursor != null ? cursor.getValue() : null,
+                    cursor != null ? cursor.getId() : null,
+                    size + 1);
+            boolean hasNext = rows.size() > size;
+            List<CryptoCurrency> content = hasNext ? rows.subList(0, size) : rows;
+
+            String nextCursor = null;
+            if (hasNext) {
+                CryptoCurrency last = content.get(content.size() - 1);
+                nextCursor = new KeysetCursor(sortField, direction, sortField.valueOf(last), last.getId()).encode();
+            }
+            return CursorPage.<CryptoCurrency>builder()
+                    .content(content)
+                    .size(size)
+                    .hasNext(hasNext)
+                    .nextCursor(nextCursor)
+                    .build();
+        }).subscribeOn(blockingScheduler);
     }
 
-    @Cacheable(value = "crypto-details", key = "#coinId")
+    /**
+     * Búsqueda difusa por nombre o símbolo ordenada por relevancia; devuelve como máximo
+     * {@code limit} resultados y no calcula el total.
+     */
+    public Mono<List<CryptoCurrency>> searchCryptos(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return Mono.error(new IllegalArgumentException("El parámetro de búsqueda no puede estar vacío"));
+        }
+        logger.debug("🔎 Búsqueda difusa de cryptos: query={}, limit={}", query, limit);
+        return Mono.fromCallable(() -> repository.search(query, limit))
+                .subscribeOn(blockingScheduler);
+    }
+
+    public Flux<CryptoCurrency> streamAll() {
+        logger.debug("🌊 Streaming de todas las cryptos con fetchSize={}", streamFetchSize);
+        // Cada request del suscriptor avanza el cursor; cancelar cierra la conexión
+        return Flux.using(() -> repository.streamAllByRank(streamFetchSize), Flux::fromStream, Stream::close)
+                .subscribeOn(blockingScheduler);
+    }
+
+    /**
+     * Las consultas concurrentes por la misma moneda comparten una única lectura de caché/BD,
+     * evitando la avalancha de consultas tras invalidar la caché.
+     */
     public Mono<CryptoCurrency> findByCoinId(String coinId) {
-        logger.info("💾 Cache MISS - Consultando BD para crypto: {}", coinId);
-        return Mono.fromCallable(() -> repository.findByCoinId(coinId))
-                .flatMap(opt -> opt.isPresent()
-                        ? Mono.just(opt.get())
-                        : Mono.empty())
-                .subscribeOn(Schedulers.boundedElastic());
+        return coinLookups.execute(coinId, () -> cacheOperations.cacheable("crypto-details", coinId, () -> {
+            logger.info("💾 Cache MISS - Consultando BD para crypto: {}", coinId);
+            return reactiveRepository.findByCoinId(coinId);
+        }));
     }
 
-    @Cacheable(value = "crypto-stats")
+    /**
+     * Lectura O(1) del resumen materializado en la última sincronización: no cuenta ni recorre
+     * la tabla de monedas.
+     */
     public Mono<java.util.Map<String, Object>> getStats() {
-        logger.info("💾 Cache MISS - Consultando estadísticas de BD");
-        return Mono.fromCallable(() -> {
-            long total = repository.count();
-            java.util.Optional<CryptoCurrency> latest = repository.findAll(
-                    org.springframework.data.domain.PageRequest.of(0, 1,
-                            org.springframework.data.domain.Sort.by("lastUpdated").descending()))
-                    .stream().findFirst();
+        return marketSummaryService.current().map(summary -> {
+            boolean hasSyncedData = summary.getTotalCoins() > 0;
 
             java.util.Map<String, Object> stats = new java.util.HashMap<>();
-            stats.put("total", total);
-            stats.put("lastUpdated",
-                    latest.map(c -> c.getLastUpdated() != null ? c.getLastUpdated().toString() : null).orElse(null));
-            stats.put("hasSyncedData", total > 0);
+            stats.put("total", summary.getTotalCoins());
+            stats.put("lastUpdated", toText(summary.getLastUpdated()));
+            stats.put("lastSync", toText(summary.getLastSyncAt()));
+            stats.put("hasSyncedData", hasSyncedData);
+            stats.put("totalMarketCap", summary.getTotalMarketCap());
+            stats.put("totalVolume", summary.getTotalVolume());
+            stats.put("marketCapWeightedPriceChange", summary.getWeightedPriceChange());
+            stats.put("topGainer", mover(summary.getTopGainerCoinId(), summary.getTopGainerChange()));
+            stats.put("topLoser", mover(summary.getTopLoserCoinId(), summary.getTopLoserChange()));
+            stats.put("computedAt", toText(summary.getComputedAt()));
 
             return stats;
-        }).subscribeOn(Schedulers.boundedElastic());
+        });
     }
 
-    @Cacheable(value = "scheduler-status")
+    private static java.util.Map<String, Object> mover(String coinId, Double priceChangePercentage) {
+        if (coinId == null) {
+            return null;
+        }
+        java.util.Map<String, Object> mover = new java.util.HashMap<>();
+        mover.put("coinId", coinId);
+        mover.put("priceChangePercentage", priceChangePercentage);
+        return mover;
+    }
+
+    private static String toText(OffsetDateTime time) {
+        return time != null ? time.toString() : null;
+    }
+
+    /**
+     * Los datos salen del resumen materializado; solo la próxima ejecución se calcula por petición,
+     * así minutesUntilNext nunca queda desfasado por la caché.
+     */
     public Mono<java.util.Map<String, Object>> getSchedulerStatus() {
-        logger.info("💾 Cache MISS - Consultando estado del scheduler");
-        return Mono.fromCallable(() -> {
+        return marketSummaryService.current().map(summary -> {
             java.util.Map<String, Object> status = new java.util.HashMap<>();
 
             status.put("enabled", true);
@@ -131,16 +463,10 @@ public class CryptoService {
             status.put("schedule", "00:00, 06:00, 12:00, 18:00 UTC");
             status.put("cronExpression", "0 0 */6 * * *");
 
-            long total = repository.count();
-            java.util.Optional<CryptoCurrency> latest = repository.findAll(
-                    org.springframework.data.domain.PageRequest.of(0, 1,
-                            org.springframework.data.domain.Sort.by("lastUpdated").descending()))
-                    .stream().findFirst();
-
-            // Convertir OffsetDateTime a String para Redis
-            status.put("lastSync",
-                    latest.map(c -> c.getLastUpdated() != null ? c.getLastUpdated().toString() : null).orElse(null));
-            status.put("totalCryptos", total);
+            // Antes de la primera sincronización materializada se informa el último dato de CoinGecko
+            OffsetDateTime lastSync = summary.getLastSyncAt() != null ? summary.getLastSyncAt() : summary.getLastUpdated();
+            status.put("lastSync", toText(lastSync));
+            status.put("totalCryptos", summary.getTotalCoins());
 
             OffsetDateTime now = OffsetDateTime.now();
             int currentHour = now.getHour();
@@ -163,7 +489,6 @@ public class CryptoService {
                 nextSync = nextSync.plusDays(1);
             }
 
-            // Convertir OffsetDateTime a String para Redis
             status.put("nextSync", nextSync.toString());
             status.put("nextSyncDescription", String.format("%02d:00:00 UTC (%s)", nextHour, nextDay));
 
@@ -171,6 +496,6 @@ public class CryptoService {
             status.put("minutesUntilNext", minutesUntilNext);
 
             return status;
-        }).subscribeOn(Schedulers.boundedElastic());
+        });
     }
 }
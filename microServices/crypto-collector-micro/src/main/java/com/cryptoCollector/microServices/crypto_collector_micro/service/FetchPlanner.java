@@ -0,0 +1,66 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.FetchPlan;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Calcula el plan de fetch a partir del tamaño del universo de monedas y del plan de la API:
+ * <ul>
+ * <li>páginas = ceil(universo / tamaño de página del plan); de la última solo se conservan las
+ * monedas que faltan para completar el universo</li>
+ * <li>intervalo entre peticiones = 60 s / tasa del plan (o la tasa configurada)</li>
+ * <li>concurrencia = peticiones que caben en vuelo durante la latencia esperada (ley de Little),
+ * acotada por {@code coingecko.fetch.concurrency}</li>
+ * </ul>
+ * El coste crece linealmente con el universo: cada página se descarga, persiste y libera por separado.
+ */
+@Component
+public class FetchPlanner {
+
+    private final int universeSize;
+    private final CoinGeckoApiTier tier;
+    private final double requestsPerMinute;
+    private final int maxConcurrency;
+    private final Duration expectedLatency;
+
+    public FetchPlanner(@Value("${crypto.sync.universe-size:1000}") int universeSize,
+            @Value("${coingecko.api.tier:auto}") String tier,
+            @Value("${coingecko.api.key:}") String apiKey,
+            @Value("${coingecko.rate-limit.requests-per-minute:0}") double requestsPerMinute,
+            @Value("${coingecko.fetch.concurrency:4}") int maxConcurrency,
+            @Value("${coingecko.fetch.expected-latency:1s}") Duration expectedLatency) {
+        if (universeSize <= 0) {
+            throw new IllegalArgumentException("crypto.sync.universe-size debe ser mayor que 0");
+        }
+        this.universeSize = universeSize;
+        this.tier = CoinGeckoApiTier.resolve(tier, apiKey != null && !apiKey.isEmpty());
+        this.requestsPerMinute = requestsPerMinute > 0 ? requestsPerMinute : this.tier.getRequestsPerMinute();
+        this.maxConcurrency = Math.max(maxConcurrency, 1);
+        this.expectedLatency = expectedLatency;
+    }
+
+    public FetchPlan plan() {
+        int perPage = tier.getPerPage();
+        int totalPages = (universeSize + perPage - 1) / perPage;
+        double requestsPerSecond = requestsPerMinute / 60.0;
+        int concurrency = (int) Math.ceil(requestsPerSecond * expectedLatency.toMillis() / 1000.0);
+        concurrency = Math.min(Math.max(concurrency, 1), Math.min(maxConcurrency, totalPages));
+        Duration interval = Duration.ofNanos((long) (60_000_000_000L / requestsPerMinute));
+        return new FetchPlan(totalPages, perPage, concurrency, interval, universeSize);
+    }
+
+    public CoinGeckoApiTier getTier() {
+        return tier;
+    }
+
+    public double getRequestsPerMinute() {
+        return requestsPerMinute;
+    }
+
+    public int getUniverseSize() {
+        return universeSize;
+    }
+}
@@ -0,0 +1,77 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.cache.ReactiveCacheOperations;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.MarketSummary;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.MarketSummaryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Resumen del mercado (totales, mayor subida/caída y variación ponderada) calculado una sola vez al
+ * terminar cada sincronización y guardado en la tabla market_summary y en la caché. Las lecturas son
+ * un acierto de caché o, como mucho, una búsqueda por clave primaria.
+ */
+@Service
+public class MarketSummaryService {
+
+    public static final String CACHE_NAME = "market-summary";
+
+    private static final Logger logger = LoggerFactory.getLogger(MarketSummaryService.class);
+
+    private final MarketSummaryRepository repository;
+    private final ReactiveCacheOperations cacheOperations;
+    private final Scheduler blockingScheduler;
+    private final Duration changeWindow;
+
+    public MarketSummaryService(MarketSummaryRepository repository,
+            ReactiveCacheOperations cacheOperations,
+            Scheduler blockingScheduler,
+            @Value("${crypto.summary.change-window:24h}") Duration changeWindow) {
+        if (changeWindow.isNegative() || changeWindow.isZero()) {
+            throw new IllegalArgumentException("crypto.summary.change-window debe ser mayor que 0");
+        }
+        this.repository = repository;
+        this.cacheOperations = cacheOperations;
+        this.blockingScheduler = blockingScheduler;
+        this.changeWindow = changeWindow;
+    }
+
+    public Mono<MarketSummary> current() {
+        return cacheOperations.cacheable(CACHE_NAME, SimpleKey.EMPTY, () -> Mono.fromCallable(() -> {
+            logger.info("💾 Cache MISS - Leyendo resumen del mercado");
+            // Solo falta la fila antes de la primera sincronización tras desplegar la tabla
+            return repository.findById(MarketSummary.SINGLETON_ID)
+                    .orElseGet(() -> compute(null));
+        }).subscribeOn(blockingScheduler));
+    }
+
+    /**
+     * Recalcula el resumen tras la sincronización de {@code syncTime} y reemplaza la fila y la caché;
+     * los lectores siguen viendo el resumen anterior hasta ese momento.
+     */
+    public Mono<MarketSummary> recompute(OffsetDateTime syncTime) {
+        return Mono.fromCallable(() -> compute(syncTime))
+                .subscribeOn(blockingScheduler)
+                .flatMap(summary -> cacheOperations.put(CACHE_NAME, SimpleKey.EMPTY, summary).thenReturn(summary));
+    }
+
+    private MarketSummary compute(OffsetDateTime syncTime) {
+        long start = System.nanoTime();
+        OffsetDateTime at = syncTime != null ? syncTime : OffsetDateTime.now(ZoneOffset.UTC);
+        MarketSummary summary = repository.aggregate(at, changeWindow);
+        summary.setLastSyncAt(syncTime);
+        MarketSummary saved = repository.save(summary);
+        logger.info("📊 Resumen del mercado recalculado: {} monedas en {} ms",
+                saved.getTotalCoins(), (System.nanoTime() - start) / 1_000_000);
+        return saved;
+    }
+}
@@ -0,0 +1,64 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinGeckoCoin;
+import com.cryptoCollector.microServices.crypto_collector_micro.mapper.CryptoMapper;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoPriceTick;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoCandleRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoPriceTickRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Guarda un tick de precio por moneda en cada sincronización (tabla crypto_price_tick) y lo agrega
+ * en el momento a las velas OHLC de cada resolución (tabla crypto_candle).
+ * Los métodos son bloqueantes y se invocan desde el lote de escritura de la sincronización.
+ */
+@Service
+public class PriceHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceHistoryService.class);
+    private final CryptoPriceTickRepository tickRepository;
+    private final CryptoCandleRepository candleRepository;
+    private final boolean enabled;
+    private final int partitionsAhead;
+
+    public PriceHistoryService(CryptoPriceTickRepository tickRepository,
+            CryptoCandleRepository candleRepository,
+            @Value("${crypto.history.enabled:true}") boolean enabled,
+            @Value("${crypto.history.partitions-ahead:1}") int partitionsAhead) {
+        this.tickRepository = tickRepository;
+        this.candleRepository = candleRepository;
+        this.enabled = enabled;
+        this.partitionsAhead = partitionsAhead;
+    }
+
+    public void preparePartitions(OffsetDateTime syncTime) {
+        if (!enabled) {
+            return;
+        }
+        tickRepository.ensureMonthlyPartitions(
+                YearMonth.from(syncTime.withOffsetSameInstant(ZoneOffset.UTC)), partitionsAhead);
+    }
+
+    public int appendSnapshot(Collection<CoinGeckoCoin> coins, OffsetDateTime syncTime) {
+        if (!enabled || coins.isEmpty()) {
+            return 0;
+        }
+        List<CryptoPriceTick> ticks = coins.stream()
+                .map(coin -> CryptoMapper.toPriceTick(coin, syncTime))
+                .toList();
+        int appended = tickRepository.appendTicks(ticks);
+        // Si la página se reintenta, volver a agregar los mismos ticks deja las velas igual
+        int candles = candleRepository.rollup(ticks);
+        logger.debug("📈 {} ticks de precio añadidos al historial ({} velas actualizadas)", appended, candles);
+        return appended;
+    }
+}
@@ -0,0 +1,96 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.FetchPlan;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.SyncPageCheckpoint;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.SyncRun;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.SyncPageCheckpointRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.SyncRunRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Registra qué páginas de cada sincronización ya están persistidas (tablas sync_run y
+ * sync_page_checkpoint). Una sincronización que terminó con páginas fallidas se reanuda en la
+ * siguiente ejecución, que solo pide las páginas que faltan, siempre que el plan sea el mismo y
+ * no haya pasado la ventana de reanudación. Una ejecución en estado RUNNING solo se reanuda si lleva
+ * más de crypto.sync.stale-after sin registrar páginas (la instancia que la llevaba se cayó); si no,
+ * pertenece a una sincronización en curso y se abre una ejecución nueva.
+ * Los métodos son bloqueantes y se invocan desde el scheduler de llamadas bloqueantes.
+ */
+@Service
+public class SyncCheckpointService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncCheckpointService.class);
+    private final SyncRunRepository runRepository;
+    private final SyncPageCheckpointRepository checkpointRepository;
+    private final Duration resumeWindow;
+    private final Duration staleAfter;
+
+    public SyncCheckpointService(SyncRunRepository runRepository,
+            SyncPageCheckpointRepository checkpointRepository,
+            @Value("${crypto.sync.resume-window:1h}") Duration resumeWindow,
+            @Value("${crypto.sync.stale-after:15m}") Duration staleAfter) {
+        this.runRepository = runRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.resumeWindow = resumeWindow;
+        this.staleAfter = staleAfter;
+    }
+
+    @Transactional
+    public SyncRun openRun(FetchPlan plan) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        SyncRun resumable = runRepository.findFirstByStatusInAndStartedAtAfterOrderByStartedAtDesc(
+                EnumSet.of(SyncRun.Status.RUNNING, SyncRun.Status.PARTIAL), now.minus(resumeWindow))
+                .filter(run -> run.getTotalPages() == plan.getTotalPages() && run.getPerPage() == plan.getPerPage())
+                .filter(run -> run.getStatus() == SyncRun.Status.PARTIAL || isStale(run, now))
+                .orElse(null);
+        if (resumable != null) {
+            logger.info("♻️  Reanudando sincronización #{} iniciada a las {}", resumable.getId(),
+                    resumable.getStartedAt());
+            resumable.setStatus(SyncRun.Status.RUNNING);
+            resumable.setFinishedAt(null);
+            return runRepository.save(resumable);
+        }
+        return runRepository.save(SyncRun.builder()
+                .status(SyncRun.Status.RUNNING)
+                .totalPages(plan.getTotalPages())
+                .perPage(plan.getPerPage())
+                .startedAt(now)
+                .build());
+    }
+
+    private boolean isStale(SyncRun run, OffsetDateTime now) {
+        OffsetDateTime lastActivity = checkpointRepository.findLastCompletedAtByRunId(run.getId())
+                .orElse(run.getStartedAt());
+        return lastActivity.isBefore(now.minus(staleAfter));
+    }
+
+    public Set<Integer> completedPages(SyncRun run) {
+        return checkpointRepository.findPagesByRunId(run.getId());
+    }
+
+    public void markPageCompleted(SyncRun run, int page, int coins) {
+        checkpointRepository.save(SyncPageCheckpoint.builder()
+                .runId(run.getId())
+                .page(page)
+                .coins(coins)
+                .completedAt(OffsetDateTime.now(ZoneOffset.UTC))
+                .build());
+    }
+
+    @Transactional
+    public SyncRun finishRun(SyncRun run, int failedPages) {
+        run.setStatus(failedPages == 0 ? SyncRun.Status.COMPLETED : SyncRun.Status.PARTIAL);
+        run.setFinishedAt(OffsetDateTime.now(ZoneOffset.UTC));
+        return runRepository.save(run);
+    }
+}
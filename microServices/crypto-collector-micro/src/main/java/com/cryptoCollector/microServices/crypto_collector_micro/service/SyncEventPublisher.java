@@ -0,0 +1,44 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.SyncResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Anuncia el fin de cada sincronización: dentro de la instancia como evento de Spring
+ * ({@link SyncCompleted}) y en Redis para que otros componentes (la caché de respuestas del
+ * API Gateway) descarten lo que tengan guardado. El mensaje de Redis es
+ * {@code <epoch ms>|<monedas procesadas>|<monedas con cambios>}.
+ */
+@Component
+public class SyncEventPublisher {
+
+    public static final String SYNC_COMPLETED_CHANNEL = "crypto:sync-completed";
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncEventPublisher.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SyncEventPublisher(StringRedisTemplate redisTemplate, ApplicationEventPublisher eventPublisher) {
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void publishSyncCompleted(SyncResult result) {
+        eventPublisher.publishEvent(new SyncCompleted(result));
+        try {
+            redisTemplate.convertAndSend(SYNC_COMPLETED_CHANNEL,
+                    System.currentTimeMillis() + "|" + result.getSynced() + "|" + result.getChanged());
+        } catch (RuntimeException e) {
+            // Las cachés de los consumidores expiran por TTL aunque el aviso se pierda
+            logger.warn("⚠️  No se pudo publicar el fin de la sincronización: {}", e.getMessage());
+        }
+    }
+
+    public record SyncCompleted(SyncResult result) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.util;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinGeckoCoin;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Huella de 64 bits del contenido de una moneda (nombre, símbolo, ranking, precio, capitalización,
+ * volumen e instante de last_updated). Sirve para detectar cambios, no como hash criptográfico:
+ * dos huellas iguales se tratan como "sin cambios" y la fila no se vuelve a escribir.
+ */
+public final class CoinFingerprint {
+
+    private static final long SEED = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+    private static final long NULL_MARKER = 0x9e3779b97f4a7c15L;
+
+    private CoinFingerprint() {
+    }
+
+    public static long of(CoinGeckoCoin coin) {
+        long hash = SEED;
+        hash = mix(hash, coin.getName() != null ? coin.getName().hashCode() : NULL_MARKER);
+        hash = mix(hash, coin.getSymbol() != null ? coin.getSymbol().hashCode() : NULL_MARKER);
+        hash = mix(hash, coin.getMarket_cap_rank() != null ? coin.getMarket_cap_rank() : NULL_MARKER);
+        hash = mix(hash, bits(coin.getCurrent_price()));
+        hash = mix(hash, bits(coin.getMarket_cap()));
+        hash = mix(hash, bits(coin.getTotal_volume()));
+        hash = mix(hash, instant(coin.getLast_updated()));
+        return finish(hash);
+    }
+
+    private static long bits(Double value) {
+        return value != null ? Double.doubleToLongBits(value) : NULL_MARKER;
+    }
+
+    // Mismo instante con distinto offset da la misma huella
+    private static long instant(OffsetDateTime value) {
+        if (value == null) {
+            return NULL_MARKER;
+        }
+        return value.toEpochSecond() * 1_000_000_000L + value.getNano();
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * PRIME;
+    }
+
+    // Avalancha final (fmix64 de MurmurHash3) para repartir los bits
+    private static long finish(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
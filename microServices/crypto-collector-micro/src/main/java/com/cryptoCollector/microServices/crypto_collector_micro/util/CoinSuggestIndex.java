@@ -0,0 +1,156 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.util;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinSuggestion;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Índice inmutable de prefijos para autocompletar por símbolo o nombre.
+ * Guarda en un arreglo ordenado los tokens en minúsculas de cada moneda (símbolo, nombre completo y
+ * cada palabra del nombre) junto al número de la moneda; las monedas se numeran en orden de ranking,
+ * así que los resultados salen ordenados por ranking sin ordenar en cada consulta. Una búsqueda es
+ * una búsqueda binaria más un recorrido de los tokens con ese prefijo; los prefijos de 1 y 2
+ * caracteres, que abarcan miles de tokens, se resuelven de antemano al construir el índice.
+ */
+public final class CoinSuggestIndex {
+
+    public static final CoinSuggestIndex EMPTY = new CoinSuggestIndex(List.of());
+
+    // Resultados precalculados por prefijo corto; cubren cualquier límite hasta este valor
+    static final int PRECOMPUTED_LIMIT = 20;
+    private static final int PRECOMPUTED_PREFIX_LENGTH = 2;
+
+    private final CoinSuggestion[] coins;
+    private final String[] symbols;
+    private final String[] tokens;
+    private final int[] coinOf;
+    private final Map<String, List<CoinSuggestion>> shortPrefixes = new HashMap<>();
+
+    private CoinSuggestIndex(List<CoinSuggestion> ranked) {
+        this.coins = ranked.toArray(CoinSuggestion[]::new);
+        this.symbols = new String[coins.length];
+
+        List<Entry> entries = new ArrayList<>(coins.length * 3);
+        for (int i = 0; i < coins.length; i++) {
+            symbols[i] = normalize(coins[i].getSymbol());
+            for (String token : tokensOf(coins[i])) {
+                entries.add(new Entry(token, i));
+            }
+        }
+        entries.sort(Comparator.comparing(Entry::token).thenComparingInt(Entry::coin));
+
+        this.tokens = new String[entries.size()];
+        this.coinOf = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            tokens[i] = entries.get(i).token();
+            coinOf[i] = entries.get(i).coin();
+        }
+
+        for (String token : tokens) {
+            for (int length = 1; length <= Math.min(PRECOMPUTED_PREFIX_LENGTH, token.length()); length++) {
+                shortPrefixes.computeIfAbsent(token.substring(0, length),
+                        prefix -> List.copyOf(scan(prefix, PRECOMPUTED_LIMIT)));
+            }
+        }
+    }
+
+    /**
+     * Construye el índice; las monedas deben venir ordenadas por ranking (sin ranking al final).
+     */
+    public static CoinSuggestIndex build(Iterable<CryptoCurrency> rankedCryptos) {
+        List<CoinSuggestion> ranked = new ArrayList<>();
+        for (CryptoCurrency crypto : rankedCryptos) {
+            ranked.add(new CoinSuggestion(crypto.getCoinId(), crypto.getSymbol(), crypto.getName(),
+                    crypto.getMarketCapRank()));
+        }
+        return new CoinSuggestIndex(ranked);
+    }
+
+    /**
+     * Monedas con algún token que empieza por {@code prefix}: primero las de símbolo exacto y después
+     * el resto, ambas por ranking.
+     */
+    public List<CoinSuggestion> suggest(String prefix, int limit) {
+        String q = normalize(prefix);
+        if (q.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        if (q.length() <= PRECOMPUTED_PREFIX_LENGTH && limit <= PRECOMPUTED_LIMIT) {
+            List<CoinSuggestion> precomputed = shortPrefixes.getOrDefault(q, List.of());
+            return precomputed.subList(0, Math.min(limit, precomputed.size()));
+        }
+        return scan(q, limit);
+    }
+
+    private List<CoinSuggestion> scan(String q, int limit) {
+        BitSet matches = new BitSet(coins.length);
+        for (int i = lowerBound(q); i < tokens.length && tokens[i].startsWith(q); i++) {
+            matches.set(coinOf[i]);
+        }
+
+        List<CoinSuggestion> result = new ArrayList<>(Math.min(limit, matches.cardinality()));
+        for (int i = matches.nextSetBit(0); i >= 0 && result.size() < limit; i = matches.nextSetBit(i + 1)) {
+            if (q.equals(symbols[i])) {
+                result.add(coins[i]);
+                matches.clear(i);
+            }
+        }
+        for (int i = matches.nextSetBit(0); i >= 0 && result.size() < limit; i = matches.nextSetBit(i + 1)) {
+            result.add(coins[i]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return coins.length;
+    }
+
+    private int lowerBound(String q) {
+        int index = Arrays.binarySearch(tokens, q);
+        return index >= 0 ? firstOf(index) : -index - 1;
+    }
+
+    // binarySearch no garantiza el primero de varios tokens iguales
+    private int firstOf(int index) {
+        while (index > 0 && tokens[index - 1].equals(tokens[index])) {
+            index--;
+        }
+        return index;
+    }
+
+    private static Set<String> tokensOf(CoinSuggestion coin) {
+        Set<String> tokens = new LinkedHashSet<>();
+        String symbol = normalize(coin.getSymbol());
+        String name = normalize(coin.getName());
+        if (!symbol.isEmpty()) {
+            tokens.add(symbol);
+        }
+        if (!name.isEmpty()) {
+            tokens.add(name);
+            for (String word : name.split("[^\\p{L}\\p{N}]+")) {
+                if (!word.isEmpty()) {
+                    tokens.add(word);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(String token, int coin) {
+    }
+}
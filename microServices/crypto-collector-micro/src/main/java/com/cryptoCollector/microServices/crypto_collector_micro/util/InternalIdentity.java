@@ -0,0 +1,96 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.util;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.util.Base64;
+
+/**
+ * Valida la cabecera X-Internal-Identity que firma el API Gateway tras verificar el JWT:
+ * {@code base64url(subject).exp.base64url(HMAC-SHA256(base64url(subject).exp))}. Comprobarla es un
+ * HMAC sobre unos pocos bytes, mucho más barato que parsear y verificar el JWT completo. Una cabecera
+ * inválida o caducada se ignora y se recurre al Bearer token.
+ */
+@Component
+public class InternalIdentity {
+
+    public static final String HEADER = "X-Internal-Identity";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+    private final Clock clock;
+
+    @Autowired
+    public InternalIdentity(@Value("${internal.identity.secret:}") String identitySecret,
+            @Value("${jwt.secret:${JWT_SECRET:change_this_to_a_real_secret}}") String jwtSecret) {
+        this(identitySecret, jwtSecret, Clock.systemUTC());
+    }
+
+    InternalIdentity(String identitySecret, String jwtSecret, Clock clock) {
+        // Misma derivación que el gateway: sin secreto propio se separa del de los JWT
+        String secret = identitySecret != null && !identitySecret.isBlank()
+                ? identitySecret
+                : "internal-identity|" + jwtSecret;
+        try {
+            byte[] key = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            this.prototype = Mac.getInstance("HmacSHA256");
+            this.prototype.init(new SecretKeySpec(key, "HmacSHA256"));
+        } catch (Exception e) {
+            throw new IllegalStateException("No se pudo construir la clave de X-Internal-Identity", e);
+        }
+        this.clock = clock;
+    }
+
+    /**
+     * Subject de la cabecera si la firma es válida y no ha caducado; {@code null} en caso contrario.
+     */
+    public String verify(String header) {
+        if (header == null) {
+            return null;
+        }
+        int signatureStart = header.lastIndexOf('.');
+        int expStart = header.lastIndexOf('.', signatureStart - 1);
+        if (expStart <= 0) {
+            return null;
+        }
+        try {
+            long exp = Long.parseLong(header, expStart + 1, signatureStart, 10);
+            if (exp <= clock.instant().getEpochSecond()) {
+                return null;
+            }
+            byte[] expected = mac().doFinal(header.substring(0, signatureStart).getBytes(StandardCharsets.UTF_8));
+            byte[] actual = DECODER.decode(header.substring(signatureStart + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return null;
+            }
+            return new String(DECODER.decode(header.substring(0, expStart)), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Produce la misma cabecera que el gateway (tests y llamadas internas entre servicios).
+     */
+    public String sign(String subject, long expiresAtEpochSecond) {
+        String payload = ENCODER.encodeToString(subject.getBytes(StandardCharsets.UTF_8)) + "." + expiresAtEpochSecond;
+        return payload + "." + ENCODER.encodeToString(mac().doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // Mac no es thread-safe; clonar el prototipo evita buscar el proveedor en cada petición
+    private Mac mac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
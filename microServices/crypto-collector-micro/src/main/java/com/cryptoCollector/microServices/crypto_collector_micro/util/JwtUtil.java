@@ -1,7 +1,12 @@
 package com.cryptoCollector.microServices.crypto_collector_micro.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,29 +15,49 @@ import org.springframework.stereotype.Component;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 
+/**
+ * Valida los JWT emitidos por auth-microServices. La clave y el parser (inmutable y thread-safe) se
+ * construyen una sola vez; los tokens ya verificados se guardan por su hash SHA-256 hasta su
+ * {@code exp} (como máximo {@code jwt.cache.max-ttl}), de modo que un cliente que repite el mismo
+ * token no paga la verificación HMAC en cada petición. Los tokens inválidos no se guardan.
+ */
 @Component
 public class JwtUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
 
-    @Value("${jwt.secret:${JWT_SECRET:change_this_to_a_real_secret}}")
-    private String jwtSecret;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    @Value("${jwt.expiration:${JWT_EXPIRATION:86400000}}")
-    private long jwtExpirationMs;
+    public JwtUtil(@Value("${jwt.secret:${JWT_SECRET:change_this_to_a_real_secret}}") String jwtSecret,
+            @Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${jwt.cache.max-ttl:5m}") Duration cacheMaxTtl,
+            MeterRegistry meterRegistry) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey(jwtSecret))
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(Expiry.creating((String hash, VerifiedToken token) -> token.ttl(cacheMaxTtl)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt-verification");
+    }
 
-    private Key getSigningKey() {
+    private static Key signingKey(String jwtSecret) {
         if (jwtSecret == null || jwtSecret.trim().isEmpty()) {
             throw new IllegalStateException("JWT secret is not configured");
         }
-        logger.debug("🔐 JWT Secret length: {}", jwtSecret.length());
         byte[] secretBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
         try {
             if (secretBytes.length < 32) {
                 logger.debug("🔄 Hashing secret to 32 bytes using SHA-256");
-                MessageDigest digest = MessageDigest.getInstance("SHA-256");
-                secretBytes = digest.digest(secretBytes);
+                secretBytes = MessageDigest.getInstance("SHA-256").digest(secretBytes);
             }
             return Keys.hmacShaKeyFor(secretBytes);
         } catch (Exception e) {
@@ -41,26 +66,30 @@ public class JwtUtil {
     }
 
     public String getSubjectFromToken(String token) {
+        String hash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null) {
+            return cached.subject();
+        }
         try {
-            logger.debug("🔍 Validando token JWT...");
-            Jws<Claims> jws = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            String subject = jws.getBody().getSubject();
-            logger.info("✅ Token válido - Subject: {}", subject);
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            String subject = claims.getSubject();
+            if (subject != null) {
+                verifiedTokens.put(hash, new VerifiedToken(subject,
+                        claims.getExpiration() != null ? claims.getExpiration().toInstant() : null));
+            }
             return subject;
         } catch (ExpiredJwtException ex) {
-            logger.warn("❌ Token expirado: {}", ex.getMessage());
+            logger.debug("❌ Token expirado: {}", ex.getMessage());
             return null;
         } catch (MalformedJwtException ex) {
-            logger.warn("❌ Token malformado: {}", ex.getMessage());
+            logger.debug("❌ Token malformado: {}", ex.getMessage());
             return null;
         } catch (io.jsonwebtoken.security.SignatureException ex) {
-            logger.error("❌ Firma del token inválida - El secret no coincide: {}", ex.getMessage());
+            logger.debug("❌ Firma del token inválida - El secret no coincide: {}", ex.getMessage());
             return null;
         } catch (JwtException | IllegalArgumentException ex) {
-            logger.error("❌ Error validando token: {}", ex.getMessage());
+            logger.debug("❌ Error validando token: {}", ex.getMessage());
             return null;
         }
     }
@@ -75,4 +104,25 @@ public class JwtUtil {
         }
         return null;
     }
+
+    // La caché no retiene los tokens en claro
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private record VerifiedToken(String subject, Instant expiresAt) {
+
+        Duration ttl(Duration max) {
+            if (expiresAt == null) {
+                return max;
+            }
+            Duration remaining = Duration.between(Instant.now(), expiresAt);
+            return remaining.compareTo(max) < 0 ? remaining : max;
+        }
+    }
 }
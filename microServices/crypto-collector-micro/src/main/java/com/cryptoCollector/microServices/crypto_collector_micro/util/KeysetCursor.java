@@ -0,0 +1,67 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.util;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoSortField;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posición opaca para la paginación keyset: valor de la clave de ordenamiento más el id
+ * de la última fila entregada. Se serializa como Base64 URL-safe.
+ */
+public final class KeysetCursor {
+
+    private static final String VERSION = "v1";
+    private static final String NULL_MARKER = "~";
+
+    private final CryptoSortField field;
+    private final Sort.Direction direction;
+    private final Object value;
+    private final long id;
+
+    public KeysetCursor(CryptoSortField field, Sort.Direction direction, Object value, long id) {
+        this.field = field;
+        this.direction = direction;
+        this.value = value;
+        this.id = id;
+    }
+
+    public CryptoSortField getField() {
+        return field;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String encode() {
+        String raw = String.join("|", VERSION, field.name(), direction.name(), Long.toString(id),
+                value == null ? NULL_MARKER : "=" + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // El valor va al final porque puede contener '|'
+            String[] parts = raw.split("\\|", 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Cursor de paginación inválido");
+            }
+            CryptoSortField field = CryptoSortField.valueOf(parts[1]);
+            Object value = NULL_MARKER.equals(parts[4]) ? null : field.parseValue(parts[4].substring(1));
+            return new KeysetCursor(field, Sort.Direction.valueOf(parts[2]), value, Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | StringIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Cursor de paginación inválido", e);
+        }
+    }
+}
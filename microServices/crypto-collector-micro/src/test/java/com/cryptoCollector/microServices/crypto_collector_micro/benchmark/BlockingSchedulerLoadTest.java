@@ -0,0 +1,163 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.benchmark;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.cache.ReactiveCacheOperations;
+import com.cryptoCollector.microServices.crypto_collector_micro.config.BlockingSchedulerConfig;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoReactiveRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoSortField;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.SharedH2ConnectionFactory;
+import com.cryptoCollector.microServices.crypto_collector_micro.service.CryptoFetchService;
+import com.cryptoCollector.microServices.crypto_collector_micro.service.CryptoService;
+import com.cryptoCollector.microServices.crypto_collector_micro.service.MarketSummaryService;
+import com.cryptoCollector.microServices.crypto_collector_micro.service.PriceHistoryService;
+import com.cryptoCollector.microServices.crypto_collector_micro.service.SyncCheckpointService;
+import com.cryptoCollector.microServices.crypto_collector_micro.service.SyncEventPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Throughput de las lecturas JPA de CryptoService (listado keyset) con 500 y 2000 clientes
+ * concurrentes, ejecutadas en boundedElastic frente a hilos virtuales. Cada llamada al repositorio
+ * añade 20 ms de espera para simular la ida y vuelta a PostgreSQL por red: es esa espera, y no el
+ * trabajo de H2, la que ocupa los hilos de boundedElastic (10 × núcleos).
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=BlockingSchedulerLoadTest
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:blockingload;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=50" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext
+@DisplayName("Prueba de carga - boundedElastic vs hilos virtuales")
+class BlockingSchedulerLoadTest {
+
+    private static final int ROWS = 1_000;
+    private static final int REQUESTS_PER_CLIENT = 5;
+    private static final int[] CLIENTS = { 500, 2000 };
+    private static final Duration NETWORK_LATENCY = Duration.ofMillis(20);
+
+    @Autowired
+    private CryptoRepository repository;
+
+    @Test
+    void boundedElasticVsVirtualThreads() {
+        List<CryptoCurrency> rows = new ArrayList<>(ROWS);
+        for (int i = 1; i <= ROWS; i++) {
+            rows.add(CryptoCurrency.builder()
+                    .coinId("coin-" + i)
+                    .name("Coin " + i)
+                    .symbol("c" + i)
+                    .marketCapRank(i)
+                    .currentPrice(i * 1.5)
+                    .build());
+        }
+        new CryptoReactiveRepository(DatabaseClient.create(SharedH2ConnectionFactory.create("blockingload")))
+                .bulkUpsert(rows)
+                .block();
+        CryptoRepository remoteRepository = withLatency(repository);
+
+        System.out.printf("%n%-16s %8s %10s %10s %10s%n", "scheduler", "clientes", "req/s", "p50 ms", "p99 ms");
+        for (int clients : CLIENTS) {
+            Result elastic = load(BlockingSchedulerConfig.BOUNDED_ELASTIC, remoteRepository, clients);
+            Result virtual = load(BlockingSchedulerConfig.VIRTUAL, remoteRepository, clients);
+            print(BlockingSchedulerConfig.BOUNDED_ELASTIC, clients, elastic);
+            print(BlockingSchedulerConfig.VIRTUAL, clients, virtual);
+
+            assertThat(virtual.throughput()).isGreaterThan(elastic.throughput());
+        }
+    }
+
+    private Result load(String mode, CryptoRepository remoteRepository, int clients) {
+        Scheduler scheduler = BlockingSchedulerConfig.create(mode);
+        try {
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            CryptoService service = new CryptoService(remoteRepository,
+                    mock(CryptoReactiveRepository.class),
+                    mock(PriceHistoryService.class),
+                    mock(SyncCheckpointService.class),
+                    mock(CryptoFetchService.class),
+                    new ReactiveCacheOperations(new ConcurrentMapCacheManager(), meterRegistry),
+                    mock(SyncEventPublisher.class),
+                    mock(MarketSummaryService.class),
+                    mock(TransactionalOperator.class),
+                    scheduler,
+                    meterRegistry, 250, 200);
+
+            // Calentamiento del pool de conexiones y de los hilos del scheduler
+            requests(service, clients, clients).blockLast();
+
+            int total = clients * REQUESTS_PER_CLIENT;
+            long start = System.nanoTime();
+            double[] samples = requests(service, total, clients).collectList().block().stream()
+                    .mapToDouble(Double::doubleValue)
+                    .sorted()
+                    .toArray();
+            double seconds = (System.nanoTime() - start) / 1_000_000_000d;
+            assertThat(samples).hasSize(total);
+            return new Result(total / seconds, samples[samples.length / 2],
+                    samples[(int) Math.ceil(samples.length * 0.99) - 1]);
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    private static Flux<Double> requests(CryptoService service, int total, int clients) {
+        return Flux.range(0, total)
+                .flatMap(i -> Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return service.listCryptos(null, CryptoSortField.MARKET_CAP_RANK, Sort.Direction.ASC, null, 20)
+                            .doOnNext(page -> assertThat(page.getContent()).hasSize(20))
+                            .map(page -> (System.nanoTime() - start) / 1_000_000d);
+                }), clients);
+    }
+
+    private static CryptoRepository withLatency(CryptoRepository delegate) {
+        return (CryptoRepository) Proxy.newProxyInstance(CryptoRepository.class.getClassLoader(),
+                new Class<?>[] { CryptoRepository.class },
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return method.invoke(delegate, args);
+                    }
+                    Thread.sleep(NETWORK_LATENCY);
+                    try {
+                        return method.invoke(delegate, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static void print(String mode, int clients, Result result) {
+        System.out.printf("%-16s %8d %10.0f %10.3f %10.3f%n", mode, clients, result.throughput(), result.p50(),
+                result.p99());
+    }
+
+    private record Result(double throughput, double p50, double p99) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.benchmark;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCandle;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoPriceTick;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoCandleRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.SharedEmbeddedPostgres;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Velas de 15.000 monedas sobre PostgreSQL embebido: latencia de la consulta por rango con 1 y con 3
+ * años de velas diarias (~5,5 y ~16 millones de filas) y coste de agregar una sincronización completa
+ * (15.000 ticks en páginas de 250) sobre la tabla ya cargada.
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=CandleBenchmarkTest
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Benchmark - Velas OHLC a escala")
+class CandleBenchmarkTest {
+
+    private static final int COINS = 15_000;
+    private static final int PAGE_SIZE = 250;
+    private static final int ITERATIONS = 500;
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2025-01-15T00:00:00Z");
+
+    @Autowired
+    private CryptoCandleRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        SharedEmbeddedPostgres.register(registry);
+    }
+
+    @Test
+    void rangeLatencyIsIndependentOfHistorySize() {
+        jdbcTemplate.execute("TRUNCATE crypto_candle");
+        System.out.printf("%n%-10s %12s %14s %14s %14s %14s%n", "historia", "filas 1d", "30 velas p50",
+                "30 velas p99", "365 velas p50", "365 velas p99");
+
+        seedDaily(NOW.minusDays(365), NOW);
+        double[] oneYear30 = measure(30);
+        double[] oneYear365 = measure(365);
+        print("1 año", oneYear30, oneYear365);
+
+        seedDaily(NOW.minusDays(3 * 365), NOW.minusDays(366));
+        double[] threeYears30 = measure(30);
+        double[] threeYears365 = measure(365);
+        print("3 años", threeYears30, threeYears365);
+
+        // Mismo número de filas leídas con el triple de historial: la latencia la marca el rango, no la tabla
+        assertThat(threeYears30[0]).isLessThan(oneYear30[0] * 2 + 0.5);
+        assertThat(threeYears365[0]).isLessThan(oneYear365[0] * 2 + 0.5);
+
+        long start = System.nanoTime();
+        int rows = 0;
+        OffsetDateTime syncTime = NOW.plusHours(1);
+        for (int from = 0; from < COINS; from += PAGE_SIZE) {
+            List<CryptoPriceTick> page = new ArrayList<>(PAGE_SIZE);
+            for (int i = from; i < Math.min(from + PAGE_SIZE, COINS); i++) {
+                page.add(CryptoPriceTick.builder().coinId("coin-" + i).ts(syncTime)
+                        .currentPrice(100.0 + i).totalVolume(1000.0).build());
+            }
+            rows += repository.rollup(page);
+        }
+        double syncMs = (System.nanoTime() - start) / 1_000_000d;
+        System.out.printf("Agregación de una sincronización: %d ticks -> %d velas en %.0f ms (%.0f velas/s)%n",
+                COINS, rows, syncMs, rows / (syncMs / 1000));
+        assertThat(rows).isEqualTo(COINS * 4);
+    }
+
+    private void seedDaily(OffsetDateTime from, OffsetDateTime to) {
+        long start = System.nanoTime();
+        jdbcTemplate.update("INSERT INTO crypto_candle (coin_id, resolution, bucket_start, open_price, high_price, "
+                + "low_price, close_price, volume, open_ts, close_ts) "
+                + "SELECT 'coin-' || c, '1d', b, 1, 2, 0.5, 1.5, 10, b, b "
+                + "FROM generate_series(0, ?) c, generate_series(?::timestamptz, ?::timestamptz, interval '1 day') b",
+                COINS - 1, Timestamp.from(from.toInstant()), Timestamp.from(to.toInstant()));
+        jdbcTemplate.execute("VACUUM ANALYZE crypto_candle");
+        System.out.printf("(carga %s..%s en %d s)%n", from.toLocalDate(), to.toLocalDate(),
+                (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    private double[] measure(int days) {
+        for (int i = 0; i < 50; i++) {
+            query(days);
+        }
+        double[] samples = new double[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            List<CryptoCandle> candles = query(days);
+            samples[i] = (System.nanoTime() - start) / 1_000_000d;
+            assertThat(candles).hasSize(days);
+        }
+        Arrays.sort(samples);
+        return new double[] { samples[ITERATIONS / 2], samples[(int) Math.ceil(ITERATIONS * 0.99) - 1] };
+    }
+
+    // Moneda al azar: evita medir solo páginas ya en caché
+    private List<CryptoCandle> query(int days) {
+        String coinId = "coin-" + ThreadLocalRandom.current().nextInt(COINS);
+        return repository
+                .findByCoinIdAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+                        coinId, "1d", NOW.minusDays(days), NOW, PageRequest.of(0, 1000));
+    }
+
+    private void print(String label, double[] short30, double[] long365) {
+        System.out.printf("%-10s %12d %14.3f %14.3f %14.3f %14.3f%n", label,
+                jdbcTemplate.queryForObject("SELECT count(*) FROM crypto_candle_1d", Long.class),
+                short30[0], short30[1], long365[0], long365[1]);
+    }
+}
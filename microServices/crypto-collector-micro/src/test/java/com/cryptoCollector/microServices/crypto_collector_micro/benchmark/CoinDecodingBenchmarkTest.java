@@ -0,0 +1,141 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.benchmark;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.codec.CoinGeckoCoinDecoder;
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinGeckoCoin;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara el codec actual (Jackson2JsonDecoder + binding) con el decoder por tokens sobre una
+ * página de 250 monedas troceada en buffers de 8 KB, como llega de Netty. Reporta tiempo por
+ * página y bytes asignados por página (gc.alloc.rate.norm).
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=CoinDecodingBenchmarkTest
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Decodificación de páginas CoinGecko")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CoinDecodingBenchmarkTest {
+
+    private static final int COINS_PER_PAGE = 250;
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final ResolvableType COIN_TYPE = ResolvableType.forClass(CoinGeckoCoin.class);
+
+    private List<byte[]> chunks;
+    private Jackson2JsonDecoder jacksonDecoder;
+    private CoinGeckoCoinDecoder streamingDecoder;
+
+    @Setup
+    public void setUp() {
+        chunks = split(page().getBytes(StandardCharsets.UTF_8));
+        jacksonDecoder = new Jackson2JsonDecoder(Jackson2ObjectMapperBuilder.json().build());
+        streamingDecoder = new CoinGeckoCoinDecoder(64 * 1024);
+    }
+
+    @Benchmark
+    public List<CoinGeckoCoin> jackson2JsonDecoder() {
+        return jacksonDecoder.decode(body(), COIN_TYPE, MediaType.APPLICATION_JSON, null)
+                .cast(CoinGeckoCoin.class)
+                .collectList()
+                .block();
+    }
+
+    @Benchmark
+    public List<CoinGeckoCoin> streamingDecoder() {
+        return streamingDecoder.decode(body()).collectList().block();
+    }
+
+    @Test
+    void compareDecoders() throws Exception {
+        setUp();
+        assertThat(jackson2JsonDecoder()).hasSize(COINS_PER_PAGE);
+        assertThat(streamingDecoder()).hasSize(COINS_PER_PAGE);
+
+        Options options = new OptionsBuilder()
+                .include(getClass().getName() + ".")
+                .forks(0)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .addProfiler(GCProfiler.class)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        System.out.printf("%n%-22s %14s %18s%n", "decoder", "us/página", "bytes asignados");
+        for (RunResult result : results) {
+            String name = result.getParams().getBenchmark();
+            double allocated = result.getSecondaryResults().get("gc.alloc.rate.norm").getScore();
+            System.out.printf("%-22s %14.1f %18.0f%n", name.substring(name.lastIndexOf('.') + 1),
+                    result.getPrimaryResult().getScore(), allocated);
+        }
+    }
+
+    private Flux<DataBuffer> body() {
+        return Flux.fromIterable(chunks).map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+
+    private static List<byte[]> split(byte[] bytes) {
+        List<byte[]> result = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += CHUNK_SIZE) {
+            byte[] chunk = new byte[Math.min(CHUNK_SIZE, bytes.length - offset)];
+            System.arraycopy(bytes, offset, chunk, 0, chunk.length);
+            result.add(chunk);
+        }
+        return result;
+    }
+
+    // Misma forma que /coins/markets, incluidos los campos que la sincronización no usa
+    private static String page() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= COINS_PER_PAGE; i++) {
+            if (i > 1) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"coin-").append(i).append("\",\"symbol\":\"c").append(i)
+                    .append("\",\"name\":\"Coin ").append(i)
+                    .append("\",\"image\":\"https://assets.coingecko.com/coins/images/").append(i)
+                    .append("/large/coin.png\",\"current_price\":").append(i * 1.25)
+                    .append(",\"market_cap\":").append(1_000_000_000L - i * 1000L)
+                    .append(",\"market_cap_rank\":").append(i)
+                    .append(",\"fully_diluted_valuation\":null,\"total_volume\":").append(i * 10_000.5)
+                    .append(",\"high_24h\":").append(i * 1.3).append(",\"low_24h\":").append(i * 1.2)
+                    .append(",\"price_change_24h\":0.05,\"price_change_percentage_24h\":1.23")
+                    .append(",\"circulating_supply\":19000000.0,\"total_supply\":21000000.0,\"max_supply\":null")
+                    .append(",\"ath\":69045.0,\"ath_date\":\"2021-11-10T14:24:11.849Z\"")
+                    .append(",\"roi\":{\"times\":1.5,\"currency\":\"usd\",\"percentage\":150.0}")
+                    .append(",\"last_updated\":\"2025-01-15T10:30:00.000Z\"}");
+        }
+        return json.append(']').toString();
+    }
+}
@@ -0,0 +1,187 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.benchmark;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.filter.JwtAuthenticationFilter;
+import com.cryptoCollector.microServices.crypto_collector_micro.util.InternalIdentity;
+import com.cryptoCollector.microServices.crypto_collector_micro.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Coste por petición del filtro JWT del servicio con un token ya visto (el caso normal: un cliente
+ * repite su token). Compara la implementación anterior (clave con SHA-256 y parser nuevos en cada
+ * petición, sin contar sus 4 logs INFO), el parser precalculado sin caché, el filtro actual y la
+ * cabecera X-Internal-Identity que firma el API Gateway.
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=JwtFilterBenchmarkTest
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Coste del filtro JWT por petición")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmarkTest {
+
+    private static final String SECRET = "change_this_to_a_real_secret";
+
+    private String authorization;
+    private OncePerRequestFilter legacyFilter;
+    private JwtAuthenticationFilter parserOnlyFilter;
+    private JwtAuthenticationFilter cachedFilter;
+    private String identityHeader;
+
+    @Setup
+    public void setUp() throws Exception {
+        byte[] key = MessageDigest.getInstance("SHA-256").digest(SECRET.getBytes(StandardCharsets.UTF_8));
+        authorization = "Bearer " + Jwts.builder()
+                .setSubject("bench@example.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(Keys.hmacShaKeyFor(key))
+                .compact();
+        legacyFilter = new LegacyJwtAuthenticationFilter();
+        // TTL cero: cada petición verifica la firma con el parser ya construido
+        InternalIdentity internalIdentity = new InternalIdentity("", SECRET);
+        parserOnlyFilter = new JwtAuthenticationFilter(new JwtUtil(SECRET, 10_000, Duration.ZERO, new SimpleMeterRegistry()),
+                internalIdentity);
+        cachedFilter = new JwtAuthenticationFilter(new JwtUtil(SECRET, 10_000, Duration.ofMinutes(5), new SimpleMeterRegistry()),
+                internalIdentity);
+        identityHeader = internalIdentity.sign("bench@example.com", System.currentTimeMillis() / 1000 + 3600);
+    }
+
+    @Benchmark
+    public Authentication legacy() throws Exception {
+        return filter(legacyFilter);
+    }
+
+    @Benchmark
+    public Authentication prebuiltParser() throws Exception {
+        return filter(parserOnlyFilter);
+    }
+
+    @Benchmark
+    public Authentication cachedVerification() throws Exception {
+        return filter(cachedFilter);
+    }
+
+    @Benchmark
+    public Authentication gatewayIdentity() throws Exception {
+        return filter(parserOnlyFilter, InternalIdentity.HEADER, identityHeader);
+    }
+
+    @Test
+    void compareFilters() throws Exception {
+        setUp();
+        assertThat(legacy().getName()).isEqualTo("bench@example.com");
+        assertThat(prebuiltParser().getName()).isEqualTo("bench@example.com");
+        assertThat(cachedVerification().getName()).isEqualTo("bench@example.com");
+        assertThat(gatewayIdentity().getName()).isEqualTo("bench@example.com");
+
+        Options options = new OptionsBuilder()
+                .include(getClass().getName() + ".")
+                .forks(0)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .addProfiler(GCProfiler.class)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        System.out.printf("%n%-20s %14s %18s%n", "filtro", "us/petición", "bytes asignados");
+        for (RunResult result : results) {
+            String name = result.getParams().getBenchmark();
+            double allocated = result.getSecondaryResults().get("gc.alloc.rate.norm").getScore();
+            System.out.printf("%-20s %14.2f %18.0f%n", name.substring(name.lastIndexOf('.') + 1),
+                    result.getPrimaryResult().getScore(), allocated);
+        }
+    }
+
+    private Authentication filter(OncePerRequestFilter filter) throws Exception {
+        return filter(filter, HttpHeaders.AUTHORIZATION, authorization);
+    }
+
+    private Authentication filter(OncePerRequestFilter filter, String header, String value) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/crypto/list");
+        request.addHeader(header, value);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    // Réplica del filtro y de JwtUtil anteriores (sin los logs)
+    private static final class LegacyJwtAuthenticationFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                FilterChain filterChain) throws IOException, ServletException {
+            String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (authHeader != null && authHeader.startsWith("Bearer ")) {
+                String subject = subject(authHeader.substring(7));
+                if (subject != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                    var auth = new UsernamePasswordAuthenticationToken(subject, null,
+                            List.of(new SimpleGrantedAuthority("ROLE_USER")));
+                    auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(auth);
+                }
+            }
+            filterChain.doFilter(request, response);
+        }
+
+        private static String subject(String token) {
+            try {
+                byte[] secretBytes = MessageDigest.getInstance("SHA-256").digest(SECRET.getBytes(StandardCharsets.UTF_8));
+                Key key = Keys.hmacShaKeyFor(secretBytes);
+                Jws<Claims> jws = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+                return jws.getBody().getSubject();
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+}
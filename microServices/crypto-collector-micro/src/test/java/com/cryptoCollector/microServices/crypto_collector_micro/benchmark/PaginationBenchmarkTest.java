@@ -0,0 +1,100 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.benchmark;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoReactiveRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoSortField;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.SharedH2ConnectionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara la latencia de OFFSET/LIMIT + COUNT frente a keyset en las páginas 1, 50 y 500.
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=PaginationBenchmarkTest
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:paginationbench;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext
+@DisplayName("Benchmark - Paginación offset vs keyset")
+class PaginationBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int ITERATIONS = 50;
+    private static final int[] PAGES = { 1, 50, 500 };
+
+    @Autowired
+    private CryptoRepository repository;
+
+    @Test
+    void offsetVsKeyset() {
+        List<CryptoCurrency> rows = new ArrayList<>(ROWS);
+        for (int i = 1; i <= ROWS; i++) {
+            rows.add(CryptoCurrency.builder()
+                    .coinId("coin-" + i)
+                    .name("Coin " + i)
+                    .symbol("c" + i)
+                    .marketCapRank(i)
+                    .currentPrice(i * 1.5)
+                    .build());
+        }
+        new CryptoReactiveRepository(DatabaseClient.create(SharedH2ConnectionFactory.create("paginationbench")))
+                .bulkUpsert(rows)
+                .block();
+
+        Sort sort = Sort.by("marketCapRank").ascending().and(Sort.by("id").ascending());
+        System.out.printf("%n%-6s %14s %14s %14s %14s%n", "page", "offset p50 ms", "offset p99 ms",
+                "keyset p50 ms", "keyset p99 ms");
+
+        for (int page : PAGES) {
+            // Posición de la última fila de la página anterior, como la entregaría el cursor
+            CryptoCurrency previous = page == 1 ? null
+                    : repository.findAll(PageRequest.of((page - 1) * PAGE_SIZE - 1, 1, sort)).getContent().get(0);
+
+            double[] offset = measure(() -> repository.findAll(PageRequest.of(page - 1, PAGE_SIZE, sort)).getContent());
+            double[] keyset = measure(() -> repository.findPageAfter(null, CryptoSortField.MARKET_CAP_RANK,
+                    Sort.Direction.ASC,
+                    previous != null ? previous.getMarketCapRank() : null,
+                    previous != null ? previous.getId() : null,
+                    PAGE_SIZE + 1));
+
+            System.out.printf("%-6d %14.3f %14.3f %14.3f %14.3f%n", page, offset[0], offset[1], keyset[0], keyset[1]);
+            if (page == 500) {
+                assertThat(keyset[0]).isLessThan(offset[0]);
+            }
+        }
+    }
+
+    private double[] measure(Supplier<List<CryptoCurrency>> query) {
+        for (int i = 0; i < 10; i++) {
+            query.get();
+        }
+        double[] samples = new double[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            assertThat(query.get()).isNotEmpty();
+            samples[i] = (System.nanoTime() - start) / 1_000_000d;
+        }
+        Arrays.sort(samples);
+        return new double[] { samples[ITERATIONS / 2], samples[(int) Math.ceil(ITERATIONS * 0.99) - 1] };
+    }
+}
@@ -0,0 +1,157 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.benchmark;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoReactiveRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.SharedH2ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara la ruta de escritura de la sincronización: JDBC envuelto en boundedElastic frente a
+ * R2DBC con TransactionalOperator. Cada operación lee un lote de 50 monedas por coin_id y lo
+ * reescribe, con 64 lotes en vuelo sobre rangos disjuntos. Se reportan p50/p99 por lote, tiempo
+ * total y cuántos hilos distintos ejecutaron trabajo de BD.
+ * Nota: r2dbc-h2 ejecuta las sentencias de forma síncrona en el hilo suscriptor, así que sobre H2
+ * la latencia solo refleja el coste del pipeline; la diferencia de hilos sí es representativa.
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=ReactivePersistenceBenchmarkTest
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:reactivebench;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext
+@DisplayName("Benchmark - Escritura de sincronización JDBC vs R2DBC")
+class ReactivePersistenceBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int BATCH = 50;
+    private static final int OPERATIONS = 800;
+    private static final int CONCURRENCY = 64;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Set<String> dbThreads = ConcurrentHashMap.newKeySet();
+
+    @Test
+    void boundedElasticVsR2dbc() {
+        List<CryptoCurrency> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(CryptoCurrency.builder()
+                    .coinId("coin-" + i)
+                    .name("Coin " + i)
+                    .symbol("c" + i)
+                    .marketCapRank(i + 1)
+                    .currentPrice(i * 1.5)
+                    .build());
+        }
+        ConnectionFactory connectionFactory = SharedH2ConnectionFactory.create("reactivebench");
+        CryptoReactiveRepository reactiveRepository = new CryptoReactiveRepository(DatabaseClient.create(connectionFactory));
+        TransactionalOperator operator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+        reactiveRepository.bulkUpsert(rows).block();
+
+        // Referencia bloqueante: lectura y UPDATE por lotes con JDBC en boundedElastic
+        IntFunction<Mono<Long>> blocking = op -> Mono.fromCallable(() -> transactionTemplate.execute(status -> {
+            dbThreads.add(Thread.currentThread().getName());
+            List<String> ids = slice(op);
+            List<Object[]> updates = jdbcTemplate.query(
+                    "SELECT coin_id, current_price FROM cryptocurrency WHERE coin_id IN ("
+                            + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")",
+                    (rs, rowNum) -> new Object[] { rs.getDouble("current_price") + 1, rs.getString("coin_id") },
+                    ids.toArray());
+            return (long) Arrays.stream(jdbcTemplate.batchUpdate(
+                    "UPDATE cryptocurrency SET current_price = ? WHERE coin_id = ?", updates)).sum();
+        })).subscribeOn(Schedulers.boundedElastic());
+
+        IntFunction<Mono<Long>> reactive = op -> operator.transactional(
+                reactiveRepository.findAllByCoinIdIn(slice(op))
+                        .doOnNext(c -> {
+                            dbThreads.add(Thread.currentThread().getName());
+                            c.setCurrentPrice(c.getCurrentPrice() + 1);
+                        })
+                        .collectList()
+                        .flatMap(reactiveRepository::bulkUpsert));
+
+        // Calentamiento de ambas rutas antes de medir
+        run(blocking, OPERATIONS / 4);
+        run(reactive, OPERATIONS / 4);
+
+        Result jdbc = run(blocking, OPERATIONS);
+        Result r2dbc = run(reactive, OPERATIONS);
+
+        System.out.printf("%n%-22s %10s %10s %10s %12s%n", "ruta", "p50 ms", "p99 ms", "total ms", "hilos BD");
+        print("JDBC + boundedElastic", jdbc);
+        print("R2DBC", r2dbc);
+
+        assertThat(r2dbc.threads()).isLessThan(jdbc.threads());
+    }
+
+    private static List<String> slice(int op) {
+        int start = (op * BATCH) % ROWS;
+        List<String> ids = new ArrayList<>(BATCH);
+        for (int i = start; i < start + BATCH; i++) {
+            ids.add("coin-" + i);
+        }
+        return ids;
+    }
+
+    private Result run(IntFunction<Mono<Long>> operation, int operations) {
+        dbThreads.clear();
+        long start = System.nanoTime();
+
+        List<Double> latencies = Flux.range(0, operations)
+                .flatMap(op -> Mono.defer(() -> {
+                    long opStart = System.nanoTime();
+                    return operation.apply(op)
+                            .doOnNext(written -> assertThat(written).isEqualTo(BATCH))
+                            .map(written -> (System.nanoTime() - opStart) / 1_000_000d);
+                }), CONCURRENCY)
+                .collectList()
+                .block();
+
+        long totalMs = (System.nanoTime() - start) / 1_000_000;
+        double[] samples = latencies.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+        assertThat(samples).hasSize(operations);
+        return new Result(samples[samples.length / 2],
+                samples[(int) Math.ceil(samples.length * 0.99) - 1],
+                totalMs,
+                dbThreads.size());
+    }
+
+    private static void print(String label, Result result) {
+        System.out.printf("%-22s %10.3f %10.3f %10d %12d%n", label, result.p50(), result.p99(), result.totalMs(),
+                result.threads());
+    }
+
+    private record Result(double p50, double p99, long totalMs, int threads) {
+    }
+}
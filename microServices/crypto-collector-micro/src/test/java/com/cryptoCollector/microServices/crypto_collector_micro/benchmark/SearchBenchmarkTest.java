@@ -0,0 +1,109 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.benchmark;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoReactiveRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.SharedEmbeddedPostgres;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara la búsqueda LIKE '%q%' paginada (consulta + COUNT, recorrido secuencial) con la búsqueda
+ * por trigramas limitada y sin COUNT, sobre PostgreSQL embebido con 20.000 filas.
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=SearchBenchmarkTest
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Benchmark - Búsqueda LIKE vs trigramas")
+class SearchBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int LIMIT = 10;
+    private static final int ITERATIONS = 200;
+    private static final String[] QUERIES = { "btc", "bitcoin", "token 1234", "bitcoim" };
+
+    @Autowired
+    private CryptoRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        SharedEmbeddedPostgres.register(registry);
+    }
+
+    @Test
+    void likeVsTrigram() {
+        jdbcTemplate.execute("TRUNCATE cryptocurrency");
+        List<CryptoCurrency> rows = new ArrayList<>(ROWS);
+        for (int i = 1; i <= ROWS; i++) {
+            rows.add(CryptoCurrency.builder()
+                    .coinId("token-" + i)
+                    .name("Token " + i)
+                    .symbol("t" + i)
+                    .marketCapRank(100 + i)
+                    .build());
+        }
+        rows.add(CryptoCurrency.builder().coinId("bitcoin").name("Bitcoin").symbol("btc").marketCapRank(1).build());
+        rows.add(CryptoCurrency.builder().coinId("wrapped-bitcoin").name("Wrapped Bitcoin").symbol("wbtc")
+                .marketCapRank(15).build());
+        new CryptoReactiveRepository(DatabaseClient.create(SharedEmbeddedPostgres.connectionFactory()))
+                .bulkUpsert(rows)
+                .block();
+        jdbcTemplate.execute("VACUUM ANALYZE cryptocurrency");
+
+        PageRequest page = PageRequest.of(0, LIMIT, Sort.by("marketCapRank").ascending());
+        System.out.printf("%n%-12s %12s %12s %8s %12s %12s %8s%n", "query", "like p50 ms", "like p99 ms", "rows",
+                "trgm p50 ms", "trgm p99 ms", "rows");
+
+        for (String query : QUERIES) {
+            int[] likeRows = new int[1];
+            int[] trigramRows = new int[1];
+            double[] like = measure(() -> repository
+                    .findByNameContainingIgnoreCaseOrSymbolContainingIgnoreCase(query, query, page).getContent(),
+                    likeRows);
+            double[] trigram = measure(() -> repository.search(query, LIMIT), trigramRows);
+
+            System.out.printf("%-12s %12.3f %12.3f %8d %12.3f %12.3f %8d%n", query, like[0], like[1], likeRows[0],
+                    trigram[0], trigram[1], trigramRows[0]);
+            assertThat(trigramRows[0]).isPositive();
+            assertThat(trigram[0]).isLessThan(like[0]);
+        }
+    }
+
+    private double[] measure(Supplier<List<CryptoCurrency>> query, int[] rows) {
+        for (int i = 0; i < 20; i++) {
+            query.get();
+        }
+        double[] samples = new double[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            rows[0] = query.get().size();
+            samples[i] = (System.nanoTime() - start) / 1_000_000d;
+        }
+        Arrays.sort(samples);
+        return new double[] { samples[ITERATIONS / 2], samples[(int) Math.ceil(ITERATIONS * 0.99) - 1] };
+    }
+}
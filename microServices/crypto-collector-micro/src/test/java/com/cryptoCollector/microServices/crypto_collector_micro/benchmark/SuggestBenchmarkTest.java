@@ -0,0 +1,106 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.benchmark;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import com.cryptoCollector.microServices.crypto_collector_micro.util.CoinSuggestIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latencia de GET /api/crypto/suggest resuelto en memoria sobre 15.000 monedas (todo el catálogo de
+ * CoinGecko), con prefijos de 1 a 4 letras como los que envía la UI en cada tecla, sin y con
+ * reconstrucciones del índice en paralelo.
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=SuggestBenchmarkTest
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Autocompletado en memoria")
+class SuggestBenchmarkTest {
+
+    private static final int COINS = 15_000;
+    private static final int ITERATIONS = 50_000;
+    private static final String[] WORDS = { "bit", "coin", "ether", "wrapped", "token", "swap", "finance", "dao",
+            "protocol", "network", "chain", "inu", "doge", "shiba", "staked", "usd", "gold", "meta", "ai", "pepe" };
+
+    @Test
+    void suggestLatency() throws Exception {
+        Random random = new Random(42);
+        List<CryptoCurrency> cryptos = new ArrayList<>(COINS);
+        for (int i = 1; i <= COINS; i++) {
+            String name = capitalize(WORDS[random.nextInt(WORDS.length)]) + " "
+                    + capitalize(WORDS[random.nextInt(WORDS.length)]) + " " + i;
+            cryptos.add(CryptoCurrency.builder()
+                    .coinId("coin-" + i)
+                    .name(name)
+                    .symbol(randomSymbol(random))
+                    .marketCapRank(i)
+                    .build());
+        }
+
+        long buildStart = System.nanoTime();
+        AtomicReference<CoinSuggestIndex> index = new AtomicReference<>(CoinSuggestIndex.build(cryptos));
+        double buildMs = (System.nanoTime() - buildStart) / 1_000_000d;
+
+        String[] prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            prefixes[i] = word.substring(0, 1 + random.nextInt(Math.min(4, word.length())));
+        }
+
+        double[] idle = measure(index, prefixes);
+
+        // Un hilo reconstruye y publica índices nuevos sin pausa mientras se consulta
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread rebuilder = Thread.ofPlatform().start(() -> {
+            while (running.get()) {
+                index.set(CoinSuggestIndex.build(cryptos));
+            }
+        });
+        double[] rebuilding = measure(index, prefixes);
+        running.set(false);
+        rebuilder.join();
+
+        System.out.printf("%nÍndice: %d monedas, construido en %.1f ms%n", COINS, buildMs);
+        System.out.printf("%-22s %10s %10s %10s%n", "escenario", "p50 µs", "p99 µs", "p99.9 µs");
+        System.out.printf("%-22s %10.1f %10.1f %10.1f%n", "sin reconstrucción", idle[0], idle[1], idle[2]);
+        System.out.printf("%-22s %10.1f %10.1f %10.1f%n", "reconstruyendo", rebuilding[0], rebuilding[1],
+                rebuilding[2]);
+
+        assertThat(idle[1]).isLessThan(1000);
+    }
+
+    private double[] measure(AtomicReference<CoinSuggestIndex> index, String[] prefixes) {
+        for (int i = 0; i < 10_000; i++) {
+            index.get().suggest(prefixes[i % prefixes.length], 10);
+        }
+        double[] samples = new double[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            assertThat(index.get().suggest(prefixes[i % prefixes.length], 10)).isNotEmpty();
+            samples[i] = (System.nanoTime() - start) / 1_000d;
+        }
+        Arrays.sort(samples);
+        return new double[] { samples[ITERATIONS / 2], samples[(int) Math.ceil(ITERATIONS * 0.99) - 1],
+                samples[(int) Math.ceil(ITERATIONS * 0.999) - 1] };
+    }
+
+    private static String randomSymbol(Random random) {
+        char[] symbol = new char[2 + random.nextInt(4)];
+        for (int i = 0; i < symbol.length; i++) {
+            symbol[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(symbol);
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,167 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.benchmark;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.CryptoCollectorMicroApplication;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara el servicio completo en modo servlet (Tomcat + WebFlux sobre servlet) y en modo reactivo
+ * (Reactor Netty): requests/s contra GET /api/crypto/list (JWT + seguridad + JPA sobre H2 vacío) y
+ * RSS del proceso tras la carga. Cada modo arranca en su propia JVM con el mismo heap para que el
+ * RSS sea comparable; Redis, Eureka y el config server no intervienen.
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=WebStackBenchmarkTest (solo Linux, lee /proc)
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Modo servlet vs reactivo (Netty)")
+class WebStackBenchmarkTest {
+
+    private static final String SECRET = "webStackBenchmarkSecret0123456789abcdefghij";
+    private static final int CONCURRENCY = 64;
+    private static final int WARMUP_REQUESTS = 5_000;
+    private static final int REQUESTS = 20_000;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    @Test
+    void servletVsReactive() throws Exception {
+        String token = Jwts.builder()
+                .setSubject("bench@example.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (String mode : List.of("servlet", "reactive")) {
+            results.put(mode, run(mode, token));
+        }
+
+        System.out.printf("%n%-10s %10s %10s %12s%n", "modo", "req/s", "p99 ms", "RSS MB");
+        results.forEach((mode, r) -> System.out.printf("%-10s %10.0f %10.2f %12d%n", mode, r.throughput(), r.p99(),
+                r.rssKb() / 1024));
+
+        results.values().forEach(r -> assertThat(r.throughput()).isPositive());
+    }
+
+    private Result run(String mode, String token) throws Exception {
+        int port = freePort();
+        Path log = Files.createTempFile("web-stack-" + mode, ".log");
+        Process process = new ProcessBuilder(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xms256m", "-Xmx256m",
+                "-cp", System.getProperty("java.class.path"),
+                CryptoCollectorMicroApplication.class.getName(),
+                "--spring.main.web-application-type=" + mode,
+                "--server.port=" + port,
+                "--spring.config.import=",
+                "--spring.cloud.config.enabled=false",
+                "--eureka.client.enabled=false",
+                "--management.health.redis.enabled=false",
+                "--jwt.secret=" + SECRET,
+                "--logging.level.root=WARN",
+                "--logging.level.com.cryptoCollector=WARN"))
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+        ConnectionProvider connections = ConnectionProvider.create("web-stack-bench", CONCURRENCY);
+        try {
+            WebClient client = WebClient.builder()
+                    .baseUrl("http://localhost:" + port)
+                    .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+                    .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                    .build();
+            awaitStartup(client, process, log.toFile());
+
+            load(client, WARMUP_REQUESTS);
+            long start = System.nanoTime();
+            double[] latencies = load(client, REQUESTS);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000d;
+
+            return new Result(REQUESTS / seconds, latencies[(int) Math.ceil(latencies.length * 0.99) - 1],
+                    rssKb(process.pid()));
+        } finally {
+            connections.dispose();
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static double[] load(WebClient client, int requests) {
+        List<Double> latencies = Flux.range(0, requests)
+                .flatMap(i -> {
+                    long start = System.nanoTime();
+                    return client.get().uri("/api/crypto/list?after=&size=20")
+                            .exchangeToMono(response -> {
+                                assertThat(response.statusCode().value()).isEqualTo(200);
+                                return response.releaseBody();
+                            })
+                            .then(Mono.fromCallable(
+                                    () -> (System.nanoTime() - start) / 1_000_000d));
+                }, CONCURRENCY)
+                .collectList()
+                .block();
+        return latencies.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+    }
+
+    private static void awaitStartup(WebClient client, Process process, File log) throws Exception {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("El servicio terminó al arrancar:\n" + Files.readString(log.toPath()));
+            }
+            try {
+                HttpStatusCode status = client.get().uri("/actuator/health")
+                        .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode()))
+                        .block(Duration.ofSeconds(2));
+                if (status != null) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                // Todavía no escucha en el puerto
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("El servicio no arrancó en " + STARTUP_TIMEOUT);
+    }
+
+    private static long rssKb(long pid) throws IOException {
+        return Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status")).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Result(double throughput, double p99, long rssKb) {
+    }
+}
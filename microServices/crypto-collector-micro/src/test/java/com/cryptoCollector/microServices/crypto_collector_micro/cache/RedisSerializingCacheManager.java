@@ -0,0 +1,48 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.cache;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.config.RedisConfig;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sustituto en memoria de RedisCacheManager: guarda cada valor como los bytes que produce el
+ * serializador de {@link RedisConfig} para esa caché y lo deserializa en cada lectura, de modo que
+ * los tests reciben lo mismo que devolvería Redis (L2) sin levantar un servidor.
+ */
+public class RedisSerializingCacheManager extends ConcurrentMapCacheManager {
+
+    private final Map<String, RedisCacheConfiguration> configurations = RedisConfig.cacheConfigurations();
+    private final RedisCacheConfiguration defaultConfiguration = RedisConfig.defaultCacheConfiguration();
+
+    public RedisSerializingCacheManager(String... cacheNames) {
+        // Tras inicializar los campos: el constructor con nombres crearía las cachés antes
+        setCacheNames(Arrays.asList(cacheNames));
+    }
+
+    @Override
+    protected ConcurrentMapCache createConcurrentMapCache(String name) {
+        SerializationPair<Object> values = configurations.getOrDefault(name, defaultConfiguration)
+                .getValueSerializationPair();
+        return new ConcurrentMapCache(name, new ConcurrentHashMap<>(256), false, null) {
+            @Override
+            protected Object toStoreValue(Object userValue) {
+                ByteBuffer buffer = values.write(super.toStoreValue(userValue));
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                return bytes;
+            }
+
+            @Override
+            protected Object fromStoreValue(Object storeValue) {
+                return storeValue == null ? null : values.read(ByteBuffer.wrap((byte[]) storeValue));
+            }
+        };
+    }
+}
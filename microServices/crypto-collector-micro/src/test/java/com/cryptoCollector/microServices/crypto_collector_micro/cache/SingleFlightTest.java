@@ -0,0 +1,80 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SingleFlight - Tests Unitarios")
+class SingleFlightTest {
+
+    private SingleFlight<String, String> singleFlight;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight<>("test", new SimpleMeterRegistry());
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Debe agrupar las llamadas concurrentes y repartir el resultado")
+    void testExecute_CoalescesConcurrentCalls() {
+        Sinks.One<String> result = Sinks.one();
+
+        Mono<String> first = singleFlight.execute("bitcoin", () -> load(result.asMono()));
+        Mono<String> second = singleFlight.execute("bitcoin", () -> load(result.asMono()));
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> result.tryEmitValue("BTC"))
+                .assertNext(pair -> {
+                    assertThat(pair.getT1()).isEqualTo("BTC");
+                    assertThat(pair.getT2()).isEqualTo("BTC");
+                })
+                .verifyComplete();
+
+        assertThat(executions).hasValue(1);
+        assertThat(singleFlight.executedCount()).isEqualTo(1.0);
+        assertThat(singleFlight.coalescedCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debe volver a ejecutar cuando la llamada anterior ya terminó")
+    void testExecute_ReleasesKeyAfterCompletion() {
+        StepVerifier.create(singleFlight.execute("bitcoin", () -> load(Mono.just("v1"))))
+                .expectNext("v1").verifyComplete();
+        StepVerifier.create(singleFlight.execute("bitcoin", () -> load(Mono.just("v2"))))
+                .expectNext("v2").verifyComplete();
+
+        assertThat(executions).hasValue(2);
+        assertThat(singleFlight.coalescedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe propagar el error a todos y liberar la clave")
+    void testExecute_PropagatesError() {
+        Sinks.One<String> result = Sinks.one();
+        Mono<String> first = singleFlight.execute("bitcoin", () -> load(result.asMono()));
+        Mono<String> second = singleFlight.execute("bitcoin", () -> load(result.asMono()));
+
+        StepVerifier.create(Mono.zipDelayError(first, second))
+                .then(() -> result.tryEmitError(new IllegalStateException("BD caída")))
+                .verifyError();
+
+        StepVerifier.create(singleFlight.execute("bitcoin", () -> load(Mono.just("BTC"))))
+                .expectNext("BTC").verifyComplete();
+        assertThat(executions).hasValue(2);
+    }
+
+    private Mono<String> load(Mono<String> source) {
+        executions.incrementAndGet();
+        return source;
+    }
+}
@@ -0,0 +1,196 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.cache;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.mockito.ArgumentCaptor;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.AdditionalMatchers.and;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("TwoTierCacheManager - Tests Unitarios")
+class TwoTierCacheManagerTest {
+
+    private ConcurrentMapCacheManager remoteManager;
+    private StringRedisTemplate redisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private TwoTierCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteManager = new ConcurrentMapCacheManager("crypto-details");
+        redisTemplate = mock(StringRedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new TwoTierCacheManager(remoteManager, redisTemplate, meterRegistry,
+                100, Duration.ofMinutes(1), false);
+    }
+
+    @Test
+    @DisplayName("Debe servir desde L1 tras el primer acierto en L2")
+    void testGet_PromotesToLocal() {
+        remoteManager.getCache("crypto-details").put("bitcoin", "BTC");
+        Cache cache = cacheManager.getCache("crypto-details");
+
+        assertThat(cache.get("bitcoin").get()).isEqualTo("BTC");
+        // Se borra L2: la segunda lectura solo puede venir de L1
+        remoteManager.getCache("crypto-details").clear();
+        assertThat(cache.get("bitcoin").get()).isEqualTo("BTC");
+
+        assertThat(count("l1", "hit")).isEqualTo(1.0);
+        assertThat(count("l1", "miss")).isEqualTo(1.0);
+        assertThat(count("l2", "hit")).isEqualTo(1.0);
+        assertThat(ratio("l1")).isEqualTo(0.5);
+        assertThat(ratio("l2")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debe contar fallos en ambos niveles")
+    void testGet_MissBothTiers() {
+        Cache cache = cacheManager.getCache("crypto-details");
+
+        assertThat(cache.get("unknown")).isNull();
+
+        assertThat(count("l1", "miss")).isEqualTo(1.0);
+        assertThat(count("l2", "miss")).isEqualTo(1.0);
+        assertThat(ratio("l2")).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe publicar la invalidación al limpiar la caché")
+    void testClear_PublishesInvalidation() {
+        Cache cache = cacheManager.getCache("crypto-details");
+        cache.put("bitcoin", "BTC");
+
+        cache.clear();
+
+        assertThat(cache.get("bitcoin")).isNull();
+        verify(redisTemplate).convertAndSend(eq(TwoTierCacheManager.INVALIDATION_CHANNEL),
+                and(startsWith("clear|"), endsWith("|crypto-details")));
+    }
+
+    @Test
+    @DisplayName("Debe descartar L1 al recibir la invalidación de otra instancia")
+    void testOnMessage_InvalidatesLocal() {
+        Cache cache = cacheManager.getCache("crypto-details");
+        cache.put("bitcoin", "BTC");
+        cache.put("ethereum", "ETH");
+        // Otra instancia actualizó Redis
+        remoteManager.getCache("crypto-details").put("bitcoin", "BTC-v2");
+
+        cacheManager.onMessage(message("key|otra-instancia|crypto-details|bitcoin"), null);
+
+        assertThat(cache.get("bitcoin").get()).isEqualTo("BTC-v2");
+        assertThat(cache.get("ethereum").get()).isEqualTo("ETH");
+    }
+
+    @Test
+    @DisplayName("Debe tratar la clave \"*\" como una clave más y no como limpieza completa")
+    void testOnMessage_StarKeyIsNotClearAll() {
+        Cache cache = cacheManager.getCache("crypto-details");
+        cache.put("*", "STAR");
+        cache.put("bitcoin", "BTC");
+        remoteManager.getCache("crypto-details").put("*", "STAR-v2");
+        remoteManager.getCache("crypto-details").put("bitcoin", "BTC-v2");
+
+        cacheManager.onMessage(message("key|otra-instancia|crypto-details|*"), null);
+
+        assertThat(cache.get("*").get()).isEqualTo("STAR-v2");
+        assertThat(cache.get("bitcoin").get()).isEqualTo("BTC");
+
+        // Solo el mensaje clear descarta toda la L1
+        cacheManager.onMessage(message("clear|otra-instancia|crypto-details"), null);
+
+        assertThat(cache.get("bitcoin").get()).isEqualTo("BTC-v2");
+    }
+
+    @Test
+    @DisplayName("Debe ignorar sus propios mensajes de invalidación")
+    void testOnMessage_IgnoresOwnMessages() {
+        Cache cache = cacheManager.getCache("crypto-details");
+        cache.put("bitcoin", "BTC");
+        remoteManager.getCache("crypto-details").clear();
+
+        // El propio mensaje lleva el id de esta instancia como prefijo
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(anyString(), published.capture());
+        cacheManager.onMessage(message(published.getValue()), null);
+
+        assertThat(cache.get("bitcoin").get()).isEqualTo("BTC");
+    }
+
+    @Test
+    @DisplayName("Debe resolver retrieve desde L1 sin tocar Redis")
+    void testRetrieve_FromLocal() throws Exception {
+        Cache cache = cacheManager.getCache("crypto-details");
+        cache.put("bitcoin", "BTC");
+        remoteManager.getCache("crypto-details").clear();
+
+        Object wrapper = cache.retrieve("bitcoin").get(1, TimeUnit.SECONDS);
+
+        assertThat(((Cache.ValueWrapper) wrapper).get()).isEqualTo("BTC");
+    }
+
+    @Test
+    @DisplayName("Debe leer desde Redis (L2) el tipo original guardado por otra instancia")
+    void testGet_FromSerializedRemote() {
+        RedisSerializingCacheManager redis = new RedisSerializingCacheManager("crypto-details", "crypto-list");
+        TwoTierCacheManager writer = new TwoTierCacheManager(redis, redisTemplate, meterRegistry,
+                100, Duration.ofMinutes(1), false);
+        TwoTierCacheManager reader = new TwoTierCacheManager(redis, redisTemplate, new SimpleMeterRegistry(),
+                100, Duration.ofMinutes(1), false);
+        CryptoCurrency bitcoin = CryptoCurrency.builder()
+                .coinId("bitcoin").symbol("btc").name("Bitcoin").currentPrice(50000.0)
+                .lastUpdated(OffsetDateTime.parse("2025-01-01T00:00:00Z"))
+                .build();
+
+        writer.getCache("crypto-details").put("bitcoin", bitcoin);
+        // Con @class solo viajan tipos no finales: List.of (clase final del JDK) no se podría leer
+        writer.getCache("crypto-list").put("top", new ArrayList<>(List.of(bitcoin)));
+
+        // La instancia lectora tiene L1 vacío: ambos valores salen del serializador de Redis
+        Object details = reader.getCache("crypto-details").get("bitcoin").get();
+        Object list = reader.getCache("crypto-list").get("top").get();
+
+        assertThat(details).isInstanceOf(CryptoCurrency.class);
+        assertThat(((CryptoCurrency) details).getCurrentPrice()).isEqualTo(50000.0);
+        assertThat(((CryptoCurrency) details).getLastUpdated()).isEqualTo(bitcoin.getLastUpdated());
+        assertThat((List<?>) list).singleElement().isInstanceOf(CryptoCurrency.class);
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("cache.tier.requests")
+                .tags("cache", "crypto-details", "tier", tier, "result", result)
+                .counter().count();
+    }
+
+    private double ratio(String tier) {
+        return meterRegistry.get("cache.tier.hit.ratio")
+                .tags("cache", "crypto-details", "tier", tier)
+                .gauge().value();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(TwoTierCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,113 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.codec;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinGeckoCoin;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CoinGeckoCoinDecoder - Tests Unitarios")
+class CoinGeckoCoinDecoderTest {
+
+    private static final String PAGE = """
+            [
+              {"id":"bitcoin","symbol":"btc","name":"Bitcoin","image":"https://x/btc.png",
+               "current_price":45000.5,"market_cap":900000000000,"market_cap_rank":1,
+               "total_volume":5.0E10,"roi":null,"sparkline_in_7d":{"price":[1.0,2.0,[3.0]]},
+               "last_updated":"2025-01-15T10:30:00.000Z"},
+              {"id":"ethereum","symbol":"eth","name":"Ethereum \\u00e9","current_price":3000,
+               "market_cap":null,"market_cap_rank":null,"tags":["a","b"],
+               "roi":{"times":1.5,"currency":"usd"},"last_updated":null}
+            ]
+            """;
+
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+    private final CoinGeckoCoinDecoder decoder = new CoinGeckoCoinDecoder(64 * 1024);
+
+    @Test
+    @DisplayName("Debe decodificar la página aunque llegue partida en trozos arbitrarios")
+    void testDecode_ChunkedBody() {
+        List<CoinGeckoCoin> coins = decoder.decode(chunks(PAGE, 7)).collectList().block();
+
+        assertThat(coins).hasSize(2);
+        CoinGeckoCoin bitcoin = coins.get(0);
+        assertThat(bitcoin.getId()).isEqualTo("bitcoin");
+        assertThat(bitcoin.getSymbol()).isEqualTo("btc");
+        assertThat(bitcoin.getCurrent_price()).isEqualTo(45000.5);
+        assertThat(bitcoin.getMarket_cap()).isEqualTo(900000000000.0);
+        assertThat(bitcoin.getMarket_cap_rank()).isEqualTo(1);
+        assertThat(bitcoin.getTotal_volume()).isEqualTo(5.0E10);
+        assertThat(bitcoin.getLast_updated()).isEqualTo(OffsetDateTime.parse("2025-01-15T10:30:00Z"));
+
+        CoinGeckoCoin ethereum = coins.get(1);
+        assertThat(ethereum.getName()).isEqualTo("Ethereum é");
+        assertThat(ethereum.getCurrent_price()).isEqualTo(3000.0);
+        assertThat(ethereum.getMarket_cap()).isNull();
+        assertThat(ethereum.getMarket_cap_rank()).isNull();
+        assertThat(ethereum.getLast_updated()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe emitir cada moneda en cuanto se completa, sin esperar al final del array")
+    void testDecode_EmitsIncrementally() {
+        int split = PAGE.indexOf("{\"id\":\"ethereum\"");
+
+        StepVerifier.create(decoder.decode(Flux.concat(
+                chunks(PAGE.substring(0, split), 1024),
+                Flux.never())))
+                .assertNext(coin -> assertThat(coin.getId()).isEqualTo("bitcoin"))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar respuestas que no son un array de monedas")
+    void testDecode_ErrorPayload() {
+        StepVerifier.create(decoder.decode(chunks("{\"status\":{\"error_code\":429}}", 16)))
+                .expectError(DecodingException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una respuesta truncada")
+    void testDecode_Truncated() {
+        StepVerifier.create(decoder.decode(chunks(PAGE.substring(0, PAGE.length() / 2), 16)))
+                .expectError(DecodingException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debe cortar cuando una moneda supera el tamaño máximo")
+    void testDecode_MaxObjectSize() {
+        String huge = "[{\"id\":\"x\",\"description\":\"" + "a".repeat(2048) + "\"}]";
+
+        StepVerifier.create(new CoinGeckoCoinDecoder(1024).decode(chunks(huge, 256)))
+                .expectErrorMatches(error -> error instanceof DataBufferLimitException
+                        || error.getCause() instanceof DataBufferLimitException
+                        || error.getMessage().contains("1024"))
+                .verify();
+    }
+
+    private Flux<DataBuffer> chunks(String json, int size) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += size) {
+            int length = Math.min(size, bytes.length - offset);
+            DataBuffer buffer = bufferFactory.allocateBuffer(length);
+            buffer.write(bytes, offset, length);
+            buffers.add(buffer);
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
@@ -0,0 +1,115 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.filter;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.util.InternalIdentity;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.DispatcherHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Arranca el servicio en modo reactivo (sin servlet) y comprueba la cadena de seguridad WebFlux.
+ */
+@SpringBootTest(properties = {
+        "spring.main.web-application-type=reactive",
+        "jwt.secret=" + JwtAuthenticationWebFilterTest.SECRET })
+@AutoConfigureWebTestClient
+@DisplayName("JwtAuthenticationWebFilter - Tests de Integración")
+class JwtAuthenticationWebFilterTest {
+
+    static final String SECRET = "reactiveModeTestSecret0123456789abcdefghij";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    @DisplayName("Debe ejecutarse sobre WebFlux sin el filtro servlet")
+    void testRunsOnWebFlux() {
+        assertThat(context.getBeanNamesForType(DispatcherHandler.class)).isNotEmpty();
+        assertThat(context.getBeanNamesForType(JwtAuthenticationFilter.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 401 las rutas protegidas sin token o con token inválido")
+    void testRejectsMissingOrInvalidToken() {
+        webTestClient.get().uri("/api/crypto/list?after=")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.get().uri("/api/crypto/list?after=")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer no-es-un-jwt")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    @DisplayName("Debe autenticar con un token válido")
+    void testAcceptsValidToken() {
+        webTestClient.get().uri("/api/crypto/list?after=&size=5")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("user@example.com"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content").isArray()
+                .jsonPath("$.hasNext").isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("Debe autenticar con la identidad firmada por el gateway y rechazar una falsificada")
+    void testAcceptsGatewayIdentity() {
+        long exp = System.currentTimeMillis() / 1000 + 60;
+        webTestClient.get().uri("/api/crypto/list?after=&size=5")
+                .header(InternalIdentity.HEADER, new InternalIdentity("", SECRET).sign("user@example.com", exp))
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient.get().uri("/api/crypto/list?after=&size=5")
+                .header(InternalIdentity.HEADER, new InternalIdentity("", "otro-secreto").sign("user@example.com", exp))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    @DisplayName("Debe responder errores con el formato ErrorResponse")
+    void testErrorResponseFormat() {
+        webTestClient.get().uri("/api/crypto/list?after=cursor-invalido")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("user@example.com"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.path").isEqualTo("/api/crypto/list");
+    }
+
+    @Test
+    @DisplayName("Debe publicar la documentación OpenAPI sin autenticación")
+    void testServesApiDocs() {
+        webTestClient.get().uri("/v3/api-docs")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.paths['/api/crypto/list']").exists();
+    }
+
+    private static String token(String subject) {
+        return Jwts.builder()
+                .setSubject(subject)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
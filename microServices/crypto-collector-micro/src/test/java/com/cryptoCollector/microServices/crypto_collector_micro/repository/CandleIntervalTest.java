@@ -0,0 +1,39 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CandleInterval - Tests Unitarios")
+class CandleIntervalTest {
+
+    @Test
+    @DisplayName("Debe alinear el inicio de cada vela en UTC")
+    void testBucketStart_AlignsInUtc() {
+        // 2025-01-15 (miércoles) 13:45 UTC expresado con otra zona horaria
+        OffsetDateTime time = OffsetDateTime.parse("2025-01-15T10:45:30-03:00");
+
+        assertThat(CandleInterval.ONE_HOUR.bucketStart(time)).isEqualTo("2025-01-15T13:00:00Z");
+        assertThat(CandleInterval.SIX_HOURS.bucketStart(time)).isEqualTo("2025-01-15T12:00:00Z");
+        assertThat(CandleInterval.ONE_DAY.bucketStart(time)).isEqualTo("2025-01-15T00:00:00Z");
+        assertThat(CandleInterval.ONE_WEEK.bucketStart(time)).isEqualTo("2025-01-13T00:00:00Z");
+        // Un lunes a medianoche es su propio inicio de semana
+        assertThat(CandleInterval.ONE_WEEK.bucketStart(OffsetDateTime.parse("2025-01-13T00:00:00Z")))
+                .isEqualTo("2025-01-13T00:00:00Z");
+    }
+
+    @Test
+    @DisplayName("Debe resolver los códigos soportados y rechazar los demás")
+    void testFromCode() {
+        assertThat(CandleInterval.fromCode("6h")).isEqualTo(CandleInterval.SIX_HOURS);
+        assertThat(CandleInterval.fromCode("1w")).isEqualTo(CandleInterval.ONE_WEEK);
+
+        assertThatThrownBy(() -> CandleInterval.fromCode("5m"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("5m");
+    }
+}
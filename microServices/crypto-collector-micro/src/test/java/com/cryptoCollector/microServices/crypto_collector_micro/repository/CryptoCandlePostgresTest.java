@@ -0,0 +1,114 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCandle;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoPriceTick;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Velas en PostgreSQL embebido: la agregación incremental por INSERT ... ON CONFLICT y el plan de
+ * la consulta por rango, que debe leer solo la partición de su resolución por la clave primaria.
+ * Se cargan 1.000 monedas con un año de velas de 6h (~1,5 millones de filas en crypto_candle_6h).
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Velas OHLC en PostgreSQL - Tests de Integración")
+class CryptoCandlePostgresTest {
+
+    private static final OffsetDateTime DAY = OffsetDateTime.parse("2025-01-15T00:00:00Z");
+
+    @Autowired
+    private CryptoCandleRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        SharedEmbeddedPostgres.register(registry);
+    }
+
+    @Test
+    @DisplayName("Debe agregar de forma incremental e idempotente con ON CONFLICT")
+    void testRollup_OnConflict() {
+        jdbcTemplate.execute("TRUNCATE crypto_candle");
+        List<CryptoPriceTick> first = new ArrayList<>();
+        List<CryptoPriceTick> second = new ArrayList<>();
+        // Más filas que una sola sentencia multi-fila (1000): 300 monedas × 4 resoluciones
+        for (int i = 0; i < 300; i++) {
+            first.add(tick("coin-" + i, DAY.plusHours(7), 100.0 + i));
+            second.add(tick("coin-" + i, DAY.plusHours(5), 50.0 + i));
+        }
+
+        assertThat(repository.rollup(first)).isEqualTo(1200);
+        repository.rollup(second);
+        repository.rollup(second);
+
+        // 05:00 y 07:00 caen en velas distintas de 1h y de 6h y en la misma de 1d y 1w
+        assertThat(repository.count()).isEqualTo(300 * 6);
+        CryptoCandle day = repository.findById(new CryptoCandle.CandleId("coin-7", "1d", DAY)).orElseThrow();
+        assertThat(day.getOpenPrice()).isEqualTo(57.0);
+        assertThat(day.getHighPrice()).isEqualTo(107.0);
+        assertThat(day.getLowPrice()).isEqualTo(57.0);
+        assertThat(day.getClosePrice()).isEqualTo(107.0);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM crypto_candle_1h WHERE coin_id = 'coin-7'", Long.class)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("La consulta por rango debe leer solo la partición de la resolución por su clave primaria")
+    void testRangeQuery_UsesPrimaryKeyOfOnePartition() {
+        jdbcTemplate.execute("TRUNCATE crypto_candle");
+        jdbcTemplate.update("INSERT INTO crypto_candle (coin_id, resolution, bucket_start, open_price, high_price, "
+                + "low_price, close_price, volume, open_ts, close_ts) "
+                + "SELECT 'coin-' || c, '6h', b, 1, 2, 0.5, 1.5, 10, b, b "
+                + "FROM generate_series(1, 1000) c, "
+                + "generate_series(?::timestamptz - interval '365 days', ?::timestamptz, interval '6 hours') b",
+                Timestamp.from(DAY.toInstant()), Timestamp.from(DAY.toInstant()));
+        jdbcTemplate.execute("VACUUM ANALYZE crypto_candle");
+
+        List<CryptoCandle> candles = repository
+                .findByCoinIdAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+                        "coin-500", "6h", DAY.minusDays(30), DAY, PageRequest.of(0, 1000));
+        assertThat(candles).hasSize(120);
+
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT bucket_start, open_price, high_price, low_price, close_price, volume "
+                        + "FROM crypto_candle WHERE coin_id = ? AND resolution = ? "
+                        + "AND bucket_start >= ? AND bucket_start < ? ORDER BY bucket_start LIMIT 1000",
+                String.class, "coin-500", "6h",
+                Timestamp.from(DAY.minusDays(30).toInstant()), Timestamp.from(DAY.toInstant())));
+        assertThat(plan)
+                .as(plan)
+                .containsPattern("Index Only Scan using crypto_candle_6h_pkey")
+                .doesNotContain("crypto_candle_1h")
+                .doesNotContain("Sort")
+                .doesNotContain("Seq Scan");
+    }
+
+    private CryptoPriceTick tick(String coinId, OffsetDateTime ts, double price) {
+        return CryptoPriceTick.builder()
+                .coinId(coinId)
+                .ts(ts)
+                .currentPrice(price)
+                .totalVolume(price * 10)
+                .build();
+    }
+}
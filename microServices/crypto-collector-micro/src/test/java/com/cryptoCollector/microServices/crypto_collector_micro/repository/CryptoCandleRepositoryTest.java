@@ -0,0 +1,90 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCandle;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoPriceTick;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("CryptoCandleRepository - Tests de Integración")
+class CryptoCandleRepositoryTest {
+
+    private static final OffsetDateTime HOUR = OffsetDateTime.parse("2025-01-15T10:00:00Z");
+
+    @Autowired
+    private CryptoCandleRepository repository;
+
+    @Test
+    @DisplayName("Debe actualizar open/high/low/close de forma incremental aunque los ticks lleguen desordenados")
+    void testRollup_Incremental() {
+        repository.rollup(List.of(tick("bitcoin", 15, 100.0, 1000.0)));
+        repository.rollup(List.of(tick("bitcoin", 45, 120.0, 3000.0)));
+        // Tick intermedio que llega el último (p. ej. una página reintentada)
+        repository.rollup(List.of(tick("bitcoin", 30, 90.0, 2000.0)));
+
+        CryptoCandle hour = candle("bitcoin", "1h", HOUR);
+        assertThat(hour.getOpenPrice()).isEqualTo(100.0);
+        assertThat(hour.getHighPrice()).isEqualTo(120.0);
+        assertThat(hour.getLowPrice()).isEqualTo(90.0);
+        assertThat(hour.getClosePrice()).isEqualTo(120.0);
+        assertThat(hour.getVolume()).isEqualTo(3000.0);
+
+        // El mismo intervalo en las demás resoluciones
+        assertThat(candle("bitcoin", "6h", HOUR.withHour(6)).getLowPrice()).isEqualTo(90.0);
+        assertThat(candle("bitcoin", "1d", HOUR.withHour(0)).getClosePrice()).isEqualTo(120.0);
+        assertThat(candle("bitcoin", "1w", OffsetDateTime.parse("2025-01-13T00:00:00Z")).getOpenPrice())
+                .isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("Debe dejar las velas igual al aplicar dos veces los mismos ticks e ignorar los ticks sin precio")
+    void testRollup_IdempotentAndSkipsMissingPrice() {
+        List<CryptoPriceTick> ticks = List.of(
+                tick("bitcoin", 5, 100.0, 10.0),
+                tick("ethereum", 5, 3000.0, 20.0),
+                CryptoPriceTick.builder().coinId("unpriced").ts(HOUR.plusMinutes(5)).build());
+
+        assertThat(repository.rollup(ticks)).isEqualTo(8);
+        repository.rollup(ticks);
+
+        assertThat(repository.count()).isEqualTo(8);
+        CryptoCandle hour = candle("bitcoin", "1h", HOUR);
+        assertThat(hour.getOpenPrice()).isEqualTo(100.0);
+        assertThat(hour.getClosePrice()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("Debe consultar un rango de velas por moneda y resolución en orden y con límite")
+    void testRangeQuery() {
+        for (int hour = 0; hour < 5; hour++) {
+            repository.rollup(List.of(tick("bitcoin", hour * 60 + 10, 100.0 + hour, null)));
+        }
+
+        List<CryptoCandle> candles = repository
+                .findByCoinIdAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+                        "bitcoin", "1h", HOUR.plusHours(1), HOUR.plusHours(4), PageRequest.of(0, 2));
+
+        assertThat(candles).extracting(CryptoCandle::getClosePrice).containsExactly(101.0, 102.0);
+    }
+
+    private CryptoCandle candle(String coinId, String resolution, OffsetDateTime bucketStart) {
+        return repository.findById(new CryptoCandle.CandleId(coinId, resolution, bucketStart)).orElseThrow();
+    }
+
+    private CryptoPriceTick tick(String coinId, int minutes, double price, Double volume) {
+        return CryptoPriceTick.builder()
+                .coinId(coinId)
+                .ts(HOUR.plusMinutes(minutes))
+                .currentPrice(price)
+                .totalVolume(volume)
+                .build();
+    }
+}
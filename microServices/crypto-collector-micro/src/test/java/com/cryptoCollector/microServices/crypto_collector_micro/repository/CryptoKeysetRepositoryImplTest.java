@@ -0,0 +1,87 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("CryptoKeysetRepository - Tests de Integración")
+class CryptoKeysetRepositoryImplTest {
+
+    @Autowired
+    private CryptoRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.saveAll(List.of(
+                crypto("bitcoin", "Bitcoin", 1, 45000.0),
+                crypto("ethereum", "Ethereum", 2, 3000.0),
+                crypto("tether", "Tether", 3, 1.0),
+                crypto("usd-coin", "USD Coin", 4, 1.0),
+                crypto("dai", "Dai", 5, 1.0),
+                crypto("unranked-a", "Unranked A", null, null),
+                crypto("unranked-b", "Unranked B", null, null)));
+    }
+
+    @Test
+    @DisplayName("Debe recorrer todas las filas por ranking ascendente con nulos al final")
+    void testFindPageAfter_AscendingWithNulls() {
+        List<String> walked = walk(CryptoSortField.MARKET_CAP_RANK, Sort.Direction.ASC, null, 2);
+
+        assertThat(walked).containsExactly("bitcoin", "ethereum", "tether", "usd-coin", "dai",
+                "unranked-a", "unranked-b");
+    }
+
+    @Test
+    @DisplayName("Debe desempatar por id cuando varias filas comparten el valor de ordenamiento")
+    void testFindPageAfter_DescendingWithTies() {
+        List<String> walked = walk(CryptoSortField.CURRENT_PRICE, Sort.Direction.DESC, null, 2);
+
+        assertThat(walked).containsExactly("bitcoin", "ethereum", "dai", "usd-coin", "tether",
+                "unranked-b", "unranked-a");
+    }
+
+    @Test
+    @DisplayName("Debe aplicar el filtro de búsqueda en modo keyset")
+    void testFindPageAfter_WithQuery() {
+        List<String> walked = walk(CryptoSortField.MARKET_CAP_RANK, Sort.Direction.ASC, "unranked", 1);
+
+        assertThat(walked).containsExactly("unranked-a", "unranked-b");
+    }
+
+    private List<String> walk(CryptoSortField field, Sort.Direction direction, String query, int pageSize) {
+        List<String> walked = new ArrayList<>();
+        Object afterValue = null;
+        Long afterId = null;
+        while (true) {
+            List<CryptoCurrency> page = repository.findPageAfter(query, field, direction, afterValue, afterId,
+                    pageSize);
+            page.forEach(c -> walked.add(c.getCoinId()));
+            if (page.size() < pageSize) {
+                return walked;
+            }
+            CryptoCurrency last = page.get(page.size() - 1);
+            afterValue = field.valueOf(last);
+            afterId = last.getId();
+        }
+    }
+
+    private CryptoCurrency crypto(String coinId, String name, Integer rank, Double price) {
+        return CryptoCurrency.builder()
+                .coinId(coinId)
+                .name(name)
+                .symbol(coinId.substring(0, 3))
+                .marketCapRank(rank)
+                .currentPrice(price)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoPriceTick;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Particiones mensuales de crypto_price_tick en PostgreSQL embebido con la sesión en una zona
+ * distinta de UTC: los límites de cada mes deben caer en la medianoche UTC.
+ */
+@DataJpaTest(properties = "spring.datasource.hikari.connection-init-sql=SET TIME ZONE 'America/Bogota'")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Particiones de crypto_price_tick en PostgreSQL - Tests de Integración")
+class CryptoPriceTickPostgresTest {
+
+    @Autowired
+    private CryptoPriceTickRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        SharedEmbeddedPostgres.register(registry);
+    }
+
+    @Test
+    @DisplayName("Debe crear las particiones con límites en medianoche UTC aunque la sesión use otra zona")
+    void testEnsureMonthlyPartitions_UtcBounds() {
+        repository.ensureMonthlyPartitions(YearMonth.of(2031, 3), 0);
+        repository.appendTicks(List.of(
+                tick("first-utc-hour", "2031-03-01T00:30:00Z"),
+                tick("last-utc-hour", "2031-03-31T23:30:00Z"),
+                tick("next-month", "2031-04-01T00:30:00Z")));
+
+        assertThat(partitionOf("first-utc-hour")).isEqualTo("crypto_price_tick_p203103");
+        assertThat(partitionOf("last-utc-hour")).isEqualTo("crypto_price_tick_p203103");
+        assertThat(partitionOf("next-month")).isEqualTo("crypto_price_tick_default");
+    }
+
+    private String partitionOf(String coinId) {
+        return jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM crypto_price_tick WHERE coin_id = ?",
+                String.class, coinId);
+    }
+
+    private static CryptoPriceTick tick(String coinId, String ts) {
+        return CryptoPriceTick.builder()
+                .coinId(coinId)
+                .ts(OffsetDateTime.parse(ts))
+                .currentPrice(1.0)
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoPriceTick;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("CryptoPriceTickRepository - Tests de Integración")
+class CryptoPriceTickRepositoryTest {
+
+    private static final OffsetDateTime BASE = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private CryptoPriceTickRepository repository;
+
+    @Test
+    @DisplayName("Debe añadir ticks e ignorar los repetidos")
+    void testAppendTicks_IgnoresDuplicates() {
+        repository.appendTicks(List.of(tick("bitcoin", 0, 40000.0), tick("bitcoin", 6, 41000.0)));
+        repository.appendTicks(List.of(tick("bitcoin", 6, 41000.0), tick("bitcoin", 12, 42000.0)));
+
+        assertThat(repository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Debe consultar ticks por moneda y rango de tiempo en orden")
+    void testRangeQueries() {
+        repository.appendTicks(List.of(
+                tick("bitcoin", 0, 40000.0),
+                tick("bitcoin", 6, 41000.0),
+                tick("bitcoin", 12, 42000.0),
+                tick("ethereum", 6, 3000.0)));
+
+        List<CryptoPriceTick> range = repository.findByCoinIdAndTsBetweenOrderByTsAsc(
+                "bitcoin", BASE.plusHours(1), BASE.plusHours(12));
+        assertThat(range).extracting(CryptoPriceTick::getCurrentPrice).containsExactly(41000.0, 42000.0);
+
+        Slice<CryptoPriceTick> firstSlice = repository.findByCoinIdAndTsGreaterThanEqualAndTsLessThanOrderByTsAsc(
+                "bitcoin", BASE, BASE.plusDays(1), PageRequest.of(0, 2));
+        assertThat(firstSlice.getContent()).hasSize(2);
+        assertThat(firstSlice.hasNext()).isTrue();
+
+        assertThat(repository.findFirstByCoinIdAndTsLessThanEqualOrderByTsDesc("bitcoin", BASE.plusHours(7)))
+                .get()
+                .extracting(CryptoPriceTick::getCurrentPrice)
+                .isEqualTo(41000.0);
+    }
+
+    @Test
+    @DisplayName("No debe fallar al preparar particiones en bases de datos sin particionado")
+    void testEnsureMonthlyPartitions_NoOpOnH2() {
+        repository.ensureMonthlyPartitions(YearMonth.of(2025, 1), 1);
+
+        assertThat(repository.count()).isZero();
+    }
+
+    private CryptoPriceTick tick(String coinId, int hours, double price) {
+        return CryptoPriceTick.builder()
+                .coinId(coinId)
+                .ts(BASE.plusHours(hours))
+                .currentPrice(price)
+                .marketCap(price * 1000)
+                .totalVolume(price * 10)
+                .marketCapRank(1)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * El esquema lo crea el contexto JPA; el repositorio reactivo se conecta por R2DBC a la misma base.
+ * Sin transacción de test: las filas deben ser visibles desde ambas conexiones.
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:reactiverepo;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CryptoReactiveRepository - Tests de Integración")
+class CryptoReactiveRepositoryTest {
+
+    private static final OffsetDateTime UPDATED = OffsetDateTime.of(2025, 1, 15, 10, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private CryptoRepository repository;
+
+    private ConnectionFactory connectionFactory;
+    private CryptoReactiveRepository reactiveRepository;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = SharedH2ConnectionFactory.create("reactiverepo");
+        reactiveRepository = new CryptoReactiveRepository(DatabaseClient.create(connectionFactory));
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Debe insertar nuevas cryptos y actualizar las existentes por coin_id")
+    void testBulkUpsert_InsertsAndUpdates() {
+        repository.saveAndFlush(crypto("bitcoin", 1, 40000.0, UPDATED.minusDays(1)));
+
+        StepVerifier.create(reactiveRepository.bulkUpsert(List.of(
+                        crypto("bitcoin", 1, 45000.0, UPDATED),
+                        crypto("ethereum", 2, null, null))))
+                .expectNext(2L)
+                .verifyComplete();
+
+        assertThat(repository.count()).isEqualTo(2);
+        assertThat(repository.findByCoinId("bitcoin")).hasValueSatisfying(c -> {
+            assertThat(c.getCurrentPrice()).isEqualTo(45000.0);
+            assertThat(c.getContentHash()).isEqualTo(42L);
+            assertThat(c.getLastUpdated().isEqual(UPDATED)).isTrue();
+        });
+        assertThat(repository.findByCoinId("ethereum")).hasValueSatisfying(c -> {
+            assertThat(c.getId()).isNotNull();
+            assertThat(c.getCurrentPrice()).isNull();
+            assertThat(c.getLastUpdated()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Debe leer por coin_id, por lista de ids y los agregados")
+    void testReads() {
+        repository.saveAllAndFlush(List.of(
+                crypto("bitcoin", 1, 45000.0, UPDATED),
+                crypto("ethereum", 2, 3000.0, UPDATED.minusHours(1)),
+                crypto("tether", 3, 1.0, null)));
+
+        StepVerifier.create(reactiveRepository.findByCoinId("ethereum"))
+                .assertNext(c -> {
+                    assertThat(c.getId()).isNotNull();
+                    assertThat(c.getName()).isEqualTo("Ethereum");
+                    assertThat(c.getMarketCapRank()).isEqualTo(2);
+                })
+                .verifyComplete();
+        StepVerifier.create(reactiveRepository.findByCoinId("unknown")).verifyComplete();
+
+        StepVerifier.create(reactiveRepository.findAllByCoinIdIn(List.of("bitcoin", "tether", "unknown"))
+                        .map(CryptoCurrency::getCoinId)
+                        .collectList())
+                .assertNext(ids -> assertThat(ids).containsExactlyInAnyOrder("bitcoin", "tether"))
+                .verifyComplete();
+
+        StepVerifier.create(reactiveRepository.count()).expectNext(3L).verifyComplete();
+        StepVerifier.create(reactiveRepository.findLatestLastUpdated())
+                .assertNext(latest -> assertThat(latest.isEqual(UPDATED)).isTrue())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe devolver vacío como última actualización si la tabla está vacía")
+    void testFindLatestLastUpdated_Empty() {
+        StepVerifier.create(reactiveRepository.findLatestLastUpdated()).verifyComplete();
+        StepVerifier.create(reactiveRepository.count()).expectNext(0L).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe revertir las escrituras si falla la transacción reactiva")
+    void testBulkUpsert_RollsBackWithOperator() {
+        TransactionalOperator operator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+
+        Mono<Long> failing = reactiveRepository.bulkUpsert(List.of(crypto("bitcoin", 1, 45000.0, UPDATED)))
+                .then(Mono.error(new IllegalStateException("fallo tras escribir")));
+
+        StepVerifier.create(operator.transactional(failing))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertThat(repository.count()).isZero();
+    }
+
+    private static CryptoCurrency crypto(String coinId, Integer rank, Double price, OffsetDateTime lastUpdated) {
+        return CryptoCurrency.builder()
+                .coinId(coinId)
+                .name(Character.toUpperCase(coinId.charAt(0)) + coinId.substring(1))
+                .symbol(coinId.substring(0, 3))
+                .marketCapRank(rank)
+                .currentPrice(price)
+                .lastUpdated(lastUpdated)
+                .contentHash(42L)
+                .build();
+    }
+}
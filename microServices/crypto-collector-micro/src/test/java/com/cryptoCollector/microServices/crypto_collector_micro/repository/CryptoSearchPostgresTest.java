@@ -0,0 +1,117 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Búsqueda con pg_trgm sobre PostgreSQL embebido con el esquema de Liquibase y 20.000 filas.
+ * Los datos se cargan fuera de una transacción para poder ejecutar VACUUM ANALYZE, que vuelca la
+ * lista pendiente de los índices GIN como haría autovacuum en producción.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CryptoSearchRepository en PostgreSQL - Tests de Integración")
+class CryptoSearchPostgresTest {
+
+    private static final int ROWS = 20_000;
+
+    @Autowired
+    private CryptoRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        SharedEmbeddedPostgres.register(registry);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE cryptocurrency");
+        List<CryptoCurrency> rows = new ArrayList<>(ROWS);
+        for (int i = 1; i <= ROWS; i++) {
+            rows.add(crypto("token-" + i, "Token " + i, "t" + i, 100 + i));
+        }
+        rows.add(crypto("bitcoin", "Bitcoin", "btc", 1));
+        rows.add(crypto("wrapped-bitcoin", "Wrapped Bitcoin", "wbtc", 15));
+        rows.add(crypto("bitcoin-cash", "Bitcoin Cash", "bch", 20));
+        rows.add(crypto("ethereum", "Ethereum", "eth", 2));
+        new CryptoReactiveRepository(DatabaseClient.create(SharedEmbeddedPostgres.connectionFactory()))
+                .bulkUpsert(rows)
+                .block();
+        jdbcTemplate.execute("VACUUM ANALYZE cryptocurrency");
+    }
+
+    @Test
+    @DisplayName("Debe tolerar errores de escritura ordenando por similitud")
+    void testSearch_Typo() {
+        List<String> result = repository.search("bitcoim", 10).stream().map(CryptoCurrency::getCoinId).toList();
+
+        assertThat(result).first().isEqualTo("bitcoin");
+        assertThat(result).contains("bitcoin-cash", "wrapped-bitcoin").doesNotContain("ethereum");
+    }
+
+    @Test
+    @DisplayName("Debe priorizar el símbolo exacto sobre coincidencias más similares por nombre")
+    void testSearch_ExactSymbolFirst() {
+        List<String> result = repository.search("eth", 3).stream().map(CryptoCurrency::getCoinId).toList();
+
+        assertThat(result).containsExactly("ethereum");
+    }
+
+    @Test
+    @DisplayName("Debe buscar por subcadena sin recurrir a la similitud cuando hay coincidencias")
+    void testSearch_SubstringSkipsFuzzy() {
+        List<String> result = repository.search("token 1234", 20).stream().map(CryptoCurrency::getCoinId).toList();
+
+        assertThat(result).hasSize(11).first().isEqualTo("token-1234");
+    }
+
+    @Test
+    @DisplayName("Los planes deben usar los índices de trigramas y no recorrer la tabla")
+    void testSearch_PlansUseTrigramIndexes() {
+        String contains = "%bitcoin%";
+        String containsPlan = explain(CryptoSearchRepositoryImpl.CONTAINS_SQL,
+                contains, contains, "bitcoin", "bitcoin%", "bitcoin%", 10);
+        String fuzzyPlan = explain(CryptoSearchRepositoryImpl.FUZZY_SQL,
+                "bitcoim", "bitcoim", "bitcoim", "bitcoim", 10);
+
+        for (String plan : List.of(containsPlan, fuzzyPlan)) {
+            assertThat(plan)
+                    .contains("Bitmap Index Scan on idx_cryptocurrency_name_trgm")
+                    .contains("Bitmap Index Scan on idx_cryptocurrency_symbol_trgm")
+                    .doesNotContain("Seq Scan");
+        }
+    }
+
+    private String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+
+    private CryptoCurrency crypto(String coinId, String name, String symbol, Integer rank) {
+        return CryptoCurrency.builder()
+                .coinId(coinId)
+                .name(name)
+                .symbol(symbol)
+                .marketCapRank(rank)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("CryptoSearchRepository - Tests de Integración")
+class CryptoSearchRepositoryImplTest {
+
+    @Autowired
+    private CryptoRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.saveAll(List.of(
+                crypto("bitcoin", "Bitcoin", "btc", 1),
+                crypto("wrapped-bitcoin", "Wrapped Bitcoin", "wbtc", 15),
+                crypto("bitcoin-cash", "Bitcoin Cash", "bch", 20),
+                crypto("bittensor", "Bittensor", "tao", 30),
+                crypto("ethereum", "Ethereum", "eth", 2),
+                crypto("btc-proxy", "Proxy", "btc.p", null),
+                crypto("percent", "100% Coin", "pct", 50)));
+    }
+
+    @Test
+    @DisplayName("Debe priorizar el símbolo exacto y después los prefijos")
+    void testSearch_RanksExactSymbolThenPrefix() {
+        List<String> result = coinIds(repository.search("BTC", 10));
+
+        assertThat(result).containsExactly("bitcoin", "btc-proxy", "wrapped-bitcoin");
+    }
+
+    @Test
+    @DisplayName("Debe ordenar por ranking dentro del mismo nivel de relevancia")
+    void testSearch_PrefixBeforeSubstring() {
+        List<String> result = coinIds(repository.search("bit", 10));
+
+        assertThat(result).containsExactly("bitcoin", "bitcoin-cash", "bittensor", "wrapped-bitcoin");
+    }
+
+    @Test
+    @DisplayName("Debe respetar el límite y escapar los comodines de LIKE")
+    void testSearch_LimitAndEscaping() {
+        assertThat(repository.search("bit", 2)).hasSize(2);
+        assertThat(coinIds(repository.search("%", 10))).containsExactly("percent");
+    }
+
+    private List<String> coinIds(List<CryptoCurrency> cryptos) {
+        return cryptos.stream().map(CryptoCurrency::getCoinId).toList();
+    }
+
+    private CryptoCurrency crypto(String coinId, String name, String symbol, Integer rank) {
+        return CryptoCurrency.builder()
+                .coinId(coinId)
+                .name(name)
+                .symbol(symbol)
+                .marketCapRank(rank)
+                .build();
+    }
+}
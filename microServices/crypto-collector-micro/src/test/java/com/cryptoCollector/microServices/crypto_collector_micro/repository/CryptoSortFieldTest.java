@@ -0,0 +1,39 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CryptoSortField - Tests Unitarios")
+class CryptoSortFieldTest {
+
+    @Test
+    @DisplayName("Debe resolver cada campo soportado por su propiedad")
+    void testFromProperty_Supported() {
+        for (CryptoSortField field : CryptoSortField.values()) {
+            assertThat(CryptoSortField.fromProperty(field.getProperty())).isSameAs(field);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe rechazar campos sin índice o inexistentes")
+    void testFromProperty_Unsupported() {
+        assertThatThrownBy(() -> CryptoSortField.fromProperty("coinId"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("coinId");
+        assertThatThrownBy(() -> CryptoSortField.fromProperty("name; DROP TABLE cryptocurrency"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Debe desempatar por id en la misma dirección que el índice")
+    void testToSort_TieBreakById() {
+        Sort sort = CryptoSortField.TOTAL_VOLUME.toSort(Sort.Direction.DESC);
+
+        assertThat(sort).containsExactly(Sort.Order.desc("totalVolume"), Sort.Order.desc("id"));
+        assertThat(CryptoSortField.TOTAL_VOLUME.getIndexName()).isEqualTo("idx_cryptocurrency_total_volume_id");
+    }
+}
@@ -0,0 +1,115 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cada ordenamiento permitido debe leerse en orden de su índice (columna, id) sin nodo Sort, tanto en
+ * /list con OFFSET como en la primera página keyset. Se ejecuta EXPLAIN sobre el SQL que genera
+ * Hibernate, capturado con un StatementInspector, en PostgreSQL embebido con 20.000 filas.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoSortIndexPostgresTest$LastSelect")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Índices de ordenamiento en PostgreSQL - Tests de Integración")
+class CryptoSortIndexPostgresTest {
+
+    private static final int ROWS = 20_000;
+
+    @Autowired
+    private CryptoRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        SharedEmbeddedPostgres.register(registry);
+    }
+
+    @Test
+    @DisplayName("Cada campo y dirección soportados debe usar un recorrido de índice sin ordenar")
+    void testSupportedSortsUseIndexScans() {
+        seed();
+
+        for (CryptoSortField field : CryptoSortField.values()) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                repository.findAll(PageRequest.of(2, 20, field.toSort(direction)));
+                assertIndexOrdered(field, direction, explain(LastSelect.sql, 40, 20));
+
+                repository.findPageAfter(null, field, direction, null, null, 21);
+                assertIndexOrdered(field, direction, explain(LastSelect.sql, 21));
+            }
+        }
+    }
+
+    private void assertIndexOrdered(CryptoSortField field, Sort.Direction direction, String plan) {
+        assertThat(plan)
+                .as("%s %s:%n%s", field, direction, plan)
+                .containsPattern("Index Scan (Backward )?using " + field.getIndexName())
+                .doesNotContain("Sort")
+                .doesNotContain("Seq Scan");
+    }
+
+    private String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+
+    private void seed() {
+        jdbcTemplate.execute("TRUNCATE cryptocurrency");
+        OffsetDateTime now = OffsetDateTime.parse("2025-01-15T10:30:00Z");
+        List<CryptoCurrency> rows = new ArrayList<>(ROWS);
+        for (int i = 1; i <= ROWS; i++) {
+            rows.add(CryptoCurrency.builder()
+                    .coinId("coin-" + i)
+                    .name("Coin " + i)
+                    .symbol("c" + i)
+                    .marketCapRank(i % 10 == 0 ? null : i)
+                    .currentPrice(i * 1.5)
+                    .marketCap(i * 1000.0)
+                    .totalVolume(i * 10.0)
+                    .lastUpdated(now.minusSeconds(i))
+                    .build());
+        }
+        new CryptoReactiveRepository(DatabaseClient.create(SharedEmbeddedPostgres.connectionFactory()))
+                .bulkUpsert(rows)
+                .block();
+        jdbcTemplate.execute("VACUUM ANALYZE cryptocurrency");
+    }
+
+    /**
+     * Guarda el último SELECT de filas (no el COUNT de la página) que Hibernate envía a la BD.
+     */
+    public static class LastSelect implements StatementInspector {
+
+        static volatile String sql;
+
+        @Override
+        public String inspect(String statement) {
+            if (statement.startsWith("select") && !statement.contains("count(")) {
+                sql = statement;
+            }
+            return statement;
+        }
+    }
+}
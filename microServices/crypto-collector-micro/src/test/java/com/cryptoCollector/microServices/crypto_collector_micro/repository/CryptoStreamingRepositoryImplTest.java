@@ -0,0 +1,49 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CryptoStreamingRepository - Tests de Integración")
+class CryptoStreamingRepositoryImplTest {
+
+    @Autowired
+    private CryptoRepository repository;
+
+    @Test
+    @DisplayName("Debe recorrer toda la tabla ordenada por ranking con un fetchSize menor que el total")
+    void testStreamAllByRank_OrderedWithSmallFetchSize() {
+        repository.saveAll(List.of(
+                crypto("ethereum", 2),
+                crypto("unranked", null),
+                crypto("bitcoin", 1),
+                crypto("tether", 3)));
+
+        try (Stream<CryptoCurrency> stream = repository.streamAllByRank(2)) {
+            assertThat(stream.map(CryptoCurrency::getCoinId))
+                    .containsExactly("bitcoin", "ethereum", "tether", "unranked");
+        } finally {
+            repository.deleteAll();
+        }
+    }
+
+    private CryptoCurrency crypto(String coinId, Integer rank) {
+        return CryptoCurrency.builder()
+                .coinId(coinId)
+                .name(coinId)
+                .symbol(coinId.substring(0, 3))
+                .marketCapRank(rank)
+                .build();
+    }
+}
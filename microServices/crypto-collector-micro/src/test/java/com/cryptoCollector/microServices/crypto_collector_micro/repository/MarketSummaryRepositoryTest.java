@@ -0,0 +1,118 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoPriceTick;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.MarketSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+@DisplayName("MarketSummaryRepository - Tests de Integración")
+class MarketSummaryRepositoryTest {
+
+    private static final OffsetDateTime BASE = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime SYNC_TIME = BASE.plusHours(48);
+    private static final Duration WINDOW = Duration.ofHours(24);
+
+    @Autowired
+    private MarketSummaryRepository repository;
+
+    @Autowired
+    private CryptoRepository cryptoRepository;
+
+    @Autowired
+    private CryptoPriceTickRepository tickRepository;
+
+    @Test
+    @DisplayName("Debe calcular totales, mayor subida, mayor caída y variación ponderada")
+    void testAggregate_WithHistory() {
+        cryptoRepository.saveAllAndFlush(List.of(
+                crypto("bitcoin", 110.0, 900.0, 40.0),
+                crypto("ethereum", 45.0, 100.0, 20.0),
+                crypto("solana", 30.0, 50.0, 10.0),
+                crypto("unlisted", null, null, null)));
+        tickRepository.appendTicks(List.of(
+                // La referencia es el último tick en (sync - 48h, sync - 24h]
+                tick("bitcoin", 12, 90.0),
+                tick("bitcoin", 20, 100.0),
+                tick("bitcoin", 30, 105.0),
+                tick("ethereum", 23, 50.0),
+                // Fuera de la ventana: solana no tiene referencia
+                tick("solana", -1, 15.0)));
+
+        MarketSummary summary = repository.aggregate(SYNC_TIME, WINDOW);
+
+        assertThat(summary.getId()).isEqualTo(MarketSummary.SINGLETON_ID);
+        assertThat(summary.getTotalCoins()).isEqualTo(4L);
+        assertThat(summary.getTotalMarketCap()).isEqualTo(1050.0);
+        assertThat(summary.getTotalVolume()).isEqualTo(70.0);
+        assertThat(summary.getLastUpdated()).isEqualTo(BASE.plusHours(47));
+        assertThat(summary.getTopGainerCoinId()).isEqualTo("bitcoin");
+        assertThat(summary.getTopGainerChange()).isCloseTo(10.0, within(1e-9));
+        assertThat(summary.getTopLoserCoinId()).isEqualTo("ethereum");
+        assertThat(summary.getTopLoserChange()).isCloseTo(-10.0, within(1e-9));
+        // (900 · 10 + 100 · -10) / 1000
+        assertThat(summary.getWeightedPriceChange()).isCloseTo(8.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Debe dejar sin variación el resumen cuando no hay historial y guardarlo como fila única")
+    void testAggregate_WithoutHistoryAndSave() {
+        cryptoRepository.saveAllAndFlush(List.of(crypto("bitcoin", 110.0, 900.0, 40.0)));
+
+        MarketSummary summary = repository.aggregate(SYNC_TIME, WINDOW);
+        assertThat(summary.getTopGainerCoinId()).isNull();
+        assertThat(summary.getWeightedPriceChange()).isNull();
+
+        repository.saveAndFlush(summary);
+        MarketSummary next = repository.aggregate(SYNC_TIME.plusHours(6), WINDOW);
+        next.setLastSyncAt(SYNC_TIME.plusHours(6));
+        repository.saveAndFlush(next);
+
+        assertThat(repository.count()).isEqualTo(1);
+        assertThat(repository.findById(MarketSummary.SINGLETON_ID))
+                .get()
+                .extracting(MarketSummary::getTotalCoins)
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Debe devolver un resumen vacío si no hay monedas")
+    void testAggregate_Empty() {
+        MarketSummary summary = repository.aggregate(SYNC_TIME, WINDOW);
+
+        assertThat(summary.getTotalCoins()).isZero();
+        assertThat(summary.getTotalMarketCap()).isNull();
+        assertThat(summary.getLastUpdated()).isNull();
+    }
+
+    private CryptoCurrency crypto(String coinId, Double price, Double marketCap, Double volume) {
+        return CryptoCurrency.builder()
+                .coinId(coinId)
+                .name(coinId)
+                .symbol(coinId.substring(0, 3))
+                .currentPrice(price)
+                .marketCap(marketCap)
+                .totalVolume(volume)
+                .lastUpdated(price != null ? BASE.plusHours(47) : null)
+                .build();
+    }
+
+    private CryptoPriceTick tick(String coinId, int hours, double price) {
+        return CryptoPriceTick.builder()
+                .coinId(coinId)
+                .ts(BASE.plusHours(hours))
+                .currentPrice(price)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.repository;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.h2.H2ConnectionOption;
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * ConnectionFactory R2DBC sobre la misma base H2 en memoria que usa el DataSource JDBC del test
+ * ({@code jdbc:h2:mem:<name>;DB_CLOSE_DELAY=-1}), de modo que Liquibase/Hibernate crean el esquema
+ * y el repositorio reactivo lo lee y escribe.
+ */
+public final class SharedH2ConnectionFactory {
+
+    private SharedH2ConnectionFactory() {
+    }
+
+    public static String jdbcUrl(String name) {
+        return "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1";
+    }
+
+    public static ConnectionFactory create(String name) {
+        return new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .inMemory(name)
+                .username("sa")
+                .property(H2ConnectionOption.DB_CLOSE_DELAY, "-1")
+                .build());
+    }
+}
@@ -0,0 +1,99 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCandle;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoCandleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CandleService - Tests Unitarios")
+class CandleServiceTest {
+
+    private static final OffsetDateTime TO = OffsetDateTime.parse("2025-01-15T10:30:00Z");
+
+    @Mock
+    private CryptoCandleRepository candleRepository;
+
+    private CandleService candleService;
+
+    @BeforeEach
+    void setUp() {
+        candleService = new CandleService(candleRepository, Schedulers.immediate());
+    }
+
+    @Test
+    @DisplayName("Debe alinear 'from' al inicio de su vela y limitar la consulta")
+    void testGetCandles_AlignsRange() {
+        OffsetDateTime from = OffsetDateTime.parse("2025-01-14T07:20:00Z");
+        when(candleRepository
+                .findByCoinIdAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+                        "bitcoin", "6h", OffsetDateTime.parse("2025-01-14T06:00:00Z"), TO,
+                        PageRequest.of(0, CandleService.MAX_CANDLES)))
+                .thenReturn(List.of(CryptoCandle.builder()
+                        .bucketStart(OffsetDateTime.parse("2025-01-14T06:00:00Z"))
+                        .openPrice(1.0).highPrice(3.0).lowPrice(0.5).closePrice(2.0).volume(10.0)
+                        .build()));
+
+        StepVerifier.create(candleService.getCandles("bitcoin", "6h", from, TO))
+                .assertNext(candles -> {
+                    assertThat(candles).hasSize(1);
+                    assertThat(candles.get(0).getHigh()).isEqualTo(3.0);
+                    assertThat(candles.get(0).getClose()).isEqualTo(2.0);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Sin 'from' debe devolver las últimas 100 velas hasta 'to'")
+    void testGetCandles_DefaultRange() {
+        when(candleRepository
+                .findByCoinIdAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+                        "bitcoin", "1h", OffsetDateTime.parse("2025-01-11T07:00:00Z"), TO,
+                        PageRequest.of(0, CandleService.MAX_CANDLES)))
+                .thenReturn(List.of());
+
+        StepVerifier.create(candleService.getCandles("bitcoin", "1h", null, TO))
+                .assertNext(candles -> assertThat(candles).isEmpty())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar intervalos no soportados, rangos invertidos y rangos de más de 1000 velas")
+    void testGetCandles_RejectsInvalidRequests() {
+        StepVerifier.create(candleService.getCandles("bitcoin", "5m", null, TO))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(candleService.getCandles("bitcoin", "1h", TO, TO.minusHours(1)))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(candleService.getCandles("bitcoin", "1h", TO.minusHours(1001), TO))
+                .expectErrorMatches(e -> e instanceof IllegalArgumentException && e.getMessage().contains("1000"))
+                .verify();
+        verifyNoInteractions(candleRepository);
+
+        // El mismo rango cabe con una resolución mayor
+        when(candleRepository
+                .findByCoinIdAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+                        anyString(), anyString(), any(), any(), any()))
+                .thenReturn(List.of());
+        StepVerifier.create(candleService.getCandles("bitcoin", "1d", TO.minusHours(1001), TO))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+}
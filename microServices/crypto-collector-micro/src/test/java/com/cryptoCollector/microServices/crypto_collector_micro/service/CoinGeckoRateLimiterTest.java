@@ -0,0 +1,77 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CoinGeckoRateLimiter - Tests Unitarios")
+class CoinGeckoRateLimiterTest {
+
+    private AtomicLong clock;
+    private CoinGeckoRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        // 60 req/min = un token por segundo, ráfaga de 2
+        limiter = new CoinGeckoRateLimiter(60, 2, clock::get);
+    }
+
+    @Test
+    @DisplayName("Debe permitir la ráfaga y espaciar el resto según la tasa")
+    void testReserve_TokenBucket() {
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(millis(limiter.reserve())).isEqualTo(1000);
+        assertThat(millis(limiter.reserve())).isEqualTo(2000);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(limiter.reserve()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe bloquear durante el Retry-After y reducir la tasa tras un 429")
+    void testOnThrottled() {
+        Duration wait = limiter.onThrottled(Duration.ofSeconds(5));
+
+        assertThat(wait).isEqualTo(Duration.ofSeconds(5));
+        assertThat(limiter.currentRatePerMinute()).isEqualTo(30);
+        assertThat(millis(limiter.reserve())).isEqualTo(5000);
+
+        limiter.onSuccess();
+        assertThat(limiter.currentRatePerMinute()).isGreaterThan(30);
+    }
+
+    @Test
+    @DisplayName("Debe aplicar backoff exponencial cuando el 429 no trae Retry-After")
+    void testOnThrottled_WithoutRetryAfter() {
+        assertThat(limiter.onThrottled(null)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(limiter.onThrottled(null)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(limiter.onThrottled(null)).isEqualTo(Duration.ofSeconds(4));
+    }
+
+    @Test
+    @DisplayName("Debe ajustarse a las cabeceras de cuota restante")
+    void testOnResponse_Headers() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("x-ratelimit-remaining", "0");
+        headers.add("x-ratelimit-reset", "3");
+
+        limiter.onResponse(headers);
+
+        assertThat(millis(limiter.reserve())).isEqualTo(3000);
+        assertThat(CoinGeckoRateLimiter.parseRetryAfter("7")).isEqualTo(Duration.ofSeconds(7));
+        assertThat(CoinGeckoRateLimiter.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT")).isNull();
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -0,0 +1,141 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stub local de {@code GET /coins/markets} al estilo WireMock: genera {@code totalCoins} monedas
+ * ordenadas por ranking, con latencia configurable y respuestas de error programadas por página.
+ */
+class CoinGeckoStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final int totalCoins;
+    private final long latencyMillis;
+    private final Map<Integer, Queue<Integer>> scriptedStatuses = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile String retryAfter = "1";
+
+    CoinGeckoStubServer(int totalCoins, long latencyMillis) throws IOException {
+        this.totalCoins = totalCoins;
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/coins/markets", this::handle);
+        this.server.setExecutor(Executors.newCachedThreadPool());
+        this.server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Las próximas peticiones a {@code page} responden con los estados indicados, en orden.
+     */
+    CoinGeckoStubServer failPage(int page, Integer... statuses) {
+        scriptedStatuses.computeIfAbsent(page, p -> new ConcurrentLinkedQueue<>()).addAll(List.of(statuses));
+        return this;
+    }
+
+    CoinGeckoStubServer retryAfter(String seconds) {
+        this.retryAfter = seconds;
+        return this;
+    }
+
+    int requests() {
+        return requests.get();
+    }
+
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            Map<String, String> params = query(exchange.getRequestURI());
+            int page = Integer.parseInt(params.getOrDefault("page", "1"));
+            int perPage = Integer.parseInt(params.getOrDefault("per_page", "100"));
+
+            Queue<Integer> statuses = scriptedStatuses.get(page);
+            Integer status = statuses != null ? statuses.poll() : null;
+            if (status != null) {
+                if (status == 429 && retryAfter != null) {
+                    exchange.getResponseHeaders().add("Retry-After", retryAfter);
+                }
+                exchange.sendResponseHeaders(status, -1);
+                return;
+            }
+
+            byte[] body = page(page, perPage).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private String page(int page, int perPage) {
+        StringBuilder json = new StringBuilder("[");
+        int first = (page - 1) * perPage + 1;
+        int last = Math.min(page * perPage, totalCoins);
+        for (int rank = first; rank <= last; rank++) {
+            if (rank > first) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"coin-").append(rank)
+                    .append("\",\"symbol\":\"c").append(rank)
+                    .append("\",\"name\":\"Coin ").append(rank)
+                    .append("\",\"current_price\":").append(1000.0 / rank)
+                    .append(",\"market_cap\":").append(1_000_000_000L / rank)
+                    .append(",\"market_cap_rank\":").append(rank)
+                    .append(",\"total_volume\":").append(10_000_000L / rank)
+                    .append(",\"last_updated\":\"2025-01-15T10:30:00.000Z\"}");
+        }
+        return json.append(']').toString();
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> params = new HashMap<>();
+        if (uri.getRawQuery() != null) {
+            for (String pair : uri.getRawQuery().split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) {
+                    params.put(pair.substring(0, eq), pair.substring(eq + 1));
+                }
+            }
+        }
+        return params;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,94 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinSuggestion;
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.SyncResult;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoinSuggestService - Tests Unitarios")
+class CoinSuggestServiceTest {
+
+    @Mock
+    private CryptoRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CoinSuggestService suggestService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        suggestService = new CoinSuggestService(repository, Schedulers.immediate(), meterRegistry, 200);
+    }
+
+    @Test
+    @DisplayName("Debe responder vacío hasta la primera reconstrucción y cerrar el cursor al terminar")
+    void testRebuild_SwapsIndex() {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(repository.streamAllByRank(200)).thenReturn(Stream.of(crypto("bitcoin", "Bitcoin", "btc", 1))
+                .onClose(() -> closed.set(true)));
+
+        assertThat(suggestService.suggest("bit", 10)).isEmpty();
+
+        StepVerifier.create(suggestService.rebuild())
+                .assertNext(index -> assertThat(index.size()).isEqualTo(1))
+                .verifyComplete();
+
+        assertThat(suggestService.suggest("bit", 10)).extracting(CoinSuggestion::getCoinId)
+                .containsExactly("bitcoin");
+        assertThat(closed).isTrue();
+        assertThat(meterRegistry.get("crypto.suggest.index.coins").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debe reconstruir el índice al terminar una sincronización")
+    void testOnSyncCompleted_Rebuilds() {
+        when(repository.streamAllByRank(200))
+                .thenReturn(Stream.of(crypto("bitcoin", "Bitcoin", "btc", 1)))
+                .thenReturn(Stream.of(crypto("bitcoin", "Bitcoin", "btc", 1), crypto("ethereum", "Ethereum", "eth", 2)));
+        suggestService.onApplicationReady();
+        assertThat(suggestService.suggest("eth", 10)).isEmpty();
+
+        suggestService.onSyncCompleted(new SyncEventPublisher.SyncCompleted(SyncResult.builder().synced(2).build()));
+
+        assertThat(suggestService.suggest("eth", 10)).extracting(CoinSuggestion::getCoinId)
+                .containsExactly("ethereum");
+    }
+
+    @Test
+    @DisplayName("Debe conservar el índice anterior si la reconstrucción falla")
+    void testRebuild_KeepsPreviousIndexOnError() {
+        when(repository.streamAllByRank(200))
+                .thenReturn(Stream.of(crypto("bitcoin", "Bitcoin", "btc", 1)))
+                .thenThrow(new RuntimeException("BD no disponible"));
+        suggestService.onApplicationReady();
+
+        suggestService.onSyncCompleted(new SyncEventPublisher.SyncCompleted(SyncResult.builder().build()));
+
+        assertThat(suggestService.suggest("btc", 10)).hasSize(1);
+    }
+
+    private CryptoCurrency crypto(String coinId, String name, String symbol, Integer rank) {
+        return CryptoCurrency.builder()
+                .coinId(coinId)
+                .name(name)
+                .symbol(symbol)
+                .marketCapRank(rank)
+                .build();
+    }
+}
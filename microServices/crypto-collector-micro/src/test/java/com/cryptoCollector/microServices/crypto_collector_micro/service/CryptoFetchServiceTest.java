@@ -0,0 +1,154 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinGeckoCoin;
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinPage;
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.FetchPlan;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CryptoFetchService - Tests de Integración")
+class CryptoFetchServiceTest {
+
+    private CoinGeckoStubServer stub;
+
+    @AfterEach
+    void tearDown() {
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe pedir las páginas en paralelo respetando la concurrencia y el orden")
+    void testFetch_ParallelPages() throws Exception {
+        stub = new CoinGeckoStubServer(1000, 200);
+        CryptoFetchService service = service(4, 6000, 20);
+
+        long start = System.nanoTime();
+        List<CoinGeckoCoin> coins = service.fetchUniverseReactive().collectList().block(Duration.ofSeconds(30));
+        long wallMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(coins).hasSize(1000);
+        assertThat(coins).extracting(CoinGeckoCoin::getMarket_cap_rank)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 1000).boxed().toList());
+        assertThat(stub.requests()).isEqualTo(20);
+        assertThat(stub.maxInFlight()).isBetween(2, 4);
+        // Secuencial serían 20 × 200 ms de latencia más 20 × 1200 ms de espera fija
+        assertThat(wallMillis).isLessThan(2500);
+    }
+
+    @Test
+    @DisplayName("Debe esperar el Retry-After de un 429 y reintentar la página")
+    void testFetch_RetriesAfterThrottle() throws Exception {
+        stub = new CoinGeckoStubServer(1000, 0).failPage(3, 429).retryAfter("1");
+        CryptoFetchService service = service(4, 6000, 20);
+
+        long start = System.nanoTime();
+        List<CoinGeckoCoin> coins = service.fetchUniverseReactive().collectList().block(Duration.ofSeconds(30));
+        long wallMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(coins).hasSize(1000);
+        assertThat(stub.requests()).isEqualTo(21);
+        assertThat(wallMillis).isGreaterThanOrEqualTo(1000);
+        assertThat(service.getRateLimiter().currentRatePerMinute()).isGreaterThan(3000);
+    }
+
+    @Test
+    @DisplayName("Debe limitar el ritmo de peticiones a la tasa configurada")
+    void testFetch_RespectsRate() throws Exception {
+        stub = new CoinGeckoStubServer(1000, 0);
+        // 600 req/min = una cada 100 ms tras la ráfaga inicial de 2
+        CryptoFetchService service = service(4, 600, 2);
+
+        long start = System.nanoTime();
+        List<CoinGeckoCoin> coins = service.fetchUniverseReactive().collectList().block(Duration.ofSeconds(30));
+        long wallMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(coins).hasSize(1000);
+        assertThat(wallMillis).isGreaterThanOrEqualTo(1600);
+    }
+
+    @Test
+    @DisplayName("Debe reintentar con backoff los errores 5xx y reportar los reintentos")
+    void testFetchPages_RetriesServerErrors() throws Exception {
+        stub = new CoinGeckoStubServer(1000, 0).failPage(2, 500, 503);
+        CryptoFetchService service = service(4, 6000, 20);
+
+        List<CoinPage> pages = service.fetchPages(new FetchPlan(20, 50, 4, Duration.ZERO, 1000), Set.of())
+                .collectList().block(Duration.ofSeconds(30));
+
+        assertThat(pages).hasSize(20).noneMatch(CoinPage::isFailed);
+        assertThat(pages.get(1).getRetries()).isEqualTo(2);
+        assertThat(pages.get(1).getCoins()).hasSize(50);
+        assertThat(pages).filteredOn(page -> page.getRetries() > 0).hasSize(1);
+        assertThat(stub.requests()).isEqualTo(22);
+    }
+
+    @Test
+    @DisplayName("Debe emitir la página como fallida al agotar reintentos sin cortar el resto")
+    void testFetchPages_ExhaustedRetries() throws Exception {
+        stub = new CoinGeckoStubServer(1000, 0).failPage(5, 500, 500, 500, 500).failPage(7, 404);
+        CryptoFetchService service = service(4, 6000, 20);
+
+        List<CoinPage> pages = service.fetchPages(new FetchPlan(20, 50, 4, Duration.ZERO, 1000), Set.of())
+                .collectList().block(Duration.ofSeconds(30));
+
+        assertThat(pages).hasSize(20);
+        assertThat(pages).filteredOn(CoinPage::isFailed).extracting(CoinPage::getPage).containsExactly(5, 7);
+        assertThat(pages.get(4).getRetries()).isEqualTo(3);
+        // Un 404 no mejora reintentando
+        assertThat(pages.get(6).getRetries()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe omitir las páginas ya completadas")
+    void testFetchPages_SkipsCompletedPages() throws Exception {
+        stub = new CoinGeckoStubServer(1000, 0);
+        CryptoFetchService service = service(4, 6000, 20);
+
+        List<CoinPage> pages = service.fetchPages(new FetchPlan(20, 50, 4, Duration.ZERO, 1000), Set.of(1, 2, 3))
+                .collectList().block(Duration.ofSeconds(30));
+
+        assertThat(pages).extracting(CoinPage::getPage).containsExactlyElementsOf(
+                IntStream.rangeClosed(4, 20).boxed().toList());
+        assertThat(stub.requests()).isEqualTo(17);
+    }
+
+    @Test
+    @DisplayName("Debe recortar la última página al tamaño del universo")
+    void testFetch_TrimsLastPage() throws Exception {
+        stub = new CoinGeckoStubServer(2000, 0);
+        CryptoFetchService service = service(1010, 4, 6000, 20);
+
+        List<CoinPage> pages = service.fetchPages(service.currentPlan(), Set.of())
+                .collectList().block(Duration.ofSeconds(30));
+
+        assertThat(pages).hasSize(21);
+        assertThat(pages.get(19).getCoins()).hasSize(50);
+        assertThat(pages.get(20).getCoins()).hasSize(10);
+        assertThat(pages).flatExtracting(CoinPage::getCoins).hasSize(1010);
+        assertThat(pages.get(20).getCoins()).extracting(CoinGeckoCoin::getMarket_cap_rank)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1001, 1010).boxed().toList());
+    }
+
+    private CryptoFetchService service(int concurrency, double requestsPerMinute, int burst) {
+        return service(1000, concurrency, requestsPerMinute, burst);
+    }
+
+    private CryptoFetchService service(int universe, int concurrency, double requestsPerMinute, int burst) {
+        FetchPlanner planner = new FetchPlanner(universe, "auto", "", requestsPerMinute, concurrency,
+                Duration.ofSeconds(1));
+        return new CryptoFetchService(WebClient.builder(), planner, "", stub.baseUrl(), 3,
+                Duration.ofMillis(50), Duration.ofMillis(200), burst, DataSize.ofKilobytes(256));
+    }
+}
@@ -1,31 +1,64 @@
 package com.cryptoCollector.microServices.crypto_collector_micro.service;
 
+import com.cryptoCollector.microServices.crypto_collector_micro.cache.ReactiveCacheOperations;
+import com.cryptoCollector.microServices.crypto_collector_micro.cache.RedisSerializingCacheManager;
+import com.cryptoCollector.microServices.crypto_collector_micro.cache.TwoTierCacheManager;
 import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinGeckoCoin;
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinPage;
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.FetchPlan;
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.SyncResult;
+import com.cryptoCollector.microServices.crypto_collector_micro.mapper.CryptoMapper;
 import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.MarketSummary;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.SyncRun;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoReactiveRepository;
 import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoSortField;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.MarketSummaryRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.util.CoinFingerprint;
+import com.cryptoCollector.microServices.crypto_collector_micro.util.KeysetCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,10 +68,31 @@ class CryptoServiceTest {
     @Mock
     private CryptoRepository repository;
 
+    @Mock
+    private CryptoReactiveRepository reactiveRepository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
     @Mock
     private CryptoFetchService fetchService;
 
-    @InjectMocks
+    @Mock
+    private PriceHistoryService priceHistoryService;
+
+    @Mock
+    private SyncCheckpointService checkpointService;
+
+    @Mock
+    private SyncEventPublisher syncEventPublisher;
+
+    @Mock
+    private MarketSummaryRepository summaryRepository;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private SimpleMeterRegistry meterRegistry;
+    private SyncRun syncRun;
+    private MarketSummaryService marketSummaryService;
     private CryptoService cryptoService;
 
     private CoinGeckoCoin mockCoin;
@@ -46,6 +100,23 @@ class CryptoServiceTest {
 
     @BeforeEach
     void setUp() {
+        cacheManager = new ConcurrentMapCacheManager();
+        meterRegistry = new SimpleMeterRegistry();
+        syncRun = SyncRun.builder().id(1L).status(SyncRun.Status.RUNNING).totalPages(20).perPage(50).build();
+        lenient().when(fetchService.currentPlan()).thenReturn(new FetchPlan(20, 50, 1, Duration.ofSeconds(6), 1000));
+        lenient().when(checkpointService.openRun(any())).thenReturn(syncRun);
+        lenient().when(checkpointService.completedPages(syncRun)).thenReturn(Set.of());
+        // Las escrituras de cada página pasan por el operador; aquí sin transacción real
+        lenient().when(transactionalOperator.transactional(any(Flux.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        // Tras cada sincronización se materializa el resumen del mercado
+        lenient().when(summaryRepository.aggregate(any(), any())).thenReturn(summary(0L, null));
+        lenient().when(summaryRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        marketSummaryService = new MarketSummaryService(summaryRepository,
+                new ReactiveCacheOperations(cacheManager, meterRegistry), Schedulers.boundedElastic(),
+                Duration.ofHours(24));
+        cryptoService = cryptoService(cacheManager, marketSummaryService);
+
         mockCoin = CoinGeckoCoin.builder()
                 .id("bitcoin")
                 .name("Bitcoin")
@@ -73,20 +144,34 @@ class CryptoServiceTest {
     @Test
     @DisplayName("Debe sincronizar correctamente cuando la crypto es nueva")
     void testSyncFromRemote_NewCrypto() {
-        when(fetchService.fetchExactly1000Reactive())
-                .thenReturn(Flux.just(mockCoin));
-        when(repository.findByCoinId("bitcoin"))
-                .thenReturn(Optional.empty());
-        when(repository.save(any(CryptoCurrency.class)))
-                .thenReturn(mockCrypto);
+        when(fetchService.fetchPages(any(), anySet()))
+                .thenReturn(pages(mockCoin));
+        when(reactiveRepository.findAllByCoinIdIn(anyCollection()))
+                .thenReturn(Flux.empty());
+        when(reactiveRepository.bulkUpsert(anyList()))
+                .thenAnswer(invocation -> Mono.just((long) ((List<?>) invocation.getArgument(0)).size()));
 
         StepVerifier.create(cryptoService.syncFromRemoteReactive())
-                .assertNext(count -> assertThat(count).isEqualTo(1L))
+                .assertNext(result -> {
+                    assertThat(result.getSynced()).isEqualTo(1L);
+                    assertThat(result.getBatchSize()).isEqualTo(250);
+                    assertThat(result.getRowsPerSecond()).isPositive();
+                })
                 .verifyComplete();
 
-        verify(fetchService).fetchExactly1000Reactive();
-        verify(repository).findByCoinId("bitcoin");
-        verify(repository).save(any(CryptoCurrency.class));
+        verify(fetchService).fetchPages(any(), anySet());
+        verify(reactiveRepository).findAllByCoinIdIn(argThat(ids -> ids.contains("bitcoin")));
+        verify(reactiveRepository).bulkUpsert(argThat(cryptos -> {
+            assertThat(cryptos).hasSize(1);
+            assertThat(cryptos.get(0).getId()).isNull();
+            assertThat(cryptos.get(0).getCoinId()).isEqualTo("bitcoin");
+            return true;
+        }));
+        verify(repository, never()).findByCoinId(anyString());
+        verify(repository, never()).save(any(CryptoCurrency.class));
+        verify(priceHistoryService).preparePartitions(any(OffsetDateTime.class));
+        verify(priceHistoryService).appendSnapshot(argThat(coins -> coins.size() == 1), any(OffsetDateTime.class));
+        verify(syncEventPublisher).publishSyncCompleted(argThat(result -> result.getChanged() == 1L));
     }
 
     @Test
@@ -104,26 +189,180 @@ class CryptoServiceTest {
                 .lastUpdated(OffsetDateTime.now().minusDays(1))
                 .build();
 
-        when(fetchService.fetchExactly1000Reactive())
-                .thenReturn(Flux.just(mockCoin));
-        when(repository.findByCoinId("bitcoin"))
-                .thenReturn(Optional.of(existingCrypto));
-        when(repository.save(any(CryptoCurrency.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(fetchService.fetchPages(any(), anySet()))
+                .thenReturn(pages(mockCoin));
+        when(reactiveRepository.findAllByCoinIdIn(anyCollection()))
+                .thenReturn(Flux.just(existingCrypto));
+        when(reactiveRepository.bulkUpsert(anyList()))
+                .thenAnswer(invocation -> Mono.just((long) ((List<?>) invocation.getArgument(0)).size()));
 
         StepVerifier.create(cryptoService.syncFromRemoteReactive())
-                .assertNext(count -> assertThat(count).isEqualTo(1L))
+                .assertNext(result -> assertThat(result.getSynced()).isEqualTo(1L))
                 .verifyComplete();
 
-        verify(fetchService).fetchExactly1000Reactive();
-        verify(repository).findByCoinId("bitcoin");
-        verify(repository).save(argThat(crypto -> {
+        verify(fetchService).fetchPages(any(), anySet());
+        verify(reactiveRepository).bulkUpsert(argThat(cryptos -> {
+            CryptoCurrency crypto = cryptos.get(0);
+            assertThat(crypto.getId()).isEqualTo(1L);
             assertThat(crypto.getCurrentPrice()).isEqualTo(45000.0);
             assertThat(crypto.getName()).isEqualTo("Bitcoin");
             return true;
         }));
     }
 
+    @Test
+    @DisplayName("Debe actualizar en caché solo las cryptos modificadas sin vaciar las cachés")
+    void testSyncFromRemote_IncrementalCacheRefresh() {
+        CryptoCurrency staleBitcoin = CryptoCurrency.builder()
+                .id(1L).coinId("bitcoin").name("Bitcoin").symbol("btc")
+                .currentPrice(40000.0).lastUpdated(mockCoin.getLast_updated().minusHours(1))
+                .build();
+        CryptoCurrency ethereum = CryptoCurrency.builder()
+                .id(2L).coinId("ethereum").name("Ethereum").symbol("eth").marketCapRank(2)
+                .currentPrice(3000.0).marketCap(350000000000.0).totalVolume(20000000000.0)
+                .lastUpdated(OffsetDateTime.parse("2025-01-15T10:30:00Z"))
+                .build();
+        CoinGeckoCoin unchangedEthereum = CoinGeckoCoin.builder()
+                .id("ethereum").name("Ethereum").symbol("eth").market_cap_rank(2)
+                .current_price(3000.0).market_cap(350000000000.0).total_volume(20000000000.0)
+                .last_updated(OffsetDateTime.parse("2025-01-15T07:30:00-03:00"))
+                .build();
+        CryptoCurrency cachedEthereum = CryptoCurrency.builder().id(2L).coinId("ethereum").build();
+        cacheManager.getCache("crypto-details").put("bitcoin",
+                CryptoCurrency.builder().id(1L).coinId("bitcoin").currentPrice(40000.0).build());
+        cacheManager.getCache("crypto-details").put("ethereum", cachedEthereum);
+
+        when(fetchService.fetchPages(any(), anySet()))
+                .thenReturn(pages(mockCoin, unchangedEthereum));
+        when(reactiveRepository.findAllByCoinIdIn(anyCollection()))
+                .thenReturn(Flux.just(staleBitcoin, ethereum));
+        when(reactiveRepository.bulkUpsert(anyList()))
+                .thenAnswer(invocation -> Mono.just((long) ((List<?>) invocation.getArgument(0)).size()));
+        when(summaryRepository.aggregate(any(), eq(Duration.ofHours(24))))
+                .thenReturn(summary(2L, mockCoin.getLast_updated()));
+
+        StepVerifier.create(cryptoService.syncFromRemoteReactive())
+                .assertNext(result -> {
+                    assertThat(result.getSynced()).isEqualTo(2L);
+                    assertThat(result.getChanged()).isEqualTo(1L);
+                    assertThat(result.getSkipped()).isEqualTo(1L);
+                })
+                .verifyComplete();
+
+        // La moneda sin cambios no llega a la escritura
+        verify(reactiveRepository).bulkUpsert(argThat(cryptos -> {
+            assertThat(cryptos).extracting(CryptoCurrency::getCoinId).containsExactly("bitcoin");
+            return true;
+        }));
+
+        CryptoCurrency refreshed = (CryptoCurrency) cacheManager.getCache("crypto-details").get("bitcoin").get();
+        assertThat(refreshed.getCurrentPrice()).isEqualTo(45000.0);
+        // La entrada sin cambios se conserva tal cual
+        assertThat(cacheManager.getCache("crypto-details").get("ethereum").get()).isSameAs(cachedEthereum);
+
+        // El resumen del mercado queda materializado: la siguiente lectura no toca la BD
+        clearInvocations(repository, reactiveRepository, summaryRepository);
+        StepVerifier.create(cryptoService.getStats())
+                .assertNext(stats -> {
+                    assertThat(stats.get("total")).isEqualTo(2L);
+                    assertThat(stats.get("lastSync")).isNotNull();
+                })
+                .verifyComplete();
+        StepVerifier.create(cryptoService.findByCoinId("bitcoin"))
+                .assertNext(crypto -> assertThat(crypto.getCurrentPrice()).isEqualTo(45000.0))
+                .verifyComplete();
+        verifyNoInteractions(repository, reactiveRepository, summaryRepository);
+    }
+
+
+    @Test
+    @DisplayName("Debe leer desde Redis, en otra instancia, la moneda que escribió la sincronización")
+    void testSyncFromRemote_WriteThroughReadFromRedis() {
+        RedisSerializingCacheManager redis = new RedisSerializingCacheManager("crypto-details");
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(fetchService.fetchPages(any(), anySet())).thenReturn(pages(mockCoin));
+        // Solo se escriben en caché las monedas que ya existían y cambiaron
+        when(reactiveRepository.findAllByCoinIdIn(anyCollection())).thenReturn(Flux.just(CryptoCurrency.builder()
+                .id(1L).coinId("bitcoin").name("Bitcoin").symbol("btc").currentPrice(40000.0)
+                .lastUpdated(mockCoin.getLast_updated().minusHours(1))
+                .build()));
+        when(reactiveRepository.bulkUpsert(anyList()))
+                .thenAnswer(invocation -> Mono.just((long) ((List<?>) invocation.getArgument(0)).size()));
+
+        CryptoService writer = cryptoService(new TwoTierCacheManager(redis, redisTemplate, meterRegistry,
+                100, Duration.ofMinutes(1), false), marketSummaryService);
+        StepVerifier.create(writer.syncFromRemoteReactive())
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // L1 vacío en la instancia lectora: la moneda sale del serializador de Redis
+        CryptoService reader = cryptoService(new TwoTierCacheManager(redis, redisTemplate, meterRegistry,
+                100, Duration.ofMinutes(1), false), marketSummaryService);
+        StepVerifier.create(reader.findByCoinId("bitcoin").map(CryptoMapper::toResponse))
+                .assertNext(response -> {
+                    assertThat(response.getCoinId()).isEqualTo("bitcoin");
+                    assertThat(response.getCurrentPrice()).isEqualTo(45000.0);
+                })
+                .verifyComplete();
+
+        verify(reactiveRepository, never()).findByCoinId(anyString());
+    }
+    @Test
+    @DisplayName("Debe omitir sin consultar la BD las cryptos cuya huella no cambió desde la última sincronización")
+    void testSyncFromRemote_SkipsUnchangedFromMemory() {
+        when(fetchService.fetchPages(any(), anySet()))
+                .thenReturn(pages(mockCoin))
+                .thenReturn(pages(mockCoin));
+        when(reactiveRepository.findAllByCoinIdIn(anyCollection()))
+                .thenReturn(Flux.empty());
+        when(reactiveRepository.bulkUpsert(anyList()))
+                .thenAnswer(invocation -> Mono.just((long) ((List<?>) invocation.getArgument(0)).size()));
+
+        StepVerifier.create(cryptoService.syncFromRemoteReactive())
+                .assertNext(result -> assertThat(result.getChanged()).isEqualTo(1L))
+                .verifyComplete();
+        StepVerifier.create(cryptoService.syncFromRemoteReactive())
+                .assertNext(result -> {
+                    assertThat(result.getSynced()).isEqualTo(1L);
+                    assertThat(result.getChanged()).isZero();
+                    assertThat(result.getSkipped()).isEqualTo(1L);
+                })
+                .verifyComplete();
+
+        verify(reactiveRepository, times(1)).findAllByCoinIdIn(anyCollection());
+        verify(reactiveRepository, times(1)).bulkUpsert(argThat(cryptos -> {
+            assertThat(cryptos.get(0).getContentHash()).isNotNull();
+            return true;
+        }));
+        assertThat(meterRegistry.get("crypto.sync.rows").tag("result", "changed").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("crypto.sync.rows").tag("result", "skipped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debe omitir la escritura cuando la huella guardada en la BD coincide")
+    void testSyncFromRemote_SkipsUnchangedFromStoredHash() {
+        CryptoCurrency stored = CryptoCurrency.builder()
+                .id(1L)
+                .coinId("bitcoin")
+                .contentHash(CoinFingerprint.of(mockCoin))
+                .build();
+        when(fetchService.fetchPages(any(), anySet()))
+                .thenReturn(pages(mockCoin));
+        when(reactiveRepository.findAllByCoinIdIn(anyCollection()))
+                .thenReturn(Flux.just(stored));
+
+        StepVerifier.create(cryptoService.syncFromRemoteReactive())
+                .assertNext(result -> {
+                    assertThat(result.getChanged()).isZero();
+                    assertThat(result.getSkipped()).isEqualTo(1L);
+                })
+                .verifyComplete();
+
+        verify(reactiveRepository, never()).bulkUpsert(anyList());
+        // El historial de precios sigue recibiendo la instantánea completa
+        verify(priceHistoryService).appendSnapshot(argThat(coins -> coins.size() == 1), any(OffsetDateTime.class));
+    }
+
     @Test
     @DisplayName("Debe sincronizar múltiples cryptos correctamente")
     void testSyncFromRemote_MultipleCryptos() {
@@ -138,34 +377,164 @@ class CryptoServiceTest {
                 .last_updated(OffsetDateTime.now())
                 .build();
 
-        when(fetchService.fetchExactly1000Reactive())
-                .thenReturn(Flux.just(mockCoin, ethereum));
-        when(repository.findByCoinId(anyString()))
-                .thenReturn(Optional.empty());
-        when(repository.save(any(CryptoCurrency.class)))
-                .thenReturn(mockCrypto);
+        when(fetchService.fetchPages(any(), anySet()))
+                .thenReturn(pages(mockCoin, ethereum));
+        when(reactiveRepository.findAllByCoinIdIn(anyCollection()))
+                .thenReturn(Flux.empty());
+        when(reactiveRepository.bulkUpsert(anyList()))
+                .thenAnswer(invocation -> Mono.just((long) ((List<?>) invocation.getArgument(0)).size()));
 
         StepVerifier.create(cryptoService.syncFromRemoteReactive())
-                .assertNext(count -> assertThat(count).isEqualTo(2L))
+                .assertNext(result -> assertThat(result.getSynced()).isEqualTo(2L))
                 .verifyComplete();
 
-        verify(fetchService).fetchExactly1000Reactive();
-        verify(repository, times(2)).findByCoinId(anyString());
-        verify(repository, times(2)).save(any(CryptoCurrency.class));
+        verify(fetchService).fetchPages(any(), anySet());
+        verify(reactiveRepository, times(1)).findAllByCoinIdIn(anyCollection());
+        verify(reactiveRepository, times(1)).bulkUpsert(anyList());
+    }
+
+    @Test
+    @DisplayName("Debe dividir la sincronización en lotes del tamaño configurado")
+    void testSyncFromRemote_SplitsIntoBatches() {
+        cryptoService = new CryptoService(repository, reactiveRepository, priceHistoryService, checkpointService,
+                fetchService, new ReactiveCacheOperations(cacheManager, meterRegistry), syncEventPublisher,
+                marketSummaryService, transactionalOperator,
+                Schedulers.boundedElastic(), meterRegistry, 2, 200);
+        CoinGeckoCoin ethereum = CoinGeckoCoin.builder().id("ethereum").name("Ethereum").symbol("eth").build();
+        CoinGeckoCoin solana = CoinGeckoCoin.builder().id("solana").name("Solana").symbol("sol").build();
+
+        when(fetchService.fetchPages(any(), anySet()))
+                .thenReturn(pages(mockCoin, ethereum, solana));
+        when(reactiveRepository.findAllByCoinIdIn(anyCollection()))
+                .thenReturn(Flux.empty());
+        when(reactiveRepository.bulkUpsert(anyList()))
+                .thenAnswer(invocation -> Mono.just((long) ((List<?>) invocation.getArgument(0)).size()));
+
+        StepVerifier.create(cryptoService.syncFromRemoteReactive())
+                .assertNext(result -> {
+                    assertThat(result.getSynced()).isEqualTo(3L);
+                    assertThat(result.getBatchSize()).isEqualTo(2);
+                })
+                .verifyComplete();
+
+        verify(reactiveRepository, times(2)).findAllByCoinIdIn(anyCollection());
+        verify(reactiveRepository, times(2)).bulkUpsert(anyList());
+    }
+
+    @Test
+    @DisplayName("Debe escribir una sola vez las cryptos repetidas dentro de un lote")
+    void testSyncFromRemote_DeduplicatesWithinBatch() {
+        CoinGeckoCoin updatedBitcoin = CoinGeckoCoin.builder()
+                .id("bitcoin")
+                .name("Bitcoin")
+                .symbol("btc")
+                .current_price(46000.0)
+                .build();
+
+        when(fetchService.fetchPages(any(), anySet()))
+                .thenReturn(pages(mockCoin, updatedBitcoin));
+        when(reactiveRepository.findAllByCoinIdIn(anyCollection()))
+                .thenReturn(Flux.empty());
+        when(reactiveRepository.bulkUpsert(anyList()))
+                .thenAnswer(invocation -> Mono.just((long) ((List<?>) invocation.getArgument(0)).size()));
+
+        StepVerifier.create(cryptoService.syncFromRemoteReactive())
+                .assertNext(result -> assertThat(result.getSynced()).isEqualTo(1L))
+                .verifyComplete();
+
+        verify(reactiveRepository).bulkUpsert(argThat(cryptos -> {
+            assertThat(cryptos).hasSize(1);
+            assertThat(cryptos.get(0).getCurrentPrice()).isEqualTo(46000.0);
+            return true;
+        }));
+    }
+
+    @Test
+    @DisplayName("Debe registrar checkpoints solo de las páginas persistidas y reportar las fallidas")
+    void testSyncFromRemote_PageCheckpoints() {
+        CoinGeckoCoin ethereum = CoinGeckoCoin.builder().id("ethereum").name("Ethereum").symbol("eth").build();
+        when(fetchService.fetchPages(any(), anySet())).thenReturn(Flux.just(
+                CoinPage.fetched(1, List.of(mockCoin), 0),
+                CoinPage.failed(2, 4),
+                CoinPage.fetched(3, List.of(ethereum), 2)));
+        when(reactiveRepository.findAllByCoinIdIn(anyCollection())).thenReturn(Flux.empty());
+        when(reactiveRepository.bulkUpsert(anyList()))
+                .thenAnswer(invocation -> Mono.just((long) ((List<?>) invocation.getArgument(0)).size()));
+
+        StepVerifier.create(cryptoService.syncFromRemoteReactive())
+                .assertNext(result -> {
+                    assertThat(result.getSynced()).isEqualTo(2L);
+                    assertThat(result.getPagesFetched()).isEqualTo(2);
+                    assertThat(result.getPagesFailed()).isEqualTo(1);
+                    assertThat(result.getPagesRetried()).isEqualTo(2);
+                    assertThat(result.getPagesResumed()).isZero();
+                })
+                .verifyComplete();
+
+        verify(checkpointService).markPageCompleted(syncRun, 1, 1);
+        verify(checkpointService).markPageCompleted(syncRun, 3, 1);
+        verify(checkpointService, never()).markPageCompleted(eq(syncRun), eq(2), anyInt());
+        verify(checkpointService).finishRun(syncRun, 1);
+    }
+
+    @Test
+    @DisplayName("Debe compartir la sincronización en curso en lugar de abrir otra ejecución")
+    void testSyncFromRemote_SingleFlight() {
+        Sinks.Empty<Void> gate = Sinks.empty();
+        when(fetchService.fetchPages(any(), anySet()))
+                .thenReturn(pages(mockCoin).delaySubscription(gate.asMono()));
+        when(reactiveRepository.findAllByCoinIdIn(anyCollection())).thenReturn(Flux.empty());
+        when(reactiveRepository.bulkUpsert(anyList()))
+                .thenAnswer(invocation -> Mono.just((long) ((List<?>) invocation.getArgument(0)).size()));
+
+        Mono<List<SyncResult>> both = Flux.merge(cryptoService.syncFromRemoteReactive(),
+                cryptoService.syncFromRemoteReactive()).collectList();
+
+        StepVerifier.create(both)
+                .then(() -> verify(fetchService, timeout(5000)).fetchPages(any(), anySet()))
+                .then(gate::tryEmitEmpty)
+                .assertNext(results -> assertThat(results).hasSize(2)
+                        .allSatisfy(result -> assertThat(result).isSameAs(results.get(0))))
+                .verifyComplete();
+
+        verify(checkpointService, times(1)).openRun(any());
+        verify(fetchService, times(1)).fetchPages(any(), anySet());
+        assertThat(singleFlightCalls("crypto-sync", "coalesced")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debe reanudar una sincronización pidiendo solo las páginas pendientes")
+    void testSyncFromRemote_ResumesRun() {
+        when(checkpointService.completedPages(syncRun)).thenReturn(Set.of(1, 3));
+        when(fetchService.fetchPages(any(), anySet())).thenReturn(pages(mockCoin));
+        when(reactiveRepository.findAllByCoinIdIn(anyCollection())).thenReturn(Flux.empty());
+        when(reactiveRepository.bulkUpsert(anyList()))
+                .thenAnswer(invocation -> Mono.just((long) ((List<?>) invocation.getArgument(0)).size()));
+
+        StepVerifier.create(cryptoService.syncFromRemoteReactive())
+                .assertNext(result -> {
+                    assertThat(result.getPagesResumed()).isEqualTo(2);
+                    assertThat(result.getPagesFailed()).isZero();
+                })
+                .verifyComplete();
+
+        verify(fetchService).fetchPages(new FetchPlan(20, 50, 1, Duration.ofSeconds(6), 1000), Set.of(1, 3));
+        verify(checkpointService).finishRun(syncRun, 0);
     }
 
     @Test
     @DisplayName("Debe manejar error al sincronizar desde API externa")
     void testSyncFromRemote_ApiError() {
-        when(fetchService.fetchExactly1000Reactive())
+        when(fetchService.fetchPages(any(), anySet()))
                 .thenReturn(Flux.error(new RuntimeException("API Error")));
 
         StepVerifier.create(cryptoService.syncFromRemoteReactive())
                 .expectError(RuntimeException.class)
                 .verify();
 
-        verify(fetchService).fetchExactly1000Reactive();
-        verify(repository, never()).save(any(CryptoCurrency.class));
+        verify(fetchService).fetchPages(any(), anySet());
+        verify(reactiveRepository, never()).bulkUpsert(anyList());
+        verify(priceHistoryService, never()).appendSnapshot(anyCollection(), any(OffsetDateTime.class));
     }
 
     @Test
@@ -210,6 +579,29 @@ class CryptoServiceTest {
                 "bitcoin", "bitcoin", pageable);
     }
 
+    @Test
+    @DisplayName("Debe delegar la búsqueda difusa en el repositorio con el límite indicado")
+    void testSearchCryptos() {
+        when(repository.search("bitcoim", 5)).thenReturn(List.of(mockCrypto));
+
+        StepVerifier.create(cryptoService.searchCryptos("bitcoim", 5))
+                .assertNext(result -> assertThat(result).extracting(CryptoCurrency::getCoinId)
+                        .containsExactly("bitcoin"))
+                .verifyComplete();
+
+        verify(repository).search("bitcoim", 5);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una búsqueda difusa vacía")
+    void testSearchCryptos_Blank() {
+        StepVerifier.create(cryptoService.searchCryptos("  ", 5))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(repository, never()).search(anyString(), anyInt());
+    }
+
     @Test
     @DisplayName("Debe devolver página vacía cuando no hay resultados")
     void testListCryptos_NoResults() {
@@ -228,11 +620,96 @@ class CryptoServiceTest {
         verify(repository).findAll(pageable);
     }
 
+    @Test
+    @DisplayName("Debe devolver la primera página keyset con cursor siguiente")
+    void testListCryptosKeyset_FirstPage() {
+        CryptoCurrency ethereum = CryptoCurrency.builder().id(2L).coinId("ethereum").marketCapRank(2).build();
+        CryptoCurrency tether = CryptoCurrency.builder().id(3L).coinId("tether").marketCapRank(3).build();
+        when(repository.findPageAfter(null, CryptoSortField.MARKET_CAP_RANK, Sort.Direction.ASC, null, null, 3))
+                .thenReturn(List.of(mockCrypto, ethereum, tether));
+
+        StepVerifier.create(cryptoService.listCryptos(null, CryptoSortField.MARKET_CAP_RANK,
+                Sort.Direction.ASC, "", 2))
+                .assertNext(page -> {
+                    assertThat(page.getContent()).extracting(CryptoCurrency::getCoinId)
+                            .containsExactly("bitcoin", "ethereum");
+                    assertThat(page.isHasNext()).isTrue();
+                    KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+                    assertThat(next.getValue()).isEqualTo(2);
+                    assertThat(next.getId()).isEqualTo(2L);
+                })
+                .verifyComplete();
+
+        verify(repository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Debe continuar desde el cursor recibido y terminar sin cursor siguiente")
+    void testListCryptosKeyset_LastPage() {
+        String after = new KeysetCursor(CryptoSortField.MARKET_CAP_RANK, Sort.Direction.ASC, 2, 2L).encode();
+        when(repository.findPageAfter("bit", CryptoSortField.MARKET_CAP_RANK, Sort.Direction.ASC, 2, 2L, 3))
+                .thenReturn(List.of(mockCrypto));
+
+        StepVerifier.create(cryptoService.listCryptos("bit", CryptoSortField.MARKET_CAP_RANK,
+                Sort.Direction.ASC, after, 2))
+                .assertNext(page -> {
+                    assertThat(page.getContent()).hasSize(1);
+                    assertThat(page.isHasNext()).isFalse();
+                    assertThat(page.getNextCursor()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un cursor generado con otro ordenamiento")
+    void testListCryptosKeyset_CursorSortMismatch() {
+        String after = new KeysetCursor(CryptoSortField.CURRENT_PRICE, Sort.Direction.ASC, 1.0, 2L).encode();
+
+        StepVerifier.create(cryptoService.listCryptos(null, CryptoSortField.MARKET_CAP_RANK,
+                Sort.Direction.ASC, after, 2))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debe emitir todas las cryptos del cursor y cerrarlo al terminar")
+    void testStreamAll_ClosesCursor() {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(repository.streamAllByRank(200))
+                .thenReturn(Stream.of(mockCrypto, mockCrypto).onClose(() -> closed.set(true)));
+
+        StepVerifier.create(cryptoService.streamAll())
+                .expectNextCount(2)
+                .verifyComplete();
+
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe respetar la demanda del suscriptor y cerrar el cursor al cancelar")
+    void testStreamAll_HonoursBackpressure() {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        AtomicInteger pulled = new AtomicInteger();
+        when(repository.streamAllByRank(200))
+                .thenReturn(Stream.generate(() -> {
+                    pulled.incrementAndGet();
+                    return mockCrypto;
+                }).onClose(() -> closed.set(true)));
+
+        StepVerifier.create(cryptoService.streamAll(), 3)
+                .expectNextCount(3)
+                .thenCancel()
+                .verify();
+
+        assertThat(pulled.get()).isLessThanOrEqualTo(4);
+        assertThat(closed).isTrue();
+    }
+
     @Test
     @DisplayName("Debe encontrar crypto por coinId")
     void testFindByCoinId_Found() {
-        when(repository.findByCoinId("bitcoin"))
-                .thenReturn(Optional.of(mockCrypto));
+        when(reactiveRepository.findByCoinId("bitcoin"))
+                .thenReturn(Mono.just(mockCrypto));
 
         StepVerifier.create(cryptoService.findByCoinId("bitcoin"))
                 .assertNext(crypto -> {
@@ -242,30 +719,111 @@ class CryptoServiceTest {
                 })
                 .verifyComplete();
 
-        verify(repository).findByCoinId("bitcoin");
+        verify(reactiveRepository).findByCoinId("bitcoin");
     }
 
     @Test
     @DisplayName("Debe devolver Mono vacío cuando crypto no existe")
     void testFindByCoinId_NotFound() {
-        when(repository.findByCoinId("nonexistent"))
-                .thenReturn(Optional.empty());
+        when(reactiveRepository.findByCoinId("nonexistent"))
+                .thenReturn(Mono.empty());
 
         StepVerifier.create(cryptoService.findByCoinId("nonexistent"))
                 .verifyComplete();
 
-        verify(repository).findByCoinId("nonexistent");
+        verify(reactiveRepository).findByCoinId("nonexistent");
     }
 
     @Test
-    @DisplayName("Debe obtener estadísticas correctamente cuando hay datos")
-    void testGetStats_WithData() {
-        Pageable latestPageable = PageRequest.of(0, 1,
-                Sort.by("lastUpdated").descending());
-        Page<CryptoCurrency> page = new PageImpl<>(Arrays.asList(mockCrypto));
+    @DisplayName("Debe servir la segunda consulta por coinId desde la caché")
+    void testFindByCoinId_SecondCallHitsCache() {
+        when(reactiveRepository.findByCoinId("bitcoin"))
+                .thenReturn(Mono.just(mockCrypto));
+
+        StepVerifier.create(cryptoService.findByCoinId("bitcoin"))
+                .expectNextCount(1)
+                .verifyComplete();
+        clearInvocations(repository, reactiveRepository);
 
-        when(repository.count()).thenReturn(1028L);
-        when(repository.findAll(latestPageable)).thenReturn(page);
+        StepVerifier.create(cryptoService.findByCoinId("bitcoin"))
+                .assertNext(crypto -> assertThat(crypto.getCoinId()).isEqualTo("bitcoin"))
+                .verifyComplete();
+
+        verifyNoInteractions(repository, reactiveRepository);
+        // Se guarda la entidad, no el publisher
+        assertThat(cacheManager.getCache("crypto-details").get("bitcoin").get()).isInstanceOf(CryptoCurrency.class);
+    }
+
+    @Test
+    @DisplayName("No debe cachear una crypto inexistente")
+    void testFindByCoinId_EmptyNotCached() {
+        when(reactiveRepository.findByCoinId("nonexistent"))
+                .thenReturn(Mono.empty());
+
+        StepVerifier.create(cryptoService.findByCoinId("nonexistent")).verifyComplete();
+        StepVerifier.create(cryptoService.findByCoinId("nonexistent")).verifyComplete();
+
+        verify(reactiveRepository, times(2)).findByCoinId("nonexistent");
+    }
+
+    @Test
+    @DisplayName("Debe compartir una única consulta entre fallos de caché concurrentes")
+    void testFindByCoinId_ConcurrentMissesDeduplicated() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        when(reactiveRepository.findByCoinId("bitcoin")).thenAnswer(invocation -> Mono.fromCallable(() -> {
+            release.await(5, TimeUnit.SECONDS);
+            return mockCrypto;
+        }).subscribeOn(Schedulers.boundedElastic()));
+
+        List<CryptoCurrency> results = Flux.range(0, 8)
+                .flatMap(i -> cryptoService.findByCoinId("bitcoin"))
+                .doOnSubscribe(s -> Mono.delay(Duration.ofMillis(100))
+                        .subscribe(tick -> release.countDown()))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(results).hasSize(8).allMatch(crypto -> crypto.getCoinId().equals("bitcoin"));
+        verify(reactiveRepository, times(1)).findByCoinId("bitcoin");
+        assertThat(singleFlightCalls("crypto-lookup", "executed")).isEqualTo(1.0);
+        assertThat(singleFlightCalls("crypto-lookup", "coalesced")).isEqualTo(7.0);
+    }
+
+    private CryptoService cryptoService(CacheManager cacheManager, MarketSummaryService summaryService) {
+        return new CryptoService(repository, reactiveRepository, priceHistoryService, checkpointService,
+                fetchService, new ReactiveCacheOperations(cacheManager, meterRegistry), syncEventPublisher,
+                summaryService, transactionalOperator,
+                Schedulers.boundedElastic(), meterRegistry, 250, 200);
+    }
+
+    private static Flux<CoinPage> pages(CoinGeckoCoin... coins) {
+        return Flux.just(CoinPage.fetched(1, List.of(coins), 0));
+    }
+
+    private double singleFlightCalls(String name, String result) {
+        return meterRegistry.get("singleflight.calls").tags("name", name, "result", result).counter().count();
+    }
+
+    private MarketSummary summary(long total, OffsetDateTime lastUpdated) {
+        return MarketSummary.builder()
+                .id(MarketSummary.SINGLETON_ID)
+                .totalCoins(total)
+                .lastUpdated(lastUpdated)
+                .computedAt(OffsetDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debe obtener estadísticas del resumen materializado sin contar la tabla")
+    void testGetStats_WithData() {
+        MarketSummary stored = summary(1028L, mockCrypto.getLastUpdated());
+        stored.setLastSyncAt(OffsetDateTime.now());
+        stored.setTotalMarketCap(2.5e12);
+        stored.setTopGainerCoinId("solana");
+        stored.setTopGainerChange(12.5);
+        stored.setTopLoserCoinId("pepe");
+        stored.setTopLoserChange(-8.0);
+        stored.setWeightedPriceChange(1.75);
+        when(summaryRepository.findById(MarketSummary.SINGLETON_ID)).thenReturn(Optional.of(stored));
 
         StepVerifier.create(cryptoService.getStats())
                 .assertNext(stats -> {
@@ -273,22 +831,43 @@ class CryptoServiceTest {
                     assertThat(stats.get("total")).isEqualTo(1028L);
                     assertThat(stats.get("hasSyncedData")).isEqualTo(true);
                     assertThat(stats.get("lastUpdated")).isNotNull();
+                    assertThat(stats.get("totalMarketCap")).isEqualTo(2.5e12);
+                    assertThat(stats.get("marketCapWeightedPriceChange")).isEqualTo(1.75);
+                    assertThat(stats.get("topGainer")).isEqualTo(java.util.Map.of(
+                            "coinId", "solana", "priceChangePercentage", 12.5));
+                    assertThat(stats.get("topLoser")).isEqualTo(java.util.Map.of(
+                            "coinId", "pepe", "priceChangePercentage", -8.0));
                 })
                 .verifyComplete();
 
-        verify(repository).count();
-        verify(repository).findAll(latestPageable);
+        verify(summaryRepository).findById(MarketSummary.SINGLETON_ID);
+        verify(summaryRepository, never()).aggregate(any(), any());
+        verifyNoInteractions(repository, reactiveRepository);
     }
 
     @Test
-    @DisplayName("Debe obtener estadísticas correctamente cuando no hay datos")
-    void testGetStats_NoData() {
-        Pageable latestPageable = PageRequest.of(0, 1,
-                Sort.by("lastUpdated").descending());
-        Page<CryptoCurrency> emptyPage = Page.empty();
+    @DisplayName("Debe servir las estadísticas y el estado del scheduler desde la caché")
+    void testGetStats_SecondCallHitsCache() {
+        when(summaryRepository.findById(MarketSummary.SINGLETON_ID))
+                .thenReturn(Optional.of(summary(1028L, mockCrypto.getLastUpdated())));
+
+        StepVerifier.create(cryptoService.getStats()).expectNextCount(1).verifyComplete();
+        clearInvocations(repository, reactiveRepository, summaryRepository);
+
+        StepVerifier.create(cryptoService.getStats())
+                .assertNext(stats -> assertThat(stats.get("total")).isEqualTo(1028L))
+                .verifyComplete();
+        StepVerifier.create(cryptoService.getSchedulerStatus())
+                .assertNext(status -> assertThat(status.get("totalCryptos")).isEqualTo(1028L))
+                .verifyComplete();
+
+        verifyNoInteractions(repository, reactiveRepository, summaryRepository);
+    }
 
-        when(repository.count()).thenReturn(0L);
-        when(repository.findAll(latestPageable)).thenReturn(emptyPage);
+    @Test
+    @DisplayName("Debe calcular y guardar el resumen si aún no existe la fila")
+    void testGetStats_NoData() {
+        when(summaryRepository.findById(MarketSummary.SINGLETON_ID)).thenReturn(Optional.empty());
 
         StepVerifier.create(cryptoService.getStats())
                 .assertNext(stats -> {
@@ -296,22 +875,20 @@ class CryptoServiceTest {
                     assertThat(stats.get("total")).isEqualTo(0L);
                     assertThat(stats.get("hasSyncedData")).isEqualTo(false);
                     assertThat(stats.get("lastUpdated")).isNull();
+                    assertThat(stats.get("lastSync")).isNull();
+                    assertThat(stats.get("topGainer")).isNull();
                 })
                 .verifyComplete();
 
-        verify(repository).count();
-        verify(repository).findAll(latestPageable);
+        verify(summaryRepository).aggregate(any(), eq(Duration.ofHours(24)));
+        verify(summaryRepository).save(argThat(saved -> saved.getId() == MarketSummary.SINGLETON_ID));
     }
 
     @Test
     @DisplayName("Debe obtener estado del scheduler correctamente")
     void testGetSchedulerStatus() {
-        Pageable latestPageable = PageRequest.of(0, 1,
-                Sort.by("lastUpdated").descending());
-        Page<CryptoCurrency> page = new PageImpl<>(Arrays.asList(mockCrypto));
-
-        when(repository.count()).thenReturn(1028L);
-        when(repository.findAll(latestPageable)).thenReturn(page);
+        when(summaryRepository.findById(MarketSummary.SINGLETON_ID))
+                .thenReturn(Optional.of(summary(1028L, mockCrypto.getLastUpdated())));
 
         StepVerifier.create(cryptoService.getSchedulerStatus())
                 .assertNext(status -> {
@@ -326,7 +903,7 @@ class CryptoServiceTest {
                 })
                 .verifyComplete();
 
-        verify(repository).count();
-        verify(repository).findAll(latestPageable);
+        verify(summaryRepository).findById(MarketSummary.SINGLETON_ID);
+        verifyNoInteractions(repository, reactiveRepository);
     }
 }
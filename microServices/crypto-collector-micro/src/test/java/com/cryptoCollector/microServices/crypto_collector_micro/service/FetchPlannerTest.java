@@ -0,0 +1,78 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.FetchPlan;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FetchPlanner - Tests Unitarios")
+class FetchPlannerTest {
+
+    @Test
+    @DisplayName("Debe mantener el plan histórico de 1000 monedas según haya API Key o no")
+    void testPlan_DefaultUniverse() {
+        FetchPlan publicPlan = new FetchPlanner(1000, "auto", "", 0, 4, Duration.ofSeconds(1)).plan();
+        FetchPlan demoPlan = new FetchPlanner(1000, "auto", "key", 0, 4, Duration.ofSeconds(1)).plan();
+
+        assertThat(publicPlan.getTotalPages()).isEqualTo(20);
+        assertThat(publicPlan.getPerPage()).isEqualTo(50);
+        assertThat(publicPlan.getRequestInterval()).isEqualTo(Duration.ofSeconds(6));
+        assertThat(demoPlan.getTotalPages()).isEqualTo(4);
+        assertThat(demoPlan.getPerPage()).isEqualTo(250);
+        assertThat(demoPlan.getRequestInterval()).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Debe escalar las páginas con el universo y redondear hacia arriba")
+    void testPlan_LargeUniverse() {
+        FetchPlan plan = new FetchPlanner(15_001, "pro", "key", 0, 8, Duration.ofSeconds(1)).plan();
+
+        assertThat(plan.getTotalPages()).isEqualTo(61);
+        assertThat(plan.getPerPage()).isEqualTo(250);
+        assertThat(plan.getRequestInterval()).isEqualTo(Duration.ofMillis(120));
+        assertThat(plan.estimatedDuration()).isEqualTo(Duration.ofMillis(7320));
+        // La página 61 solo aporta la moneda 15.001
+        assertThat(plan.coinsOnPage(60)).isEqualTo(250);
+        assertThat(plan.coinsOnPage(61)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe calcular la concurrencia a partir de la tasa y la latencia, acotada")
+    void testPlan_Concurrency() {
+        // 30 req/min = 0.5 req/s: con 1 s de latencia basta una petición en vuelo
+        assertThat(new FetchPlanner(5000, "demo", "key", 0, 8, Duration.ofSeconds(1)).plan().getConcurrency())
+                .isEqualTo(1);
+        // 500 req/min ≈ 8.3 req/s × 0.5 s = 5 en vuelo
+        assertThat(new FetchPlanner(5000, "pro", "key", 0, 8, Duration.ofMillis(500)).plan().getConcurrency())
+                .isEqualTo(5);
+        assertThat(new FetchPlanner(5000, "pro", "key", 0, 3, Duration.ofSeconds(2)).plan().getConcurrency())
+                .isEqualTo(3);
+        // Nunca más que páginas a pedir
+        assertThat(new FetchPlanner(300, "pro", "key", 0, 8, Duration.ofSeconds(2)).plan().getConcurrency())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe priorizar la tasa configurada sobre la del plan")
+    void testPlan_RateOverride() {
+        FetchPlanner planner = new FetchPlanner(1000, "demo", "key", 120, 4, Duration.ofSeconds(1));
+
+        assertThat(planner.getRequestsPerMinute()).isEqualTo(120);
+        assertThat(planner.plan().getRequestInterval()).isEqualTo(Duration.ofMillis(500));
+        assertThat(planner.plan().getConcurrency()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un universo vacío o un plan desconocido")
+    void testPlan_InvalidConfig() {
+        assertThatThrownBy(() -> new FetchPlanner(0, "auto", "", 0, 4, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FetchPlanner(1000, "enterprise", "", 0, 4, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("coingecko.api.tier");
+    }
+}
@@ -0,0 +1,85 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.cache.ReactiveCacheOperations;
+import com.cryptoCollector.microServices.crypto_collector_micro.cache.RedisSerializingCacheManager;
+import com.cryptoCollector.microServices.crypto_collector_micro.cache.TwoTierCacheManager;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.MarketSummary;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.MarketSummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MarketSummaryService - Tests Unitarios")
+class MarketSummaryServiceTest {
+
+    private static final OffsetDateTime SYNC_TIME = OffsetDateTime.of(2025, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private MarketSummaryRepository repository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private RedisSerializingCacheManager redis;
+
+    @BeforeEach
+    void setUp() {
+        redis = new RedisSerializingCacheManager(MarketSummaryService.CACHE_NAME);
+    }
+
+    @Test
+    @DisplayName("Debe servir current() desde la entrada serializada en Redis por otra instancia")
+    void testCurrent_FromRedis() {
+        MarketSummary computed = MarketSummary.builder()
+                .id(MarketSummary.SINGLETON_ID)
+                .totalCoins(1000L)
+                .totalMarketCap(2.5e12)
+                .topGainerCoinId("solana")
+                .topGainerChange(12.5)
+                .lastUpdated(SYNC_TIME.minusMinutes(1))
+                .computedAt(SYNC_TIME)
+                .build();
+        when(repository.aggregate(eq(SYNC_TIME), any())).thenReturn(computed);
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        StepVerifier.create(service().recompute(SYNC_TIME))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Otra instancia con L1 vacío: el resumen solo puede venir de Redis
+        StepVerifier.create(service().current())
+                .assertNext(summary -> {
+                    assertThat(summary.getTotalCoins()).isEqualTo(1000L);
+                    assertThat(summary.getTopGainerCoinId()).isEqualTo("solana");
+                    assertThat(summary.getLastSyncAt()).isEqualTo(SYNC_TIME);
+                    assertThat(summary.getLastUpdated()).isEqualTo(SYNC_TIME.minusMinutes(1));
+                })
+                .verifyComplete();
+
+        verify(repository, never()).findById(any());
+    }
+
+    private MarketSummaryService service() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(redis, redisTemplate, meterRegistry,
+                100, Duration.ofMinutes(1), false);
+        return new MarketSummaryService(repository, new ReactiveCacheOperations(cacheManager, meterRegistry),
+                Schedulers.boundedElastic(), Duration.ofHours(24));
+    }
+}
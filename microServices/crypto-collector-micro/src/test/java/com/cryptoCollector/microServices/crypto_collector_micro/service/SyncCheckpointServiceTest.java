@@ -0,0 +1,115 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.FetchPlan;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.SyncPageCheckpoint;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.SyncRun;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.SyncPageCheckpointRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.SyncRunRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("SyncCheckpointService - Tests de Integración")
+class SyncCheckpointServiceTest {
+
+    private static final FetchPlan PLAN = new FetchPlan(20, 50, 1, Duration.ofSeconds(6), 1000);
+
+    @Autowired
+    private SyncRunRepository runRepository;
+
+    @Autowired
+    private SyncPageCheckpointRepository checkpointRepository;
+
+    private SyncCheckpointService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SyncCheckpointService(runRepository, checkpointRepository, Duration.ofHours(1),
+                Duration.ofMinutes(15));
+    }
+
+    @Test
+    @DisplayName("Debe reanudar una ejecución parcial con sus páginas completadas")
+    void testOpenRun_ResumesPartialRun() {
+        SyncRun first = service.openRun(PLAN);
+        service.markPageCompleted(first, 1, 50);
+        service.markPageCompleted(first, 2, 50);
+        service.finishRun(first, 3);
+
+        SyncRun resumed = service.openRun(PLAN);
+
+        assertThat(resumed.getId()).isEqualTo(first.getId());
+        assertThat(resumed.getStatus()).isEqualTo(SyncRun.Status.RUNNING);
+        assertThat(service.completedPages(resumed)).containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    @DisplayName("Debe empezar una ejecución nueva tras una completa o con otro plan")
+    void testOpenRun_StartsNewRun() {
+        SyncRun completed = service.openRun(PLAN);
+        service.finishRun(completed, 0);
+        SyncRun partialOtherPlan = service.openRun(new FetchPlan(4, 250, 1, Duration.ofSeconds(2), 1000));
+        service.finishRun(partialOtherPlan, 1);
+
+        SyncRun next = service.openRun(PLAN);
+
+        assertThat(next.getId()).isNotIn(completed.getId(), partialOtherPlan.getId());
+        assertThat(service.completedPages(next)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("No debe reanudar ejecuciones fuera de la ventana de reanudación")
+    void testOpenRun_IgnoresStaleRun() {
+        SyncRun stale = runRepository.save(SyncRun.builder()
+                .status(SyncRun.Status.PARTIAL)
+                .totalPages(20)
+                .perPage(50)
+                .startedAt(OffsetDateTime.now().minusHours(2))
+                .build());
+
+        assertThat(service.openRun(PLAN).getId()).isNotEqualTo(stale.getId());
+    }
+
+    @Test
+    @DisplayName("No debe compartir una ejecución RUNNING que sigue registrando páginas")
+    void testOpenRun_IgnoresLiveRunningRun() {
+        SyncRun live = service.openRun(PLAN);
+        service.markPageCompleted(live, 1, 50);
+
+        SyncRun next = service.openRun(PLAN);
+
+        assertThat(next.getId()).isNotEqualTo(live.getId());
+        assertThat(service.completedPages(next)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe reanudar una ejecución RUNNING abandonada sin páginas recientes")
+    void testOpenRun_ResumesAbandonedRunningRun() {
+        OffsetDateTime startedAt = OffsetDateTime.now().minusMinutes(40);
+        SyncRun abandoned = runRepository.save(SyncRun.builder()
+                .status(SyncRun.Status.RUNNING)
+                .totalPages(20)
+                .perPage(50)
+                .startedAt(startedAt)
+                .build());
+        checkpointRepository.save(SyncPageCheckpoint.builder()
+                .runId(abandoned.getId())
+                .page(1)
+                .coins(50)
+                .completedAt(startedAt.plusMinutes(5))
+                .build());
+
+        SyncRun resumed = service.openRun(PLAN);
+
+        assertThat(resumed.getId()).isEqualTo(abandoned.getId());
+        assertThat(service.completedPages(resumed)).containsExactly(1);
+    }
+}
@@ -0,0 +1,126 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.service;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.cache.ReactiveCacheOperations;
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.SyncResult;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoCandleRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoPriceTickRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoReactiveRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.MarketSummaryRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.SharedH2ConnectionFactory;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.SyncPageCheckpointRepository;
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.SyncRunRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Sincronización completa contra un stub local de CoinGecko: 5k y 20k monedas sobre H2 (JDBC y
+ * R2DBC sobre la misma base en memoria), sin
+ * rate limit efectivo, para medir solo el pipeline (fetch + decodificación + escritura por lotes).
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=SyncLoadTest
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:syncload;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext
+@DisplayName("Prueba de carga - Sincronización de universo grande")
+class SyncLoadTest {
+
+    private static final int LARGE_UNIVERSE = 20_000;
+    private static final int SMALL_UNIVERSE = 5_000;
+    private static final Duration TARGET = Duration.ofSeconds(30);
+
+    @Autowired
+    private CryptoRepository repository;
+
+    @Autowired
+    private CryptoPriceTickRepository tickRepository;
+
+    @Autowired
+    private CryptoCandleRepository candleRepository;
+
+    @Autowired
+    private SyncRunRepository runRepository;
+
+    @Autowired
+    private SyncPageCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private MarketSummaryRepository summaryRepository;
+
+    @Test
+    void syncScalesLinearly() throws Exception {
+        SyncResult small = sync(SMALL_UNIVERSE);
+        repository.deleteAllInBatch();
+        SyncResult large = sync(LARGE_UNIVERSE);
+        SyncResult unchanged = sync(LARGE_UNIVERSE);
+
+        System.out.printf("%n%-22s %8s %8s %8s %10s %10s%n", "sync", "monedas", "páginas", "omitidas", "ms",
+                "filas/s");
+        print("5k (inserción)", small);
+        print("20k (inserción)", large);
+        print("20k (sin cambios)", unchanged);
+
+        assertThat(large.getSynced()).isEqualTo(LARGE_UNIVERSE);
+        assertThat(large.getPagesFailed()).isZero();
+        assertThat(repository.count()).isEqualTo(LARGE_UNIVERSE);
+        assertThat(large.getDurationMs()).isLessThan(TARGET.toMillis());
+        assertThat(unchanged.getChanged()).isZero();
+        assertThat(unchanged.getSkipped()).isEqualTo(LARGE_UNIVERSE);
+        // Lineal: cuadruplicar el universo no debe reducir el throughput a menos de la mitad
+        assertThat(large.getRowsPerSecond()).isGreaterThan(small.getRowsPerSecond() / 2);
+    }
+
+    private SyncResult sync(int universe) throws Exception {
+        try (CoinGeckoStubServer stub = new CoinGeckoStubServer(universe, 20)) {
+            FetchPlanner planner = new FetchPlanner(universe, "pro", "key", 60_000, 8, Duration.ofMillis(100));
+            CryptoFetchService fetchService = new CryptoFetchService(WebClient.builder(), planner, "key",
+                    stub.baseUrl(), 3, Duration.ofMillis(50), Duration.ofMillis(500), 8, DataSize.ofKilobytes(256));
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            ConnectionFactory connectionFactory = SharedH2ConnectionFactory.create("syncload");
+            ReactiveCacheOperations cacheOperations = new ReactiveCacheOperations(new ConcurrentMapCacheManager(),
+                    meterRegistry);
+            CryptoService service = new CryptoService(repository,
+                    new CryptoReactiveRepository(DatabaseClient.create(connectionFactory)),
+                    new PriceHistoryService(tickRepository, candleRepository, true, 1),
+                    new SyncCheckpointService(runRepository, checkpointRepository, Duration.ZERO, Duration.ZERO),
+                    fetchService,
+                    cacheOperations,
+                    mock(SyncEventPublisher.class),
+                    new MarketSummaryService(summaryRepository, cacheOperations, Schedulers.boundedElastic(),
+                            Duration.ofHours(24)),
+                    TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)),
+                    Schedulers.boundedElastic(),
+                    meterRegistry, 250, 200);
+
+            return service.syncFromRemoteReactive().block(TARGET.multipliedBy(2));
+        }
+    }
+
+    private static void print(String label, SyncResult result) {
+        System.out.printf("%-22s %8d %8d %8d %10d %10.0f%n", label, result.getSynced(), result.getPagesFetched(),
+                result.getSkipped(), result.getDurationMs(), result.getRowsPerSecond());
+    }
+}
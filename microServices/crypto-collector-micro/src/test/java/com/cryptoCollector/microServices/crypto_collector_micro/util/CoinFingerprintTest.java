@@ -0,0 +1,48 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.util;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinGeckoCoin;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CoinFingerprint - Tests Unitarios")
+class CoinFingerprintTest {
+
+    @Test
+    @DisplayName("Debe dar la misma huella al mismo contenido aunque cambie el offset de la fecha")
+    void testSameContent() {
+        CoinGeckoCoin utc = coin().last_updated(OffsetDateTime.parse("2025-01-15T10:30:00Z")).build();
+        CoinGeckoCoin bogota = coin().last_updated(OffsetDateTime.parse("2025-01-15T05:30:00-05:00")).build();
+
+        assertThat(CoinFingerprint.of(utc)).isEqualTo(CoinFingerprint.of(bogota));
+    }
+
+    @Test
+    @DisplayName("Debe cambiar la huella al cambiar cualquier campo sincronizado")
+    void testChangedContent() {
+        long base = CoinFingerprint.of(coin().build());
+
+        assertThat(CoinFingerprint.of(coin().current_price(45000.01).build())).isNotEqualTo(base);
+        assertThat(CoinFingerprint.of(coin().market_cap(1.0).build())).isNotEqualTo(base);
+        assertThat(CoinFingerprint.of(coin().total_volume(null).build())).isNotEqualTo(base);
+        assertThat(CoinFingerprint.of(coin().market_cap_rank(2).build())).isNotEqualTo(base);
+        assertThat(CoinFingerprint.of(coin().symbol("xbt").build())).isNotEqualTo(base);
+        assertThat(CoinFingerprint.of(coin().last_updated(OffsetDateTime.parse("2025-01-15T10:30:00.001Z")).build()))
+                .isNotEqualTo(base);
+    }
+
+    private static CoinGeckoCoin.CoinGeckoCoinBuilder coin() {
+        return CoinGeckoCoin.builder()
+                .id("bitcoin")
+                .name("Bitcoin")
+                .symbol("btc")
+                .market_cap_rank(1)
+                .current_price(45000.0)
+                .market_cap(900000000000.0)
+                .total_volume(50000000000.0)
+                .last_updated(OffsetDateTime.parse("2025-01-15T10:30:00Z"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.util;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.dto.CoinSuggestion;
+import com.cryptoCollector.microServices.crypto_collector_micro.model.CryptoCurrency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CoinSuggestIndex - Tests Unitarios")
+class CoinSuggestIndexTest {
+
+    private CoinSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // Mismo orden que streamAllByRank: ranking ascendente y sin ranking al final
+        index = CoinSuggestIndex.build(List.of(
+                crypto("bitcoin", "Bitcoin", "btc", 1),
+                crypto("ethereum", "Ethereum", "eth", 2),
+                crypto("wrapped-bitcoin", "Wrapped Bitcoin", "wbtc", 15),
+                crypto("bitcoin-cash", "Bitcoin Cash", "bch", 20),
+                crypto("ethena", "Ethena", "ena", 40),
+                crypto("ether-fi", "ether.fi", "ethfi", 90),
+                crypto("eth-proxy", "Proxy", "eth", null)));
+    }
+
+    @Test
+    @DisplayName("Debe encontrar prefijos de cualquier palabra del nombre ordenados por ranking")
+    void testSuggest_WordPrefixByRank() {
+        assertThat(coinIds(index.suggest("bit", 10)))
+                .containsExactly("bitcoin", "wrapped-bitcoin", "bitcoin-cash");
+        assertThat(coinIds(index.suggest("fi", 10))).containsExactly("ether-fi");
+        assertThat(coinIds(index.suggest("wrapped b", 10))).containsExactly("wrapped-bitcoin");
+    }
+
+    @Test
+    @DisplayName("Debe poner primero los símbolos exactos, sin repetir monedas")
+    void testSuggest_ExactSymbolFirst() {
+        assertThat(coinIds(index.suggest("ETH", 10)))
+                .containsExactly("ethereum", "eth-proxy", "ethena", "ether-fi");
+        assertThat(coinIds(index.suggest("e", 10)))
+                .containsExactly("ethereum", "ethena", "ether-fi", "eth-proxy");
+    }
+
+    @Test
+    @DisplayName("Debe respetar el límite y devolver vacío sin coincidencias")
+    void testSuggest_LimitAndEmpty() {
+        assertThat(coinIds(index.suggest("eth", 2))).containsExactly("ethereum", "eth-proxy");
+        assertThat(index.suggest("xyz", 10)).isEmpty();
+        assertThat(index.suggest("  ", 10)).isEmpty();
+        assertThat(CoinSuggestIndex.EMPTY.suggest("btc", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Los prefijos cortos precalculados deben coincidir con el recorrido completo")
+    void testSuggest_PrecomputedShortPrefixes() {
+        List<CryptoCurrency> cryptos = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            cryptos.add(crypto("coin-" + i, "Coin " + i, i == 25 ? "c" : "c" + i, i));
+        }
+        CoinSuggestIndex many = CoinSuggestIndex.build(cryptos);
+
+        List<String> all = coinIds(many.suggest("c", 30));
+        assertThat(all).hasSize(30).first().isEqualTo("coin-25");
+        assertThat(coinIds(many.suggest("c", 5))).isEqualTo(all.subList(0, 5));
+        assertThat(coinIds(many.suggest("c1", CoinSuggestIndex.PRECOMPUTED_LIMIT)))
+                .containsExactly("coin-1", "coin-10", "coin-11", "coin-12", "coin-13", "coin-14", "coin-15",
+                        "coin-16", "coin-17", "coin-18", "coin-19");
+    }
+
+    private List<String> coinIds(List<CoinSuggestion> suggestions) {
+        return suggestions.stream().map(CoinSuggestion::getCoinId).toList();
+    }
+
+    private CryptoCurrency crypto(String coinId, String name, String symbol, Integer rank) {
+        return CryptoCurrency.builder()
+                .coinId(coinId)
+                .name(name)
+                .symbol(symbol)
+                .marketCapRank(rank)
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InternalIdentity - Tests Unitarios")
+class InternalIdentityTest {
+
+    private static final String SECRET = "change_this_to_a_real_secret";
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    private final InternalIdentity identity = new InternalIdentity("", SECRET, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("Debe aceptar la cabecera firmada por el gateway")
+    void testAcceptsSignedHeader() {
+        String header = identity.sign("user@example.com", NOW.getEpochSecond() + 60);
+
+        assertThat(identity.verify(header)).isEqualTo("user@example.com");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar cabeceras caducadas, manipuladas, con otra clave o malformadas")
+    void testRejectsInvalidHeaders() {
+        String valid = identity.sign("user@example.com", NOW.getEpochSecond() + 60);
+        String tampered = identity.sign("attacker@example.com", NOW.getEpochSecond() + 60);
+        tampered = tampered.substring(0, tampered.lastIndexOf('.')) + valid.substring(valid.lastIndexOf('.'));
+        InternalIdentity otherKey = new InternalIdentity("otro-secreto-de-identidad", SECRET,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertThat(identity.verify(identity.sign("user@example.com", NOW.getEpochSecond()))).isNull();
+        assertThat(identity.verify(tampered)).isNull();
+        assertThat(identity.verify(otherKey.sign("user@example.com", NOW.getEpochSecond() + 60))).isNull();
+        assertThat(identity.verify("no-es-una-identidad")).isNull();
+        assertThat(identity.verify("a.b.c")).isNull();
+        assertThat(identity.verify(null)).isNull();
+    }
+}
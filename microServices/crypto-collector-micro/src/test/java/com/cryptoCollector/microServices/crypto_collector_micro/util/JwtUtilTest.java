@@ -0,0 +1,91 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtUtil - Tests Unitarios")
+class JwtUtilTest {
+
+    // Menor de 32 bytes: se deriva la clave con SHA-256, como en auth-microServices
+    private static final String SECRET = "change_this_to_a_real_secret";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtUtil = new JwtUtil(SECRET, 100, Duration.ofMinutes(5), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Debe verificar una vez y servir desde caché las repeticiones del mismo token")
+    void testCachesVerifiedToken() throws Exception {
+        String token = token(SECRET, "user@example.com", Duration.ofMinutes(10));
+
+        assertThat(jwtUtil.getSubjectFromToken(token)).isEqualTo("user@example.com");
+        assertThat(jwtUtil.getSubjectFromToken(token)).isEqualTo("user@example.com");
+        assertThat(jwtUtil.validateToken(token)).isTrue();
+
+        assertThat(cacheGets("hit")).isEqualTo(2);
+        assertThat(cacheGets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar tokens con otra firma, expirados o malformados sin guardarlos")
+    void testRejectsInvalidTokens() throws Exception {
+        String forged = token("otro_secret_que_no_coincide_con_el_del_servicio", "attacker", Duration.ofMinutes(10));
+        String expired = token(SECRET, "user@example.com", Duration.ofMinutes(-1));
+
+        assertThat(jwtUtil.getSubjectFromToken(forged)).isNull();
+        assertThat(jwtUtil.getSubjectFromToken(forged)).isNull();
+        assertThat(jwtUtil.getSubjectFromToken(expired)).isNull();
+        assertThat(jwtUtil.getSubjectFromToken("no-es-un-jwt")).isNull();
+
+        assertThat(cacheGets("hit")).isZero();
+    }
+
+    @Test
+    @DisplayName("No debe servir desde caché un token después de su exp")
+    void testCacheEntryBoundedByExpiration() throws Exception {
+        String token = token(SECRET, "user@example.com", Duration.ofSeconds(1));
+
+        assertThat(jwtUtil.getSubjectFromToken(token)).isEqualTo("user@example.com");
+        Thread.sleep(1_200);
+
+        assertThat(jwtUtil.getSubjectFromToken(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe extraer el token del header Authorization")
+    void testExtractTokenFromHeader() {
+        assertThat(jwtUtil.extractTokenFromHeader("Bearer abc.def.ghi")).isEqualTo("abc.def.ghi");
+        assertThat(jwtUtil.extractTokenFromHeader("Basic dXNlcjpwYXNz")).isNull();
+        assertThat(jwtUtil.extractTokenFromHeader(null)).isNull();
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "jwt-verification").tag("result", result)
+                .functionCounter().count();
+    }
+
+    static String token(String secret, String subject, Duration validFor) throws Exception {
+        byte[] key = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        return Jwts.builder()
+                .setSubject(subject)
+                .setExpiration(new Date(System.currentTimeMillis() + validFor.toMillis()))
+                .signWith(Keys.hmacShaKeyFor(key))
+                .compact();
+    }
+}
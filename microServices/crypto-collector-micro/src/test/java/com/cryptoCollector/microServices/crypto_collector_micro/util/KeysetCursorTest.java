@@ -0,0 +1,43 @@
+package com.cryptoCollector.microServices.crypto_collector_micro.util;
+
+import com.cryptoCollector.microServices.crypto_collector_micro.repository.CryptoSortField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeysetCursor - Tests Unitarios")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Debe codificar y decodificar valores de cada tipo")
+    void testRoundTrip() {
+        OffsetDateTime now = OffsetDateTime.parse("2025-01-15T10:30:00Z");
+
+        assertRoundTrip(new KeysetCursor(CryptoSortField.MARKET_CAP_RANK, Sort.Direction.ASC, 42, 7L));
+        assertRoundTrip(new KeysetCursor(CryptoSortField.CURRENT_PRICE, Sort.Direction.DESC, 0.000123, 8L));
+        assertRoundTrip(new KeysetCursor(CryptoSortField.NAME, Sort.Direction.ASC, "Wrapped|Token", 9L));
+        assertRoundTrip(new KeysetCursor(CryptoSortField.LAST_UPDATED, Sort.Direction.DESC, now, 10L));
+        assertRoundTrip(new KeysetCursor(CryptoSortField.MARKET_CAP, Sort.Direction.ASC, null, 11L));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar cursores manipulados")
+    void testDecode_Invalid() {
+        assertThatThrownBy(() -> KeysetCursor.decode("no-es-un-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void assertRoundTrip(KeysetCursor cursor) {
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertThat(decoded.getField()).isEqualTo(cursor.getField());
+        assertThat(decoded.getDirection()).isEqualTo(cursor.getDirection());
+        assertThat(decoded.getValue()).isEqualTo(cursor.getValue());
+        assertThat(decoded.getId()).isEqualTo(cursor.getId());
+    }
+}